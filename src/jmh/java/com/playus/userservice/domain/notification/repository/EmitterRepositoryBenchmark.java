@@ -0,0 +1,60 @@
+package com.playus.userservice.domain.notification.repository;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 알림 1건 dispatch 시 수신자 emitter 조회 비용 비교
+ * - legacy : 전체 emitter 를 "userId" 접두사로 스캔 (기존 EmitterRepositoryImpl)
+ * - indexed: userId 키로 바로 조회
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmitterRepositoryBenchmark {
+
+	@Param({"1000", "10000", "50000"})
+	private int connections;
+
+	private final Map<String, SseEmitter> legacyEmitters = new ConcurrentHashMap<>();
+	private EmitterRepositoryImpl indexedEmitters;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		indexedEmitters = new EmitterRepositoryImpl();
+		long now = System.currentTimeMillis();
+		for (long userId = 1; userId <= connections; userId++) {
+			String emitterId = userId + "_" + now;
+			SseEmitter emitter = new SseEmitter();
+			legacyEmitters.put(emitterId, emitter);
+			indexedEmitters.save(userId, emitterId, new SseConnection(userId, emitterId, emitter,
+					16, SseConnection.OverflowPolicy.DROP_OLDEST, Runnable::run, (connection, reason) -> {}));
+		}
+	}
+
+	@Benchmark
+	public void legacyPrefixScan(Blackhole bh) {
+		String prefix = String.valueOf(randomUserId());
+		Map<String, SseEmitter> found = legacyEmitters.entrySet().stream()
+				.filter(entry -> entry.getKey().startsWith(prefix))
+				.collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+		found.forEach((id, emitter) -> bh.consume(emitter));
+	}
+
+	@Benchmark
+	public void indexedLookup(Blackhole bh) {
+		Map<String, SseConnection> found = indexedEmitters.findAllEmitterByUserId(randomUserId());
+		found.forEach((id, connection) -> bh.consume(connection));
+	}
+
+	private long randomUserId() {
+		return ThreadLocalRandom.current().nextLong(1, connections + 1L);
+	}
+}
@@ -0,0 +1,77 @@
+package com.playus.userservice.global.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.SecretKey;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증된 요청 1건(JwtFilter)이 토큰에서 클레임을 꺼내는 비용 비교
+ * - legacy   : 클레임 6개를 꺼낼 때마다 파서 생성 + 서명 검증 (기존 JwtUtil.extractPayload)
+ * - getters  : 공유 파서로 get* 6번 → 파서 생성 비용만 빠짐
+ * - parseOnce: 공유 파서로 한 번 검증 후 JwtClaims 에서 꺼냄
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtParseBenchmark {
+
+	private JwtUtil jwtUtil;
+	private SecretKey key;
+	private String token;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		String secret = Encoders.BASE64.encode(Keys.secretKeyFor(SignatureAlgorithm.HS256).getEncoded());
+		jwtUtil = new JwtUtil(JwtKeys.hmac(secret));
+		key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+		token = jwtUtil.createAccessToken("1024", "USER", 20, "MALE");
+	}
+
+	@Benchmark
+	public void legacy(Blackhole bh) {
+		bh.consume(legacyPayload().getId());
+		bh.consume(legacyPayload().getExpiration());
+		bh.consume(legacyPayload().getSubject());
+		bh.consume(legacyPayload().get("role", String.class));
+		bh.consume(legacyPayload().get("age", Integer.class));
+		bh.consume(legacyPayload().get("gender", String.class));
+	}
+
+	@Benchmark
+	public void getters(Blackhole bh) {
+		bh.consume(jwtUtil.getJti(token));
+		bh.consume(jwtUtil.isExpired(token));
+		bh.consume(jwtUtil.getUserId(token));
+		bh.consume(jwtUtil.getRole(token));
+		bh.consume(jwtUtil.getAge(token));
+		bh.consume(jwtUtil.getGender(token));
+	}
+
+	@Benchmark
+	public void parseOnce(Blackhole bh) {
+		JwtClaims claims = jwtUtil.parse(token);
+		bh.consume(claims.jti());
+		bh.consume(claims.isExpired());
+		bh.consume(claims.userId());
+		bh.consume(claims.role());
+		bh.consume(claims.age());
+		bh.consume(claims.gender());
+	}
+
+	private Claims legacyPayload() {
+		return Jwts
+				.parserBuilder()
+				.setSigningKey(key)
+				.build()
+				.parseClaimsJws(token)
+				.getBody();
+	}
+}
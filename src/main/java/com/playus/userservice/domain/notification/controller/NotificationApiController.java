@@ -1,14 +1,18 @@
 package com.playus.userservice.domain.notification.controller;
 
+import com.playus.userservice.domain.notification.dto.response.NotificationBatchResponse;
 import com.playus.userservice.domain.notification.service.NotificationService;
 import com.playus.userservice.domain.notification.specification.NotificationApiControllerSpecification;
 import com.playus.userservice.domain.user.feign.response.CommentNotificationEvent;
 import com.playus.userservice.domain.user.feign.response.PartyNotificationEvent;
+import com.playus.userservice.domain.user.feign.response.PartyNotificationFanoutEvent;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/user/api")
 @RequiredArgsConstructor
@@ -18,8 +22,13 @@ public class NotificationApiController implements NotificationApiControllerSpeci
 
 	@DeleteMapping("/notifications/comment/{comment-id}")
 	public ResponseEntity<Void> deleteByCommentId(
-			@PathVariable("comment-id") Long commentId) {
+			@PathVariable("comment-id") Long commentId,
+			@RequestParam(value = "async", defaultValue = "false") boolean async) {
 
+		if (async) {
+			notificationService.deleteByCommentIdAsync(commentId);
+			return ResponseEntity.accepted().build();  // 202 Accepted
+		}
 		notificationService.deleteByCommentId(commentId);
 		return ResponseEntity.noContent().build();  // 204 No Content
 	}
@@ -42,4 +51,28 @@ public class NotificationApiController implements NotificationApiControllerSpeci
 		return ResponseEntity.status(HttpStatus.CREATED).build();
 	}
 
+	// community - 배치
+	@PostMapping("/notifications/comment/batch")
+	public ResponseEntity<NotificationBatchResponse> createCommentNotifications(
+			@RequestBody List<CommentNotificationEvent> events) {
+
+		return ResponseEntity.ok(notificationService.sendCommentNotifications(events));
+	}
+
+	// twp - 배치
+	@PostMapping("/notifications/party/batch")
+	public ResponseEntity<NotificationBatchResponse> createPartyNotifications(
+			@RequestBody List<PartyNotificationEvent> events) {
+
+		return ResponseEntity.ok(notificationService.createPartyNotifications(events));
+	}
+
+	// twp - 같은 이벤트를 여러 수신자에게
+	@PostMapping("/notifications/party/fanout")
+	public ResponseEntity<NotificationBatchResponse> fanoutPartyNotification(
+			@RequestBody PartyNotificationFanoutEvent event) {
+
+		return ResponseEntity.ok(notificationService.fanoutPartyNotification(event));
+	}
+
 }
@@ -1,9 +1,14 @@
 package com.playus.userservice.domain.notification.controller;
 
+import com.playus.userservice.domain.notification.dto.request.ReadNotificationsRequest;
+import com.playus.userservice.domain.notification.dto.response.NotificationPageResponse;
 import com.playus.userservice.domain.notification.dto.response.NotificationResponse;
+import com.playus.userservice.domain.notification.dto.response.ReadCountResponse;
+import com.playus.userservice.domain.notification.dto.response.UnreadCountResponse;
 import com.playus.userservice.domain.notification.service.NotificationService;
 import com.playus.userservice.domain.notification.specification.NotificationControllerSpecification;
 import com.playus.userservice.domain.oauth.dto.CustomOAuth2User;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -40,12 +45,40 @@ public class NotificationController implements NotificationControllerSpecificati
 		return ResponseEntity.ok().build();
 	}
 
+	@PatchMapping("/read")
+	public ResponseEntity<ReadCountResponse> readNotifications(
+			@AuthenticationPrincipal CustomOAuth2User principal,
+			@Valid @RequestBody ReadNotificationsRequest request) {
+
+		Long userId = Long.parseLong(principal.getName());
+		return ResponseEntity.ok(notificationService.readNotifications(userId, request.notificationIds()));
+	}
+
+	@PatchMapping("/read-all")
+	public ResponseEntity<ReadCountResponse> readAllNotifications(
+			@AuthenticationPrincipal CustomOAuth2User principal) {
+
+		Long userId = Long.parseLong(principal.getName());
+		return ResponseEntity.ok(notificationService.readAllNotifications(userId));
+	}
+
 	@GetMapping
-	public ResponseEntity<List<NotificationResponse>> getNotifications(
+	public ResponseEntity<NotificationPageResponse> getNotifications(
+			@AuthenticationPrincipal CustomOAuth2User principal,
+			@RequestParam(value = "cursor", required = false) String cursor,
+			@RequestParam(value = "size", defaultValue = "20") int size,
+			@RequestParam(value = "unreadOnly", defaultValue = "false") boolean unreadOnly) {
+
+		Long userId = Long.parseLong(principal.getName());
+		return ResponseEntity.ok(notificationService.getNotifications(userId, cursor, size, unreadOnly));
+	}
+
+	@GetMapping("/unread-count")
+	public ResponseEntity<UnreadCountResponse> getUnreadCount(
 			@AuthenticationPrincipal CustomOAuth2User principal) {
 
 		Long userId = Long.parseLong(principal.getName());
-		return ResponseEntity.ok(notificationService.getNotifications(userId));
+		return ResponseEntity.ok(notificationService.getUnreadCount(userId));
 	}
 
 	@GetMapping("/recent")
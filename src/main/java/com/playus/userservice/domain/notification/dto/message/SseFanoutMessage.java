@@ -0,0 +1,14 @@
+package com.playus.userservice.domain.notification.dto.message;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * 다른 파드에 연결된 유저에게 보내는 SSE 이벤트 (Redis pub/sub)
+ * @param eventId 송신 파드가 유저별로 발급한 SSE id, 이전 버전 파드가 보낸 메시지면 null
+ * @param payload 송신 측은 직렬화해 둔 JSON 을 raw 값으로 끼워 보내고, 수신 측은 JSON 트리로 받음
+ */
+public record SseFanoutMessage(
+	Long userId,
+	Long eventId,
+	JsonNode payload
+) {}
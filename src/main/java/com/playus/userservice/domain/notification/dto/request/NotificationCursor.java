@@ -0,0 +1,50 @@
+package com.playus.userservice.domain.notification.dto.request;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 알림 목록 keyset 커서 - "{createdAt}_{id}" (예: 2025-06-01T12:30:00.123_1024)
+ * 마지막으로 받은 알림 기준, 이보다 오래된 알림부터 조회
+ * - 시각은 밀리초까지만 - Mongo 읽기 모델은 밀리초로 저장하므로, 페이지 중간에 MySQL 로 대체돼도 같은 위치에서 이어짐
+ */
+public record NotificationCursor(
+	LocalDateTime createdAt,
+	Long id
+) {
+	public NotificationCursor {
+		createdAt = createdAt.truncatedTo(ChronoUnit.MILLIS);
+	}
+
+	/** 첫 페이지 - 모든 알림보다 큰 값 */
+	public static final NotificationCursor FIRST = new NotificationCursor(LocalDateTime.of(9999, 12, 31, 23, 59), Long.MAX_VALUE);
+
+	private static final String DELIMITER = "_";
+
+	public static NotificationCursor parse(String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return FIRST;
+		}
+		int idx = cursor.lastIndexOf(DELIMITER);
+		try {
+			return new NotificationCursor(
+					LocalDateTime.parse(cursor.substring(0, idx)),
+					Long.parseLong(cursor.substring(idx + 1)));
+		} catch (IndexOutOfBoundsException | DateTimeParseException | NumberFormatException e) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 커서입니다.");
+		}
+	}
+
+	public String encode() {
+		return createdAt + DELIMITER + id;
+	}
+
+	/** 커서 시각이 속한 밀리초의 끝 (미포함) - 마이크로초로 저장된 MySQL 행도 같은 밀리초면 id 로 비교 */
+	public LocalDateTime createdAtMillisEnd() {
+		return createdAt.plus(1, ChronoUnit.MILLIS);
+	}
+}
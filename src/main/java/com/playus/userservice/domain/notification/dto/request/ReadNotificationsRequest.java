@@ -0,0 +1,13 @@
+package com.playus.userservice.domain.notification.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record ReadNotificationsRequest(
+	@NotEmpty(message = "읽음 처리할 알림 ID 는 필수 입력값입니다")
+	@Size(max = 500, message = "한 번에 500개까지 읽음 처리할 수 있습니다")
+	List<@NotNull(message = "알림 ID 에 null 을 포함할 수 없습니다") Long> notificationIds
+) {}
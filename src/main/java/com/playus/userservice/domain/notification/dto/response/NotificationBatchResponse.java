@@ -0,0 +1,32 @@
+package com.playus.userservice.domain.notification.dto.response;
+
+import java.util.List;
+
+/**
+ * 배치 알림 생성 결과
+ * @param results 요청 목록과 같은 순서의 항목별 결과
+ */
+public record NotificationBatchResponse(
+	int requested,
+	int created,
+	List<Item> results
+) {
+	public enum Status {
+		CREATED,
+		SKIPPED,            // 비활성 이벤트 / 중복 수신자
+		RECEIVER_NOT_FOUND
+	}
+
+	public record Item(
+		int index,
+		Status status,
+		Long notificationId
+	) {}
+
+	public static NotificationBatchResponse of(List<Item> results) {
+		int created = (int) results.stream()
+				.filter(item -> item.status() == Status.CREATED)
+				.count();
+		return new NotificationBatchResponse(results.size(), created, results);
+	}
+}
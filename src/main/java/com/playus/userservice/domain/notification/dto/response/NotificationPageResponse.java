@@ -0,0 +1,13 @@
+package com.playus.userservice.domain.notification.dto.response;
+
+import java.util.List;
+
+/**
+ * 알림 목록 한 페이지
+ * @param nextCursor 다음 페이지 요청 시 cursor 파라미터로 전달, 마지막 페이지면 null
+ */
+public record NotificationPageResponse(
+	List<NotificationResponse> notifications,
+	String nextCursor,
+	boolean hasNext
+) {}
@@ -1,6 +1,7 @@
 package com.playus.userservice.domain.notification.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.playus.userservice.domain.user.document.NotificationDocument;
 import com.playus.userservice.domain.user.entity.Notification;
 import com.playus.userservice.domain.user.enums.NotificationType;
 
@@ -31,4 +32,39 @@ public record NotificationResponse(
 				entity.isRead()
 		);
 	}
+
+	/** JDBC 배치 저장 시 엔티티에 id / createdAt 이 채워지지 않으므로 직접 전달 */
+	public static NotificationResponse from(Notification entity, Long id, LocalDateTime createdAt) {
+		return new NotificationResponse(
+				id,
+				entity.getTitle(),
+				entity.getContent(),
+				entity.getCommentId(),
+				entity.getPartyId(),
+				entity.getActorId(),
+				entity.getType(),
+				createdAt,
+				entity.isRead()
+		);
+	}
+
+	/** Mongo 읽기 모델 조회용 */
+	public static NotificationResponse from(NotificationDocument document) {
+		return new NotificationResponse(
+				document.getId(),
+				document.getTitle(),
+				document.getContent(),
+				document.getCommentId(),
+				document.getPartyId(),
+				document.getActorId(),
+				document.getType(),
+				document.getCreatedAt(),
+				document.isRead()
+		);
+	}
+
+	/** 최근 알림 캐시의 읽음 반영용 */
+	public NotificationResponse asRead() {
+		return new NotificationResponse(id, title, content, commentId, partyId, actorId, type, createdAt, true);
+	}
 }
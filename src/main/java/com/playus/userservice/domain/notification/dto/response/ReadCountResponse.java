@@ -0,0 +1,8 @@
+package com.playus.userservice.domain.notification.dto.response;
+
+/**
+ * @param updated 이번 요청으로 안 읽음 → 읽음으로 바뀐 알림 수 (이미 읽었거나 본인 알림이 아니면 제외)
+ */
+public record ReadCountResponse(
+	int updated
+) {}
@@ -0,0 +1,5 @@
+package com.playus.userservice.domain.notification.dto.response;
+
+public record UnreadCountResponse(
+	long count
+) {}
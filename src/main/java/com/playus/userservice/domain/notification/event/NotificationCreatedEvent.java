@@ -0,0 +1,16 @@
+package com.playus.userservice.domain.notification.event;
+
+import com.playus.userservice.domain.notification.dto.response.NotificationResponse;
+
+import java.util.List;
+
+/**
+ * 알림 저장 후 발행 → 커밋이 끝난 뒤에만 SSE 로 전송
+ * @param outboxId 같은 트랜잭션에서 기록한 outbox 행, 전송 성공 시 처리 완료로 표시
+ * @param notifications 트랜잭션 안에서 미리 변환 (커밋 이후 지연 로딩 접근 방지), 배치 저장 시 수신자별로 묶음
+ */
+public record NotificationCreatedEvent(
+	Long outboxId,
+	Long receiverId,
+	List<NotificationResponse> notifications
+) {}
@@ -0,0 +1,32 @@
+package com.playus.userservice.domain.notification.event;
+
+import java.util.Set;
+
+/**
+ * 읽음 처리 / 삭제 / 묶음 갱신으로 최근 알림 목록이 바뀜 → 커밋 후 Redis 캐시 반영
+ * (알림 생성은 {@link NotificationCreatedEvent} 로 반영)
+ * @param notificationIds READ 일 때 읽음 처리한 알림 id
+ */
+public record RecentNotificationsChangedEvent(
+	Long userId,
+	Type type,
+	Set<Long> notificationIds
+) {
+	public enum Type {
+		READ,
+		READ_ALL,
+		EVICT    // 목록에서 빠지거나 내용이 바뀜 → 캐시를 지워 DB 기준으로 다시 생성
+	}
+
+	public static RecentNotificationsChangedEvent read(Long userId, Set<Long> notificationIds) {
+		return new RecentNotificationsChangedEvent(userId, Type.READ, notificationIds);
+	}
+
+	public static RecentNotificationsChangedEvent readAll(Long userId) {
+		return new RecentNotificationsChangedEvent(userId, Type.READ_ALL, Set.of());
+	}
+
+	public static RecentNotificationsChangedEvent evict(Long userId) {
+		return new RecentNotificationsChangedEvent(userId, Type.EVICT, Set.of());
+	}
+}
@@ -0,0 +1,20 @@
+package com.playus.userservice.domain.notification.event;
+
+/**
+ * 읽음 처리 / 삭제로 안 읽은 알림 수가 바뀜 → 커밋 후 Redis 카운터 반영
+ * (알림 생성은 {@link NotificationCreatedEvent} 로 반영)
+ * @param reset true 면 카운터를 지워 다음 조회 시 DB 기준으로 다시 계산
+ */
+public record UnreadCountChangedEvent(
+	Long userId,
+	long delta,
+	boolean reset
+) {
+	public static UnreadCountChangedEvent decreased(Long userId, long count) {
+		return new UnreadCountChangedEvent(userId, -count, false);
+	}
+
+	public static UnreadCountChangedEvent reset(Long userId) {
+		return new UnreadCountChangedEvent(userId, 0, true);
+	}
+}
@@ -0,0 +1,13 @@
+package com.playus.userservice.domain.notification.repository;
+
+/**
+ * 재전송(Last-Event-ID)용으로 캐시된 SSE 이벤트
+ * @param id        유저별로 단조 증가하는 이벤트 시퀀스 (SSE id 필드)
+ * @param createdAt 캐시 시각 (epoch ms)
+ * @param data      한 번 직렬화한 JSON, 모든 연결이 공유
+ */
+public record CachedEvent(
+	long id,
+	long createdAt,
+	EncodedPayload data
+) {}
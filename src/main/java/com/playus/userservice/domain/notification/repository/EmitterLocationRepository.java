@@ -0,0 +1,12 @@
+package com.playus.userservice.domain.notification.repository;
+
+import java.util.Set;
+
+/** 어떤 파드(노드)가 유저의 SSE 연결을 들고 있는지 추적 */
+public interface EmitterLocationRepository {
+	void save(Long userId, String nodeId);
+
+	Set<String> findAllNodeIdByUserId(Long userId);
+
+	void delete(Long userId, String nodeId);
+}
@@ -0,0 +1,38 @@
+package com.playus.userservice.domain.notification.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Set;
+
+@Repository
+@RequiredArgsConstructor
+public class EmitterLocationRepositoryImpl implements EmitterLocationRepository {
+
+	private static final String KEY_PREFIX = "sse:location:";
+
+	/** SSE 타임아웃(1시간)마다 재연결하며 갱신 → 죽은 파드의 기록은 그 이후 자연 만료 */
+	private static final Duration TTL = Duration.ofHours(2);
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	@Override
+	public void save(Long userId, String nodeId) {
+		String key = KEY_PREFIX + userId;
+		redisTemplate.opsForSet().add(key, nodeId);
+		redisTemplate.expire(key, TTL);
+	}
+
+	@Override
+	public Set<String> findAllNodeIdByUserId(Long userId) {
+		Set<String> nodeIds = redisTemplate.opsForSet().members(KEY_PREFIX + userId);
+		return nodeIds == null ? Set.of() : nodeIds;
+	}
+
+	@Override
+	public void delete(Long userId, String nodeId) {
+		redisTemplate.opsForSet().remove(KEY_PREFIX + userId, nodeId);
+	}
+}
@@ -1,21 +1,21 @@
 package com.playus.userservice.domain.notification.repository;
 
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
-
+import java.util.List;
 import java.util.Map;
 
 public interface EmitterRepository {
-	SseEmitter save(String emitterId, SseEmitter sseEmitter);
-
-	void saveEventCache(String emitterId, Object event);
+	SseConnection save(Long userId, String emitterId, SseConnection connection);
 
-	Map<String, SseEmitter> findAllEmitterStartWithByUserId(String userId);
+	Map<String, SseConnection> findAllEmitterByUserId(Long userId);
 
-	Map<String, Object> findAllEventCacheStartWithByUserId(String userId);
+	/** 삭제된 연결의 대기열은 버림 (completeAfterFlush 로 종료 중인 연결은 남은 이벤트를 보낸 뒤 닫힘) */
+	void deleteById(Long userId, String emitterId);
 
-	void deleteById(String id);
+	void deleteAllEmitterByUserId(Long userId);
 
-	void deleteAllEmitterStartWithId(String userId);
+	/** 이 파드의 전체 연결 (종료 시 drain 용) */
+	List<SseConnection> findAll();
 
-	void deleteAllEventCacheStartWithId(String userId);
+	/** 이 파드의 전체 연결 수 */
+	int count();
 }
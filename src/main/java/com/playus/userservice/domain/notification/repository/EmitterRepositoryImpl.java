@@ -1,59 +1,79 @@
 package com.playus.userservice.domain.notification.repository;
 
 import org.springframework.stereotype.Repository;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Repository
 public class EmitterRepositoryImpl implements EmitterRepository {
 
-	private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
-	private final Map<String, Object> eventCache = new ConcurrentHashMap<>();
+	/** 유저 한 명이 여는 연결(탭) 수는 보통 1~2개 */
+	private static final int INITIAL_CONNECTIONS_PER_USER = 4;
 
-	@Override
-	public SseEmitter save(String emitterId, SseEmitter sseEmitter) {
-		emitters.put(emitterId, sseEmitter);
-		return sseEmitter;
-	}
+	/** userId → (emitterId → 연결). 조회·추가·삭제 모두 전체 연결 수와 무관하게 O(1) */
+	private final Map<Long, Map<String, SseConnection>> emitters = new ConcurrentHashMap<>();
+
+	/** 전체 연결 수 - 유저별 Map 을 순회하지 않도록 따로 집계 */
+	private final AtomicInteger count = new AtomicInteger();
 
 	@Override
-	public void saveEventCache(String emitterId, Object event) {
-		eventCache.put(emitterId, event);
+	public SseConnection save(Long userId, String emitterId, SseConnection connection) {
+		// compute 안에서 갱신해야 빈 Map 제거(deleteById)와 경합하지 않음
+		emitters.compute(userId, (id, connections) -> {
+			Map<String, SseConnection> target = connections != null
+					? connections
+					: new ConcurrentHashMap<>(INITIAL_CONNECTIONS_PER_USER);
+			SseConnection previous = target.put(emitterId, connection);
+			if (previous == null) {
+				count.incrementAndGet();
+			} else if (previous != connection) {
+				previous.discard();
+			}
+			return target;
+		});
+		return connection;
 	}
 
 	@Override
-	public Map<String, SseEmitter> findAllEmitterStartWithByUserId(String userId) {
-		return emitters.entrySet().stream()
-			.filter(entry -> entry.getKey().startsWith(userId))
-			.collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+	public Map<String, SseConnection> findAllEmitterByUserId(Long userId) {
+		Map<String, SseConnection> connections = emitters.get(userId);
+		return connections == null ? Map.of() : Map.copyOf(connections);
 	}
 
 	@Override
-	public Map<String, Object> findAllEventCacheStartWithByUserId(String userId) {
-		return eventCache.entrySet().stream()
-			.filter(entry -> entry.getKey().startsWith(userId))
-			.collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+	public void deleteById(Long userId, String emitterId) {
+		emitters.computeIfPresent(userId, (id, connections) -> {
+			SseConnection removed = connections.remove(emitterId);
+			if (removed != null) {
+				removed.discard();
+				count.decrementAndGet();
+			}
+			return connections.isEmpty() ? null : connections;
+		});
 	}
 
 	@Override
-	public void deleteById(String emitterId) {
-		emitters.remove(emitterId);
+	public void deleteAllEmitterByUserId(Long userId) {
+		Map<String, SseConnection> removed = emitters.remove(userId);
+		if (removed != null) {
+			removed.values().forEach(SseConnection::discard);
+			count.addAndGet(-removed.size());
+		}
 	}
 
 	@Override
-	public void deleteAllEmitterStartWithId(String userId) {
-		emitters.keySet().stream()
-			.filter(key -> key.startsWith(userId))
-			.toList().forEach(emitters::remove);
+	public List<SseConnection> findAll() {
+		List<SseConnection> all = new ArrayList<>(count.get());
+		emitters.values().forEach(connections -> all.addAll(connections.values()));
+		return all;
 	}
 
 	@Override
-	public void deleteAllEventCacheStartWithId(String userId) {
-		eventCache.keySet().stream()
-			.filter(key -> key.startsWith(userId))
-			.toList().forEach(eventCache::remove);
+	public int count() {
+		return count.get();
 	}
 }
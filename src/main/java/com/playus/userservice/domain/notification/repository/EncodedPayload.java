@@ -0,0 +1,121 @@
+package com.playus.userservice.domain.notification.repository;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * 한 번만 직렬화한 알림 JSON (UTF-8)
+ * - 생성 후 바뀌지 않으므로 수신자의 모든 연결과 재전송 캐시가 같은 배열을 공유
+ * - 캐시에 엔티티/응답 객체 대신 바이트만 남김
+ */
+public final class EncodedPayload {
+
+	private static final byte[] ID_PREFIX = "id:".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] DATA_PREFIX = "\ndata:".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] EVENT_END = "\n\n".getBytes(StandardCharsets.US_ASCII);
+
+	private final byte[] json;
+
+	private EncodedPayload(byte[] json) {
+		this.json = json;
+	}
+
+	/** 직렬화 결과를 복사 없이 감쌈 → 호출 측은 이후 배열을 수정하지 않음 */
+	public static EncodedPayload wrap(byte[] json) {
+		return new EncodedPayload(json);
+	}
+
+	public int size() {
+		return json.length;
+	}
+
+	/** 로그 파일 기록용 - 같은 패키지 안에서만, 수정하지 않음 */
+	byte[] bytes() {
+		return json;
+	}
+
+	/** "id:{id}\ndata:{json}\n\n" 프레임을 한 번 만들고 여러 연결이 그대로 전송 */
+	public SseEmitter.SseEventBuilder toSseEvent(long id) {
+		byte[] idBytes = Long.toString(id).getBytes(StandardCharsets.US_ASCII);
+		byte[] frame = new byte[ID_PREFIX.length + idBytes.length + DATA_PREFIX.length + json.length + EVENT_END.length];
+		int offset = 0;
+		for (byte[] part : new byte[][]{ID_PREFIX, idBytes, DATA_PREFIX, json, EVENT_END}) {
+			System.arraycopy(part, 0, frame, offset, part.length);
+			offset += part.length;
+		}
+		return new EncodedSseEvent(frame);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		return this == o || (o instanceof EncodedPayload other && Arrays.equals(json, other.json));
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(json);
+	}
+
+	@Override
+	public String toString() {
+		return new String(json, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * 완성된 프레임을 그대로 내보내는 이벤트
+	 * - byte[] 는 ByteArrayHttpMessageConverter 가 그대로 씀 → 연결마다 Jackson 을 거치지 않음
+	 * - 상태가 없어 여러 연결의 writer 가 동시에 build 해도 안전
+	 */
+	private static final class EncodedSseEvent implements SseEmitter.SseEventBuilder {
+
+		private final Set<ResponseBodyEmitter.DataWithMediaType> frame;
+
+		private EncodedSseEvent(byte[] frame) {
+			this.frame = Set.of(new ResponseBodyEmitter.DataWithMediaType(frame, MediaType.TEXT_PLAIN));
+		}
+
+		@Override
+		public Set<ResponseBodyEmitter.DataWithMediaType> build() {
+			return frame;
+		}
+
+		@Override
+		public SseEmitter.SseEventBuilder comment(String comment) {
+			throw immutable();
+		}
+
+		@Override
+		public SseEmitter.SseEventBuilder name(String eventName) {
+			throw immutable();
+		}
+
+		@Override
+		public SseEmitter.SseEventBuilder id(String id) {
+			throw immutable();
+		}
+
+		@Override
+		public SseEmitter.SseEventBuilder reconnectTime(long reconnectTimeMillis) {
+			throw immutable();
+		}
+
+		@Override
+		public SseEmitter.SseEventBuilder data(Object object) {
+			throw immutable();
+		}
+
+		@Override
+		public SseEmitter.SseEventBuilder data(Object object, MediaType mediaType) {
+			throw immutable();
+		}
+
+		private static UnsupportedOperationException immutable() {
+			return new UnsupportedOperationException("인코딩이 끝난 SSE 이벤트는 변경할 수 없습니다.");
+		}
+	}
+}
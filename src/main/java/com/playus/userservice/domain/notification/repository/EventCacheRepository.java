@@ -0,0 +1,14 @@
+package com.playus.userservice.domain.notification.repository;
+
+import java.util.List;
+
+public interface EventCacheRepository {
+	/** id 는 호출 측이 유저별로 발급 ({@link EventSequenceRepository}) → 어느 파드의 캐시든 같은 기준으로 비교 */
+	CachedEvent save(Long userId, long id, EncodedPayload event);
+
+	List<CachedEvent> findAllByUserIdAfter(Long userId, long lastEventId);
+
+	void deleteAllByUserId(Long userId);
+
+	void deleteAllExpired();
+}
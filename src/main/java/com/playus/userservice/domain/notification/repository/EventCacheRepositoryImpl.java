@@ -0,0 +1,155 @@
+package com.playus.userservice.domain.notification.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 유저별 링 버퍼 기반 재전송 캐시
+ * - 유저당 최대 capacityPerUser 개, maxAge 가 지난 이벤트는 제거
+ * - 파드당 최대 maxUsers 개의 버퍼만 유지 → 메모리 상한 = maxUsers * capacityPerUser 이벤트
+ *   자리는 버퍼를 넣기 전에 CAS 로 예약 → 동시에 새 유저가 몰려도 상한을 넘지 않음
+ * - 버퍼는 폐기 표시 후 맵에서 뺌 → 정리와 겹친 저장은 새 버퍼로 다시 시도
+ * - 재시작하면 비워짐, 재시작 후에도 유지하려면 notification.sse.replay.store=mmap ({@link MappedEventLogRepository})
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(name = "notification.sse.replay.store", havingValue = "memory", matchIfMissing = true)
+public class EventCacheRepositoryImpl implements EventCacheRepository {
+
+	/**
+	 * 가득 찼는데 내보낼 후보가 없을 때 (예약만 되고 아직 큐에 들어가지 않은 버퍼뿐) 기다리는 최대 횟수
+	 * - 넘으면 잠깐 초과를 허용하고 다음 예약에서 회수
+	 */
+	private static final int MAX_EMPTY_POLLS = 1_000;
+
+	private final Map<Long, UserEventRing> rings = new ConcurrentHashMap<>();
+	private final UserEvictionQueue<UserEventRing> evictionQueue = new UserEvictionQueue<>(UserEventRing::lastWrittenAt);
+	/** rings 에 들어 있거나 들어갈 자리가 예약된 버퍼 수 */
+	private final AtomicInteger userCount = new AtomicInteger();
+
+	private final int capacityPerUser;
+	private final long maxAgeMs;
+	private final int maxUsers;
+
+	public EventCacheRepositoryImpl(
+			@Value("${notification.sse.replay.capacity-per-user:50}") int capacityPerUser,
+			@Value("${notification.sse.replay.max-age:10m}") Duration maxAge,
+			@Value("${notification.sse.replay.max-users:20000}") int maxUsers) {
+		this.capacityPerUser = capacityPerUser;
+		this.maxAgeMs = maxAge.toMillis();
+		this.maxUsers = maxUsers;
+	}
+
+	@Override
+	public CachedEvent save(Long userId, long id, EncodedPayload event) {
+		long now = System.currentTimeMillis();
+		while (true) {
+			UserEventRing ring = rings.get(userId);
+			if (ring == null) {
+				ring = createRing(userId, now);
+			}
+			CachedEvent saved = ring.append(id, now, event);
+			if (saved != null) {
+				return saved;
+			}
+			// 정리 / 상한 제거로 폐기된 버퍼 - 아직 맵에 남아 있으면 대신 빼고 새 버퍼로 다시 시도
+			remove(userId, ring);
+		}
+	}
+
+	@Override
+	public List<CachedEvent> findAllByUserIdAfter(Long userId, long lastEventId) {
+		UserEventRing ring = rings.get(userId);
+		if (ring == null) {
+			return List.of();
+		}
+		return ring.findAfter(lastEventId, System.currentTimeMillis() - maxAgeMs);
+	}
+
+	@Override
+	public void deleteAllByUserId(Long userId) {
+		UserEventRing ring = rings.remove(userId);
+		if (ring != null) {
+			ring.retire();
+			userCount.decrementAndGet();
+		}
+	}
+
+	@Override
+	@Scheduled(fixedDelayString = "${notification.sse.replay.sweep-interval:60000}")
+	public void deleteAllExpired() {
+		long expireBefore = System.currentTimeMillis() - maxAgeMs;
+		rings.forEach((userId, ring) -> {
+			ring.evictOlderThan(expireBefore);
+			if (ring.retireIfEmpty()) {
+				remove(userId, ring);
+			}
+		});
+		evictionQueue.removeStale(rings::get);
+	}
+
+	/** 자리를 예약한 뒤 넣음 - 다른 스레드가 먼저 넣었으면 예약을 돌려주고 그 버퍼 사용 */
+	private UserEventRing createRing(Long userId, long now) {
+		reserveSlot(now);
+		UserEventRing created = new UserEventRing(capacityPerUser);
+		UserEventRing existing = rings.putIfAbsent(userId, created);
+		if (existing != null) {
+			userCount.decrementAndGet();
+			return existing;
+		}
+		evictionQueue.add(userId, created, now);
+		return created;
+	}
+
+	/** 상한 안이면 CAS 로 자리 하나 예약, 가득 찼으면 가장 오래 쓰이지 않은 버퍼를 제거하고 다시 시도 */
+	private void reserveSlot(long now) {
+		int emptyPolls = 0;
+		while (true) {
+			int current = userCount.get();
+			if (current >= maxUsers && emptyPolls < MAX_EMPTY_POLLS) {
+				if (!evictOne(now)) {
+					emptyPolls++;
+					Thread.yield();
+				}
+				continue;
+			}
+			if (userCount.compareAndSet(current, current + 1)) {
+				return;
+			}
+		}
+	}
+
+	/** 후보가 없으면 false - 만료 정리는 주기 작업에 맡김 */
+	private boolean evictOne(long now) {
+		Long victim = evictionQueue.pollVictim(rings::get, now, maxUsers);
+		if (victim == null) {
+			return false;
+		}
+		UserEventRing ring = rings.get(victim);
+		if (ring != null) {
+			ring.retire();
+			if (remove(victim, ring)) {
+				log.debug("재전송 캐시 상한 도달 - userId: {} 버퍼 제거", victim);
+			}
+		}
+		return true;
+	}
+
+	/** 같은 버퍼일 때만 빼고 자리 반환 - 먼저 뺀 쪽만 반환하므로 중복 감소 없음 */
+	private boolean remove(Long userId, UserEventRing ring) {
+		if (rings.remove(userId, ring)) {
+			userCount.decrementAndGet();
+			return true;
+		}
+		return false;
+	}
+}
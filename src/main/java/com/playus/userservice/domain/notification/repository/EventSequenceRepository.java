@@ -0,0 +1,9 @@
+package com.playus.userservice.domain.notification.repository;
+
+public interface EventSequenceRepository {
+	/**
+	 * 유저별 SSE 이벤트 id 블록 예약 - 현재 값과 floor 중 큰 값에 count 를 더해 저장하고 그 값을 반환
+	 * → 예약한 id 는 (반환값 - count, 반환값]
+	 */
+	long increment(Long userId, int count, long floor);
+}
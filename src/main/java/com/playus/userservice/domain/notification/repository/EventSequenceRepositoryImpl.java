@@ -0,0 +1,41 @@
+package com.playus.userservice.domain.notification.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class EventSequenceRepositoryImpl implements EventSequenceRepository {
+
+	private static final String KEY_PREFIX = "sse:seq:";
+
+	/** floor 가 시각 기반이라 만료 후 다시 만들어져도 id 가 뒤로 가지 않음 → 재전송 보관 기간(10분)보다 길게만 유지 */
+	private static final Duration TTL = Duration.ofHours(1);
+
+	/** max(현재 값, floor) + count, 큰 정수가 지수 표기로 바뀌지 않도록 %d 로 저장 */
+	private static final RedisScript<Long> INCREMENT_FROM_FLOOR = new DefaultRedisScript<>("""
+			local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+			local last = math.max(current, tonumber(ARGV[2])) + tonumber(ARGV[1])
+			redis.call('SET', KEYS[1], string.format('%d', last), 'PX', ARGV[3])
+			return last
+			""", Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	@Override
+	public long increment(Long userId, int count, long floor) {
+		Long last = redisTemplate.execute(INCREMENT_FROM_FLOOR, List.of(KEY_PREFIX + userId),
+				String.valueOf(count), String.valueOf(floor), String.valueOf(TTL.toMillis()));
+		if (last == null) {
+			throw new DataRetrievalFailureException("SSE 이벤트 id 발급 실패 - userId: " + userId);
+		}
+		return last;
+	}
+}
@@ -0,0 +1,133 @@
+package com.playus.userservice.domain.notification.repository;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * 재전송 로그 세그먼트 파일 1개 (고정 크기, mmap)
+ * 레코드: [int 길이][int crc32][long userId][long eventId][long createdAt][payload]
+ * - 길이를 마지막에 기록 → 쓰다가 죽은 레코드는 길이 0 으로 남아 복구 시 로그 끝으로 인식
+ * - crc 는 커널 장애 등으로 페이지 일부만 디스크에 남은 경우 검출
+ * - 쓰기는 호출 측 락 안에서 한 스레드만, 읽기는 절대 위치 접근이라 동시에 가능
+ */
+final class LogSegment {
+
+	static final int HEADER_SIZE = 32;
+	static final String SUFFIX = ".seg";
+
+	private final int id;
+	private final Path path;
+	private final MappedByteBuffer buffer;
+
+	private int writePosition;
+	private volatile long lastWrittenAt;
+
+	private LogSegment(int id, Path path, MappedByteBuffer buffer, long lastWrittenAt) {
+		this.id = id;
+		this.path = path;
+		this.buffer = buffer;
+		this.lastWrittenAt = lastWrittenAt;
+	}
+
+	static LogSegment create(Path dir, int id, int size, long now) throws IOException {
+		Path path = dir.resolve(fileName(id));
+		return new LogSegment(id, path, map(path, size), now);
+	}
+
+	/** 기존 세그먼트를 열어 유효한 레코드를 순서대로 visitor 에 넘기고 쓰기 위치 복구 */
+	static LogSegment recover(Path path, int id, RecordVisitor visitor) throws IOException {
+		LogSegment segment = new LogSegment(id, path, map(path, (int) Files.size(path)), 0L);
+		int pos = 0;
+		while (segment.isValidRecord(pos)) {
+			long createdAt = segment.buffer.getLong(pos + 24);
+			visitor.visit(segment.buffer.getLong(pos + 8), segment.buffer.getLong(pos + 16), createdAt, pos);
+			segment.lastWrittenAt = createdAt;
+			pos += HEADER_SIZE + segment.buffer.getInt(pos);
+		}
+		segment.writePosition = pos;
+		if (segment.lastWrittenAt == 0L) {
+			segment.lastWrittenAt = Files.getLastModifiedTime(path).toMillis();
+		}
+		return segment;
+	}
+
+	static String fileName(int id) {
+		return String.format("%010d%s", id, SUFFIX);
+	}
+
+	int id() {
+		return id;
+	}
+
+	int remaining() {
+		return buffer.capacity() - writePosition;
+	}
+
+	long lastWrittenAt() {
+		return lastWrittenAt;
+	}
+
+	/** @return 기록한 레코드의 시작 위치 */
+	int append(long userId, long eventId, long createdAt, byte[] payload) {
+		int pos = writePosition;
+		buffer.putLong(pos + 8, userId);
+		buffer.putLong(pos + 16, eventId);
+		buffer.putLong(pos + 24, createdAt);
+		buffer.put(pos + HEADER_SIZE, payload);
+		buffer.putInt(pos + 4, checksum(pos, payload.length));
+		buffer.putInt(pos, payload.length);
+
+		writePosition = pos + HEADER_SIZE + payload.length;
+		lastWrittenAt = createdAt;
+		return pos;
+	}
+
+	/** payload 만 힙으로 복사, 유효하지 않은 위치면 null */
+	CachedEvent read(int pos) {
+		if (!isValidRecord(pos)) {
+			return null;
+		}
+		byte[] payload = new byte[buffer.getInt(pos)];
+		buffer.get(pos + HEADER_SIZE, payload);
+		return new CachedEvent(buffer.getLong(pos + 16), buffer.getLong(pos + 24), EncodedPayload.wrap(payload));
+	}
+
+	void delete() throws IOException {
+		// 매핑은 GC 시 해제, 파일은 바로 삭제해도 이미 매핑된 영역 읽기에는 영향 없음
+		Files.deleteIfExists(path);
+	}
+
+	private boolean isValidRecord(int pos) {
+		if (pos < 0 || pos + HEADER_SIZE > buffer.capacity()) {
+			return false;
+		}
+		int length = buffer.getInt(pos);
+		return length > 0
+				&& pos + HEADER_SIZE + length <= buffer.capacity()
+				&& buffer.getInt(pos + 4) == checksum(pos, length);
+	}
+
+	private int checksum(int pos, int payloadLength) {
+		CRC32 crc = new CRC32();
+		crc.update(buffer.slice(pos + 8, HEADER_SIZE - 8 + payloadLength));
+		return (int) crc.getValue();
+	}
+
+	private static MappedByteBuffer map(Path path, int size) throws IOException {
+		try (FileChannel channel = FileChannel.open(path,
+				StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			// 채널을 닫아도 매핑은 유지
+			return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+		}
+	}
+
+	@FunctionalInterface
+	interface RecordVisitor {
+		void visit(long userId, long eventId, long createdAt, int position);
+	}
+}
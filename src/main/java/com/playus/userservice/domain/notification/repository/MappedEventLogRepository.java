@@ -0,0 +1,259 @@
+package com.playus.userservice.domain.notification.repository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * mmap 세그먼트 로그 기반 재전송 캐시 (notification.sse.replay.store=mmap 일 때만 사용)
+ * - 전달한 이벤트를 고정 크기 세그먼트 파일에 순서대로 append, 가득 차면 다음 세그먼트로 넘어감
+ * - 힙에는 유저별 최근 capacityPerUser 개의 (id, 위치) 만 보관, 본문은 페이지 캐시에서 읽음
+ * - 재시작 시 세그먼트를 훑어 인덱스 복구 → 디렉터리가 프로세스보다 오래 사는 볼륨이면 재시작 중 끊긴 클라이언트도 재전송
+ * - maxAge 보다 오래된 세그먼트는 파일째 삭제
+ * - 파드당 최대 maxUsers 명의 인덱스만 유지, 자리 예약 / 상한 제거는 쓰기 락 밖에서 → 새 유저가 몰려도 append 가 막히지 않음
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(name = "notification.sse.replay.store", havingValue = "mmap")
+public class MappedEventLogRepository implements EventCacheRepository {
+
+	/** 가득 찼는데 내보낼 후보가 없을 때 기다리는 최대 횟수 - 넘으면 잠깐 초과를 허용 ({@link EventCacheRepositoryImpl} 와 동일) */
+	private static final int MAX_EMPTY_POLLS = 1_000;
+
+	private final Path dir;
+	private final int segmentSize;
+	private final int capacityPerUser;
+	private final long maxAgeMs;
+	private final int maxUsers;
+
+	private final NavigableMap<Integer, LogSegment> segments = new ConcurrentSkipListMap<>();
+	private final Map<Long, UserEventOffsets> index = new ConcurrentHashMap<>();
+	private final UserEvictionQueue<UserEventOffsets> evictionQueue =
+			new UserEvictionQueue<>(UserEventOffsets::lastWrittenAt);
+	/** index 에 들어 있거나 들어갈 자리가 예약된 유저 수 */
+	private final AtomicInteger userCount = new AtomicInteger();
+
+	/** 아래 필드는 writeLock 으로 보호 (쓰기는 한 번에 하나, 읽기는 락 없이) */
+	private final Object writeLock = new Object();
+	private LogSegment active;
+
+	public MappedEventLogRepository(
+			@Value("${notification.sse.replay.mmap.dir:${java.io.tmpdir}/notification-replay}") Path dir,
+			@Value("${notification.sse.replay.mmap.segment-size:64MB}") DataSize segmentSize,
+			@Value("${notification.sse.replay.capacity-per-user:50}") int capacityPerUser,
+			@Value("${notification.sse.replay.max-age:10m}") Duration maxAge,
+			@Value("${notification.sse.replay.max-users:20000}") int maxUsers) {
+		this.dir = dir;
+		this.segmentSize = (int) Math.min(segmentSize.toBytes(), Integer.MAX_VALUE);
+		this.capacityPerUser = capacityPerUser;
+		this.maxAgeMs = maxAge.toMillis();
+		this.maxUsers = maxUsers;
+	}
+
+	@PostConstruct
+	void open() throws IOException {
+		Files.createDirectories(dir);
+		synchronized (writeLock) {
+			for (Path path : listSegmentFiles()) {
+				int segmentId = Integer.parseInt(path.getFileName().toString().replace(LogSegment.SUFFIX, ""));
+				LogSegment segment = LogSegment.recover(path, segmentId, (userId, eventId, createdAt, position) ->
+						index.computeIfAbsent(userId, this::newOffsets)
+								.add(eventId, UserEventOffsets.location(segmentId, position), createdAt));
+				segments.put(segmentId, segment);
+			}
+			active = segments.isEmpty() ? null : segments.lastEntry().getValue();
+			userCount.set(index.size());
+		}
+		log.info("SSE 재전송 로그 복구 - dir: {}, segments: {}, users: {}", dir, segments.size(), index.size());
+		deleteAllExpired();
+	}
+
+	@Override
+	public CachedEvent save(Long userId, long id, EncodedPayload event) {
+		byte[] payload = event.bytes();
+		long now = System.currentTimeMillis();
+		if (payload.length == 0 || LogSegment.HEADER_SIZE + payload.length > segmentSize) {
+			// 길이 0 은 로그 끝 표시와 구분되지 않고, 세그먼트보다 큰 이벤트는 기록 불가 → 실시간 전송만
+			log.warn("SSE 재전송 로그에 기록할 수 없는 이벤트 - userId: {}, size: {}", userId, payload.length);
+			return new CachedEvent(id, now, event);
+		}
+
+		while (true) {
+			// 새 유저 자리 확보 (상한 제거 포함) 는 락 밖에서 → 쓰기 락은 append 동안만 잡음
+			UserEventOffsets offsets = index.get(userId);
+			if (offsets == null) {
+				offsets = createOffsets(userId, now);
+			}
+			synchronized (writeLock) {
+				// 락을 기다리는 사이 상한 제거 / 정리로 빠졌으면 새 인덱스로 다시 시도
+				if (index.get(userId) != offsets) {
+					continue;
+				}
+				LogSegment segment = segmentFor(LogSegment.HEADER_SIZE + payload.length, now);
+				int position = segment.append(userId, id, now, payload);
+				offsets.add(id, UserEventOffsets.location(segment.id(), position), now);
+				return new CachedEvent(id, now, event);
+			}
+		}
+	}
+
+	@Override
+	public List<CachedEvent> findAllByUserIdAfter(Long userId, long lastEventId) {
+		UserEventOffsets offsets = index.get(userId);
+		if (offsets == null) {
+			return List.of();
+		}
+
+		long expireBefore = System.currentTimeMillis() - maxAgeMs;
+		List<CachedEvent> result = new ArrayList<>();
+		for (long location : offsets.locationsAfter(lastEventId)) {
+			// 이미 삭제된 세그먼트의 위치는 건너뜀
+			LogSegment segment = segments.get(UserEventOffsets.segmentId(location));
+			CachedEvent event = segment == null ? null : segment.read(UserEventOffsets.position(location));
+			if (event != null && event.createdAt() >= expireBefore) {
+				result.add(event);
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public void deleteAllByUserId(Long userId) {
+		// 인덱스만 제거, 파일의 레코드는 세그먼트 삭제 시 함께 정리
+		if (index.remove(userId) != null) {
+			userCount.decrementAndGet();
+		}
+	}
+
+	@Override
+	@Scheduled(fixedDelayString = "${notification.sse.replay.sweep-interval:60000}")
+	public void deleteAllExpired() {
+		long expireBefore = System.currentTimeMillis() - maxAgeMs;
+		synchronized (writeLock) {
+			for (LogSegment segment : List.copyOf(segments.values())) {
+				// 쓰고 있는 세그먼트는 가득 찰 때까지 유지
+				if (segment == active || segment.lastWrittenAt() >= expireBefore) {
+					continue;
+				}
+				segments.remove(segment.id());
+				try {
+					segment.delete();
+				} catch (IOException e) {
+					log.warn("SSE 재전송 로그 세그먼트 삭제 실패 - segment: {}", segment.id(), e);
+				}
+			}
+		}
+
+		// 최근 이벤트까지 모두 삭제된 세그먼트에 있는 유저는 인덱스에서도 제거
+		Integer oldest = segments.isEmpty() ? null : segments.firstKey();
+		index.forEach((userId, offsets) -> {
+			long newest = offsets.newestLocation();
+			if (oldest == null || newest < 0 || UserEventOffsets.segmentId(newest) < oldest) {
+				remove(userId, offsets);
+			}
+		});
+		evictionQueue.removeStale(index::get);
+	}
+
+	/** writeLock 안에서 호출 - 남은 공간이 부족하면 새 세그먼트로 넘어감 */
+	private LogSegment segmentFor(int recordSize, long now) {
+		if (active != null && active.remaining() >= recordSize) {
+			return active;
+		}
+		int nextId = active == null ? 0 : active.id() + 1;
+		try {
+			active = LogSegment.create(dir, nextId, segmentSize, now);
+		} catch (IOException e) {
+			throw new UncheckedIOException("SSE 재전송 로그 세그먼트 생성 실패 - segment: " + nextId, e);
+		}
+		segments.put(nextId, active);
+		log.debug("SSE 재전송 로그 세그먼트 생성 - segment: {}", nextId);
+		return active;
+	}
+
+	/** 복구 중 새 유저 인덱스는 제거 순서 큐에도 등록 (개수는 복구 후 한 번에 맞춤) */
+	private UserEventOffsets newOffsets(Long userId) {
+		UserEventOffsets offsets = new UserEventOffsets(capacityPerUser);
+		evictionQueue.add(userId, offsets, System.currentTimeMillis());
+		return offsets;
+	}
+
+	/** 자리를 예약한 뒤 넣음 - 다른 스레드가 먼저 넣었으면 예약을 돌려주고 그 인덱스 사용 */
+	private UserEventOffsets createOffsets(Long userId, long now) {
+		reserveSlot(now);
+		UserEventOffsets created = new UserEventOffsets(capacityPerUser);
+		UserEventOffsets existing = index.putIfAbsent(userId, created);
+		if (existing != null) {
+			userCount.decrementAndGet();
+			return existing;
+		}
+		evictionQueue.add(userId, created, now);
+		return created;
+	}
+
+	/** 상한 안이면 CAS 로 자리 하나 예약, 가득 찼으면 가장 오래 쓰이지 않은 유저 인덱스를 제거하고 다시 시도 */
+	private void reserveSlot(long now) {
+		int emptyPolls = 0;
+		while (true) {
+			int current = userCount.get();
+			if (current >= maxUsers && emptyPolls < MAX_EMPTY_POLLS) {
+				if (!evictOne(now)) {
+					emptyPolls++;
+					Thread.yield();
+				}
+				continue;
+			}
+			if (userCount.compareAndSet(current, current + 1)) {
+				return;
+			}
+		}
+	}
+
+	/** 후보가 없으면 false */
+	private boolean evictOne(long now) {
+		Long victim = evictionQueue.pollVictim(index::get, now, maxUsers);
+		if (victim == null) {
+			return false;
+		}
+		UserEventOffsets offsets = index.get(victim);
+		if (offsets != null && remove(victim, offsets)) {
+			log.debug("재전송 로그 인덱스 상한 도달 - userId: {} 제거", victim);
+		}
+		return true;
+	}
+
+	/** 같은 인덱스일 때만 빼고 자리 반환 - 먼저 뺀 쪽만 반환하므로 중복 감소 없음 */
+	private boolean remove(Long userId, UserEventOffsets offsets) {
+		if (index.remove(userId, offsets)) {
+			userCount.decrementAndGet();
+			return true;
+		}
+		return false;
+	}
+
+	private List<Path> listSegmentFiles() throws IOException {
+		try (Stream<Path> files = Files.list(dir)) {
+			return files.filter(path -> path.getFileName().toString().matches("\\d{10}\\" + LogSegment.SUFFIX))
+					.sorted()
+					.toList();
+		}
+	}
+}
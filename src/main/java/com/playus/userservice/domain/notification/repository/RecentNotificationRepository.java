@@ -0,0 +1,26 @@
+package com.playus.userservice.domain.notification.repository;
+
+import java.util.List;
+
+/** 유저별 최근 알림 목록 캐시 (NotificationResponse JSON, 최신순) */
+public interface RecentNotificationRepository {
+	/** 캐시가 없으면 null, 알림이 없는 유저는 빈 목록 */
+	List<String> findByUserId(Long userId);
+
+	/**
+	 * DB 에서 다시 만든 목록 저장 (최신순)
+	 * 조회하는 사이 목록이 바뀌었다고 표시된 경우에는 저장하지 않음 → 오래된 목록으로 덮어쓰지 않음
+	 */
+	boolean saveIfUnchanged(Long userId, List<String> newestFirst);
+
+	/** 캐시가 있을 때만 앞에 추가 후 capacity 개로 자름, 없으면 변경 표시만 */
+	void pushIfPresent(Long userId, List<String> oldestFirst, int capacity);
+
+	/** index 위치 값이 expected 와 같을 때만 교체 → 교체한 수 */
+	int replaceIfUnchanged(Long userId, List<Replacement> replacements);
+
+	/** 캐시 삭제 + 변경 표시 → 다음 조회 시 DB 기준으로 다시 생성 */
+	void evict(Long userId);
+
+	record Replacement(int index, String expected, String value) {}
+}
@@ -0,0 +1,134 @@
+package com.playus.userservice.domain.notification.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Redis LIST(notification:recent:{userId}) - 최신 알림이 앞, capacity 개 유지
+ * - 변경 표시(notification:recent:{userId}:changed)는 DB 조회와 캐시 저장 사이에 들어온 변경을 감지하는 용도
+ * - 두 키는 같은 해시 태그 → 클러스터에서도 한 스크립트로 처리
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecentNotificationRepositoryImpl implements RecentNotificationRepository {
+
+	private static final String KEY_PREFIX = "notification:recent:";
+
+	/** 알림이 없는 유저도 캐시해 DB 조회를 피하기 위한 표시, 조회 시 제외 */
+	private static final String EMPTY_MARKER = "__empty__";
+
+	/** 다시 만든 목록의 수명 - 갱신 누락이 있어도 이 시간 안에 DB 기준으로 복구 */
+	private static final Duration TTL = Duration.ofHours(1);
+
+	/** DB 조회 ~ 캐시 저장 사이 변경을 감지하는 시간 */
+	private static final Duration CHANGED_TTL = Duration.ofSeconds(5);
+
+	private static final RedisScript<Long> SAVE_IF_UNCHANGED = new DefaultRedisScript<>("""
+			if redis.call('EXISTS', KEYS[2]) == 1 then return 0 end
+			redis.call('DEL', KEYS[1])
+			if #ARGV == 1 then
+			  redis.call('RPUSH', KEYS[1], '%s')
+			else
+			  redis.call('RPUSH', KEYS[1], unpack(ARGV, 2))
+			end
+			redis.call('PEXPIRE', KEYS[1], ARGV[1])
+			return 1
+			""".formatted(EMPTY_MARKER), Long.class);
+
+	private static final RedisScript<Long> PUSH_IF_PRESENT = new DefaultRedisScript<>("""
+			if redis.call('EXISTS', KEYS[1]) == 0 then
+			  redis.call('SET', KEYS[2], '1', 'PX', ARGV[2])
+			  return 0
+			end
+			redis.call('LREM', KEYS[1], 0, '%s')
+			redis.call('LPUSH', KEYS[1], unpack(ARGV, 3))
+			redis.call('LTRIM', KEYS[1], 0, tonumber(ARGV[1]) - 1)
+			return 1
+			""".formatted(EMPTY_MARKER), Long.class);
+
+	private static final RedisScript<Long> REPLACE_IF_UNCHANGED = new DefaultRedisScript<>("""
+			local replaced = 0
+			for i = 1, #ARGV, 3 do
+			  if redis.call('LINDEX', KEYS[1], ARGV[i]) == ARGV[i + 1] then
+			    redis.call('LSET', KEYS[1], ARGV[i], ARGV[i + 2])
+			    replaced = replaced + 1
+			  end
+			end
+			return replaced
+			""", Long.class);
+
+	private static final RedisScript<Long> EVICT = new DefaultRedisScript<>("""
+			redis.call('DEL', KEYS[1])
+			redis.call('SET', KEYS[2], '1', 'PX', ARGV[1])
+			return 1
+			""", Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	@Override
+	public List<String> findByUserId(Long userId) {
+		List<String> values = redisTemplate.opsForList().range(listKey(userId), 0, -1);
+		if (values == null || values.isEmpty()) {
+			return null;
+		}
+		return values.stream().filter(value -> !EMPTY_MARKER.equals(value)).toList();
+	}
+
+	@Override
+	public boolean saveIfUnchanged(Long userId, List<String> newestFirst) {
+		List<String> args = new ArrayList<>(newestFirst.size() + 1);
+		args.add(String.valueOf(TTL.toMillis()));
+		args.addAll(newestFirst);
+		Long saved = redisTemplate.execute(SAVE_IF_UNCHANGED,
+				List.of(listKey(userId), changedKey(userId)), args.toArray());
+		return saved != null && saved == 1L;
+	}
+
+	@Override
+	public void pushIfPresent(Long userId, List<String> oldestFirst, int capacity) {
+		if (oldestFirst.isEmpty()) {
+			return;
+		}
+		List<String> args = new ArrayList<>(oldestFirst.size() + 2);
+		args.add(String.valueOf(capacity));
+		args.add(String.valueOf(CHANGED_TTL.toMillis()));
+		args.addAll(oldestFirst);
+		redisTemplate.execute(PUSH_IF_PRESENT, List.of(listKey(userId), changedKey(userId)), args.toArray());
+	}
+
+	@Override
+	public int replaceIfUnchanged(Long userId, List<Replacement> replacements) {
+		if (replacements.isEmpty()) {
+			return 0;
+		}
+		List<String> args = new ArrayList<>(replacements.size() * 3);
+		for (Replacement r : replacements) {
+			args.add(String.valueOf(r.index()));
+			args.add(r.expected());
+			args.add(r.value());
+		}
+		Long replaced = redisTemplate.execute(REPLACE_IF_UNCHANGED, List.of(listKey(userId)), args.toArray());
+		return replaced == null ? 0 : replaced.intValue();
+	}
+
+	@Override
+	public void evict(Long userId) {
+		redisTemplate.execute(EVICT, List.of(listKey(userId), changedKey(userId)),
+				String.valueOf(CHANGED_TTL.toMillis()));
+	}
+
+	private String listKey(Long userId) {
+		return KEY_PREFIX + "{" + userId + "}";
+	}
+
+	private String changedKey(Long userId) {
+		return KEY_PREFIX + "{" + userId + "}:changed";
+	}
+}
@@ -0,0 +1,271 @@
+package com.playus.userservice.domain.notification.repository;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * SSE 연결 1개 + 전송 대기열
+ * - 생산자(알림 생성 스레드, 하트비트, pub/sub 수신)는 enqueue 만 하고 바로 반환
+ * - 실제 쓰기는 writer 스레드가 연결마다 한 번에 하나씩 → 같은 emitter 에 동시 쓰기 없음
+ * - 대기열이 가득 차면 overflowPolicy 에 따라 가장 오래된 이벤트를 버리거나 연결을 끊음
+ *   (끊긴 클라이언트는 Last-Event-ID 로 재연결해 캐시에서 재전송 받음)
+ * - emitter.complete 는 completer 에서 실행 → 막힌 send 가 쥔 emitter 락을 닫는 쪽 스레드가 기다리지 않음
+ */
+public class SseConnection {
+
+	/** 한 번 drain 할 때 최대 전송 수 → 계속 쌓이는 연결이 writer 스레드를 독점하지 않도록 */
+	private static final int MAX_WRITES_PER_DRAIN = 16;
+
+	public enum OverflowPolicy { DROP_OLDEST, DISCONNECT }
+
+	public enum CloseReason { OVERFLOW, SEND_FAILED, REJECTED, COMPLETED, WRITE_TIMEOUT }
+
+	/** 대기열 변화 통지 (메트릭), 스스로 닫힌 경우 저장소 정리용 */
+	public interface Listener {
+		default void onQueued(int delta) {}
+
+		default void onDropped() {}
+
+		/** writer 스레드가 emitter.send 에 들어가기 직전 / 빠져나온 직후 (쓰기 timeout 감시용) */
+		default void onWriteStarted(SseConnection connection) {}
+
+		default void onWriteFinished(SseConnection connection) {}
+
+		void onClosed(SseConnection connection, CloseReason reason);
+	}
+
+	private final Long userId;
+	private final String emitterId;
+	private final SseEmitter emitter;
+	private final int capacity;
+	private final OverflowPolicy overflowPolicy;
+	private final Executor writer;
+	private final Executor completer;
+	private final Listener listener;
+	private final long connectedAt = System.nanoTime();
+
+	/** 아래 필드는 this 로 보호 */
+	private final ArrayDeque<SseEmitter.SseEventBuilder> queue;
+	private boolean draining;
+	private boolean completing;
+	private boolean closed;
+
+	/** 진행 중인 쓰기 시작 시각 (nanoTime), 쓰기 중이 아니면 0 */
+	private volatile long writeStartedAt;
+
+	public SseConnection(Long userId, String emitterId, SseEmitter emitter,
+						 int capacity, OverflowPolicy overflowPolicy, Executor writer, Listener listener) {
+		this(userId, emitterId, emitter, capacity, overflowPolicy, writer, Runnable::run, listener);
+	}
+
+	public SseConnection(Long userId, String emitterId, SseEmitter emitter, int capacity,
+						 OverflowPolicy overflowPolicy, Executor writer, Executor completer, Listener listener) {
+		this.userId = userId;
+		this.emitterId = emitterId;
+		this.emitter = emitter;
+		this.capacity = capacity;
+		this.overflowPolicy = overflowPolicy;
+		this.writer = writer;
+		this.completer = completer;
+		this.listener = listener;
+		this.queue = new ArrayDeque<>(Math.min(capacity, 16));
+	}
+
+	/** @return 닫혔거나 대기열 초과로 끊겨 이벤트를 받지 못하면 false */
+	public boolean enqueue(SseEmitter.SseEventBuilder event) {
+		boolean overflow = false;
+		boolean schedule = false;
+		synchronized (this) {
+			if (closed || completing) {
+				return false;
+			}
+			if (queue.size() >= capacity) {
+				if (overflowPolicy == OverflowPolicy.DISCONNECT) {
+					overflow = true;
+				} else {
+					queue.pollFirst();
+					listener.onQueued(-1);
+					listener.onDropped();
+				}
+			}
+			if (!overflow) {
+				queue.addLast(event);
+				listener.onQueued(1);
+				if (!draining) {
+					draining = true;
+					schedule = true;
+				}
+			}
+		}
+
+		if (overflow) {
+			close(CloseReason.OVERFLOW);
+			return false;
+		}
+		if (schedule) {
+			scheduleDrain();
+		}
+		return true;
+	}
+
+	/** 이미 들어온 이벤트를 모두 보낸 뒤 emitter 종료, 이후 enqueue 는 거절 */
+	public void completeAfterFlush() {
+		boolean schedule = false;
+		synchronized (this) {
+			if (closed || completing) {
+				return;
+			}
+			completing = true;
+			if (!draining) {
+				draining = true;
+				schedule = true;
+			}
+		}
+		if (schedule) {
+			scheduleDrain();
+		}
+	}
+
+	/**
+	 * 쓰기 timeout → 닫힘 표시 + 대기열 비우기만 하고 바로 반환 (하트비트 스레드에서 호출)
+	 * - emitter 종료는 completer 가 막힌 send 가 끝나길 기다려 처리
+	 * - 이미 막힌 send 는 풀리지 않으므로 writer 스레드는 컨테이너 write timeout 뒤에 반환
+	 *
+	 * @return 이미 닫혀 있었으면 false
+	 */
+	public boolean abort() {
+		return close(CloseReason.WRITE_TIMEOUT);
+	}
+
+	/**
+	 * 저장소에서 빠진 연결 → 남은 이벤트만 버림 (emitter 종료는 호출 측 몫)
+	 * - 이미 completeAfterFlush 로 종료 중이면 그대로 둠 → 밀려난 탭에 보낼 retry 등을 보낸 뒤 스스로 닫힘
+	 */
+	public void discard() {
+		markClosed(true);
+	}
+
+	/** completer 에서 emitter 종료 - 호출 스레드는 emitter 락을 기다리지 않음 */
+	public void completeEmitter() {
+		try {
+			completer.execute(() -> {
+				try {
+					emitter.complete();
+				} catch (RuntimeException ignored) {
+					// 이미 종료된 연결
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			// 종료 중 → 컨테이너가 연결을 정리
+		}
+	}
+
+	public synchronized boolean isClosed() {
+		return closed;
+	}
+
+	public synchronized int queueSize() {
+		return queue.size();
+	}
+
+	/** 한 이벤트 쓰기가 timeoutNanos 이상 끝나지 않음 → 소켓 버퍼가 찬 느린 클라이언트 */
+	public boolean isStalled(long nowNanos, long timeoutNanos) {
+		long startedAt = writeStartedAt;
+		return startedAt != 0 && nowNanos - startedAt > timeoutNanos;
+	}
+
+	public Long getUserId() {
+		return userId;
+	}
+
+	public String getEmitterId() {
+		return emitterId;
+	}
+
+	public SseEmitter getEmitter() {
+		return emitter;
+	}
+
+	public long getConnectedAt() {
+		return connectedAt;
+	}
+
+	private void scheduleDrain() {
+		try {
+			writer.execute(this::drain);
+		} catch (RejectedExecutionException e) {
+			// 종료 중인 writer → 더 보낼 수 없으므로 연결 종료, 재연결 시 재전송
+			close(CloseReason.REJECTED);
+		}
+	}
+
+	private void drain() {
+		for (int written = 0; written < MAX_WRITES_PER_DRAIN; written++) {
+			SseEmitter.SseEventBuilder event;
+			boolean finished;
+			synchronized (this) {
+				event = closed ? null : queue.pollFirst();
+				finished = event == null && completing && !closed;
+				if (event == null) {
+					draining = false;
+					if (!finished) {
+						return;
+					}
+				}
+			}
+			if (finished) {
+				close(CloseReason.COMPLETED);
+				return;
+			}
+			listener.onQueued(-1);
+
+			writeStartedAt = System.nanoTime();
+			listener.onWriteStarted(this);
+			try {
+				emitter.send(event);
+			} catch (IOException | IllegalStateException e) {
+				// IllegalStateException: 이미 complete 된 emitter
+				close(CloseReason.SEND_FAILED);
+				return;
+			} finally {
+				writeStartedAt = 0;
+				listener.onWriteFinished(this);
+			}
+		}
+		// 남은 이벤트는 다른 연결 뒤로 다시 줄 세움
+		scheduleDrain();
+	}
+
+	private boolean markClosed() {
+		return markClosed(false);
+	}
+
+	private boolean markClosed(boolean unlessCompleting) {
+		int dropped;
+		synchronized (this) {
+			if (closed || (unlessCompleting && completing)) {
+				return false;
+			}
+			closed = true;
+			dropped = queue.size();
+			queue.clear();
+		}
+		if (dropped > 0) {
+			listener.onQueued(-dropped);
+		}
+		return true;
+	}
+
+	private boolean close(CloseReason reason) {
+		if (!markClosed()) {
+			return false;
+		}
+		completeEmitter();
+		listener.onClosed(this, reason);
+		return true;
+	}
+}
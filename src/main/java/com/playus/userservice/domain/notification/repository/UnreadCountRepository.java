@@ -0,0 +1,21 @@
+package com.playus.userservice.domain.notification.repository;
+
+import java.util.List;
+
+public interface UnreadCountRepository {
+	/** 카운터가 없으면 null */
+	Long findByUserId(Long userId);
+
+	void save(Long userId, long count);
+
+	/** 카운터가 있을 때만 증감 (없으면 다음 조회 시 DB 기준으로 생성) */
+	void incrementIfPresent(Long userId, long delta);
+
+	void deleteByUserId(Long userId);
+
+	/** 보정 대상 등록 */
+	void markDirty(Long userId);
+
+	/** 보정 대상 최대 count 명을 꺼냄 (여러 파드가 나눠 처리) */
+	List<Long> popDirty(int count);
+}
@@ -0,0 +1,63 @@
+package com.playus.userservice.domain.notification.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class UnreadCountRepositoryImpl implements UnreadCountRepository {
+
+	private static final String KEY_PREFIX = "notification:unread:";
+	private static final String DIRTY_KEY = "notification:unread:dirty";
+
+	/** 오래 접속하지 않은 유저의 카운터는 만료 → 다음 조회 시 재계산 */
+	private static final Duration TTL = Duration.ofDays(7);
+
+	/** 키가 있을 때만 INCRBY, 0 미만으로 내려가지 않음 */
+	private static final RedisScript<Long> INCREMENT_IF_PRESENT = new DefaultRedisScript<>("""
+			if redis.call('EXISTS', KEYS[1]) == 0 then return nil end
+			local v = redis.call('INCRBY', KEYS[1], ARGV[1])
+			if v < 0 then redis.call('SET', KEYS[1], 0, 'KEEPTTL') v = 0 end
+			return v
+			""", Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	@Override
+	public Long findByUserId(Long userId) {
+		String value = redisTemplate.opsForValue().get(KEY_PREFIX + userId);
+		return value == null ? null : Long.valueOf(value);
+	}
+
+	@Override
+	public void save(Long userId, long count) {
+		redisTemplate.opsForValue().set(KEY_PREFIX + userId, String.valueOf(count), TTL);
+	}
+
+	@Override
+	public void incrementIfPresent(Long userId, long delta) {
+		redisTemplate.execute(INCREMENT_IF_PRESENT, List.of(KEY_PREFIX + userId), String.valueOf(delta));
+	}
+
+	@Override
+	public void deleteByUserId(Long userId) {
+		redisTemplate.delete(KEY_PREFIX + userId);
+	}
+
+	@Override
+	public void markDirty(Long userId) {
+		redisTemplate.opsForSet().add(DIRTY_KEY, String.valueOf(userId));
+	}
+
+	@Override
+	public List<Long> popDirty(int count) {
+		List<String> userIds = redisTemplate.opsForSet().pop(DIRTY_KEY, count);
+		return userIds == null ? List.of() : userIds.stream().map(Long::valueOf).toList();
+	}
+}
@@ -0,0 +1,90 @@
+package com.playus.userservice.domain.notification.repository;
+
+/**
+ * 유저 한 명의 최근 이벤트 위치 (mmap 로그용 인메모리 인덱스)
+ * - 이벤트 본문 대신 (id, 세그먼트·오프셋) 두 long 만 보관 → 유저당 capacity * 16 바이트
+ * - 가득 차면 가장 오래된 위치를 덮어씀, id 순 위치에 넣으므로 오름차순 → 이진 탐색 가능
+ */
+final class UserEventOffsets {
+
+	private final long[] ids;
+	private final long[] locations;
+
+	private int head;
+	private int size;
+	private long lastWrittenAt;
+
+	UserEventOffsets(int capacity) {
+		this.ids = new long[capacity];
+		this.locations = new long[capacity];
+	}
+
+	static long location(int segmentId, int position) {
+		return ((long) segmentId << 32) | (position & 0xffffffffL);
+	}
+
+	static int segmentId(long location) {
+		return (int) (location >>> 32);
+	}
+
+	static int position(long location) {
+		return (int) location;
+	}
+
+	synchronized void add(long id, long location, long now) {
+		int at = firstIndexAfter(id);
+		if (size == ids.length) {
+			if (at == 0) {
+				return;   // 가득 찬 인덱스의 어떤 이벤트보다 오래됨
+			}
+			head = (head + 1) % ids.length;
+			size--;
+			at--;
+		}
+		for (int i = size; i > at; i--) {
+			ids[physical(i)] = ids[physical(i - 1)];
+			locations[physical(i)] = locations[physical(i - 1)];
+		}
+		ids[physical(at)] = id;
+		locations[physical(at)] = location;
+		size++;
+		lastWrittenAt = now;
+	}
+
+	/** lastEventId 이후 이벤트 위치 (id 순) */
+	synchronized long[] locationsAfter(long lastEventId) {
+		int low = firstIndexAfter(lastEventId);
+		long[] result = new long[size - low];
+		for (int i = low; i < size; i++) {
+			result[i - low] = locations[physical(i)];
+		}
+		return result;
+	}
+
+	/** id 가 가장 큰 이벤트의 위치, 비어 있으면 -1 */
+	synchronized long newestLocation() {
+		return size == 0 ? -1 : locations[physical(size - 1)];
+	}
+
+	synchronized long lastWrittenAt() {
+		return lastWrittenAt;
+	}
+
+	private int firstIndexAfter(long lastEventId) {
+		int low = 0;
+		int high = size;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (ids[physical(mid)] <= lastEventId) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	private int physical(int logicalIndex) {
+		return (head + logicalIndex) % ids.length;
+	}
+}
@@ -0,0 +1,130 @@
+package com.playus.userservice.domain.notification.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 유저 한 명의 최근 이벤트를 담는 고정 크기 링 버퍼
+ * - 가득 차면 가장 오래된 이벤트를 덮어씀 (개수 기준 evict)
+ * - id 는 id 순 위치에 넣으므로 버퍼 안에서 항상 오름차순 → 이진 탐색 가능
+ *   (여러 파드가 발급한 id 가 순서가 바뀌어 도착해도 대부분 맨 뒤, 드물게 몇 칸만 밀어 넣음)
+ * - 맵에서 빼기 전에 락 안에서 폐기 표시 → 폐기된 버퍼에는 쓰지 않음 (빼는 도중 들어온 이벤트 유실 방지)
+ */
+final class UserEventRing {
+
+	private final long[] ids;
+	private final long[] createdAts;
+	private final EncodedPayload[] events;
+
+	private int head;   // 가장 오래된 이벤트의 물리 인덱스
+	private int size;
+	private long lastWrittenAt;
+	private boolean retired;
+
+	UserEventRing(int capacity) {
+		this.ids = new long[capacity];
+		this.createdAts = new long[capacity];
+		this.events = new EncodedPayload[capacity];
+	}
+
+	/** 폐기된 버퍼면 null - 호출 측에서 새 버퍼로 다시 시도 */
+	synchronized CachedEvent append(long id, long now, EncodedPayload event) {
+		if (retired) {
+			return null;
+		}
+		CachedEvent cached = new CachedEvent(id, now, event);
+		int at = firstIndexAfter(id);
+		if (size == ids.length) {
+			if (at == 0) {
+				return cached;   // 가득 찬 버퍼의 어떤 이벤트보다 오래됨 → 실시간 전송만
+			}
+			events[head] = null;   // 가장 오래된 이벤트 덮어쓰기
+			head = (head + 1) % ids.length;
+			size--;
+			at--;
+		}
+		for (int i = size; i > at; i--) {
+			int to = physical(i);
+			int from = physical(i - 1);
+			ids[to] = ids[from];
+			createdAts[to] = createdAts[from];
+			events[to] = events[from];
+		}
+
+		int idx = physical(at);
+		ids[idx] = id;
+		createdAts[idx] = now;
+		events[idx] = event;
+		size++;
+		lastWrittenAt = now;
+		return cached;
+	}
+
+	/** lastEventId 이후 이벤트만 반환 — O(log n + 누락 이벤트 수) */
+	synchronized List<CachedEvent> findAfter(long lastEventId, long expireBefore) {
+		evictOlderThan(expireBefore);
+
+		int from = firstIndexAfter(lastEventId);
+		List<CachedEvent> result = new ArrayList<>(size - from);
+		for (int i = from; i < size; i++) {
+			int idx = physical(i);
+			result.add(new CachedEvent(ids[idx], createdAts[idx], events[idx]));
+		}
+		return result;
+	}
+
+	/** 오래된 순으로 만료 이벤트 제거, 제거 개수 반환 */
+	synchronized int evictOlderThan(long expireBefore) {
+		int evicted = 0;
+		while (size > 0 && createdAts[head] < expireBefore) {
+			events[head] = null;
+			head = (head + 1) % ids.length;
+			size--;
+			evicted++;
+		}
+		return evicted;
+	}
+
+	/** 비어 있을 때만 폐기 - 확인과 표시가 같은 락 안이므로 그 사이에 쓰인 이벤트가 없음 */
+	synchronized boolean retireIfEmpty() {
+		if (size == 0) {
+			retired = true;
+		}
+		return retired;
+	}
+
+	/** 상한 / 삭제로 버퍼를 버릴 때 - 이후 append 는 새 버퍼로 감 */
+	synchronized void retire() {
+		retired = true;
+	}
+
+	synchronized boolean isEmpty() {
+		return size == 0;
+	}
+
+	synchronized int size() {
+		return size;
+	}
+
+	synchronized long lastWrittenAt() {
+		return lastWrittenAt;
+	}
+
+	private int firstIndexAfter(long lastEventId) {
+		int low = 0;
+		int high = size;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (ids[physical(mid)] <= lastEventId) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	private int physical(int logicalIndex) {
+		return (head + logicalIndex) % ids.length;
+	}
+}
@@ -0,0 +1,55 @@
+package com.playus.userservice.domain.notification.repository;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * 파드 상한에 도달했을 때 내보낼 유저를 고르는 2차 기회(clock) 큐
+ * - 새 유저는 뒤에 추가, 꺼낸 유저가 마지막 확인 이후 쓰기가 있었으면 확인 시각을 갱신해 뒤로 보냄
+ * - 전체 유저를 훑는 선형 탐색 대신 분할 상환 O(1)로 가장 오래 쓰이지 않은 유저에 근사
+ * - 맵에서 이미 빠진 항목은 꺼낼 때 / 정리 주기에 버림
+ */
+final class UserEvictionQueue<T> {
+
+	private record Entry<T>(Long userId, T value, long checkedAt) {
+	}
+
+	private final Queue<Entry<T>> queue = new ConcurrentLinkedQueue<>();
+	private final ToLongFunction<T> lastWrittenAt;
+
+	UserEvictionQueue(ToLongFunction<T> lastWrittenAt) {
+		this.lastWrittenAt = lastWrittenAt;
+	}
+
+	void add(Long userId, T value, long now) {
+		queue.offer(new Entry<>(userId, value, now));
+	}
+
+	/**
+	 * 내보낼 유저 id, 후보가 없으면 null
+	 * - current: 현재 맵의 값 조회 (다른 값이면 이미 제거된 항목)
+	 * - 쓰기가 계속 들어오는 동안 끝없이 돌지 않도록 maxChecks 번 확인한 뒤에는 그때 꺼낸 유저를 내보냄
+	 */
+	Long pollVictim(Function<Long, T> current, long now, int maxChecks) {
+		Entry<T> entry;
+		int checks = 0;
+		while ((entry = queue.poll()) != null) {
+			if (current.apply(entry.userId()) != entry.value()) {
+				continue;
+			}
+			if (lastWrittenAt.applyAsLong(entry.value()) > entry.checkedAt() && ++checks < maxChecks) {
+				queue.offer(new Entry<>(entry.userId(), entry.value(), now));
+				continue;
+			}
+			return entry.userId();
+		}
+		return null;
+	}
+
+	/** 맵에서 이미 빠진 항목 정리 - 주기 정리에서 호출 */
+	void removeStale(Function<Long, T> current) {
+		queue.removeIf(entry -> current.apply(entry.userId()) != entry.value());
+	}
+}
@@ -0,0 +1,31 @@
+package com.playus.userservice.domain.notification.service;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.UUID;
+
+/** 현재 파드 식별자 + 파드 전용 SSE fan-out 채널 */
+@Getter
+@Component
+public class ClusterNode {
+
+	private static final String CHANNEL_PREFIX = "sse:node:";
+
+	private final String id;
+
+	public ClusterNode(@Value("${notification.sse.node-id:${HOSTNAME:}}") String nodeId) {
+		// K8s 에서는 HOSTNAME = 파드 이름
+		this.id = StringUtils.hasText(nodeId) ? nodeId : UUID.randomUUID().toString();
+	}
+
+	public String getChannel() {
+		return channelOf(id);
+	}
+
+	public static String channelOf(String nodeId) {
+		return CHANNEL_PREFIX + nodeId;
+	}
+}
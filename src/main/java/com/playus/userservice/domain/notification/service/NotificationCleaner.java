@@ -0,0 +1,131 @@
+package com.playus.userservice.domain.notification.service;
+
+import com.playus.userservice.domain.user.repository.write.NotificationContentRepository;
+import com.playus.userservice.domain.user.repository.write.NotificationRepository;
+import com.playus.userservice.global.config.async.NotificationExecutorConfig;
+import com.playus.userservice.global.exception.RetryLaterException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.LongFunction;
+
+/**
+ * 알림 대량 삭제
+ * - id 순으로 CHUNK_SIZE 씩 잘라 범위 DELETE, 청크마다 별도 트랜잭션 → 락/언두 로그를 짧게 유지
+ * - 호출 측은 트랜잭션 밖에서 호출해야 청크 단위로 커밋됨
+ * - 수신자 행이 모두 지워진 공유 본문(notification_contents)은 주기적으로 정리
+ */
+@Slf4j
+@Component
+public class NotificationCleaner {
+
+	private static final int CHUNK_SIZE = 1000;
+
+	private final NotificationRepository notificationRepository;
+	private final NotificationContentRepository notificationContentRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final Executor cleanupExecutor;
+	private final Duration orphanGrace;
+	private final Duration rejectedRetryAfter;
+
+	public NotificationCleaner(
+			NotificationRepository notificationRepository,
+			NotificationContentRepository notificationContentRepository,
+			PlatformTransactionManager transactionManager,
+			@Qualifier(NotificationExecutorConfig.CLEANUP_EXECUTOR) Executor cleanupExecutor,
+			@Value("${notification.content.orphan-grace:1h}") Duration orphanGrace,
+			@Value("${notification.cleanup.retry-after:30s}") Duration rejectedRetryAfter) {
+		this.notificationRepository = notificationRepository;
+		this.notificationContentRepository = notificationContentRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.cleanupExecutor = cleanupExecutor;
+		this.orphanGrace = orphanGrace;
+		this.rejectedRetryAfter = rejectedRetryAfter;
+	}
+
+	public int deleteAllByReceiverId(Long userId) {
+		return deleteInChunks(
+				afterId -> notificationRepository.findIdsByReceiverIdAfter(userId, afterId, Limit.of(CHUNK_SIZE)),
+				(fromId, toId) -> notificationRepository.deleteByReceiverIdAndIdBetween(userId, fromId, toId));
+	}
+
+	public int deleteAllByCommentId(Long commentId) {
+		return deleteInChunks(
+				afterId -> notificationRepository.findIdsByCommentIdAfter(commentId, afterId, Limit.of(CHUNK_SIZE)),
+				(fromId, toId) -> notificationRepository.deleteByCommentIdAndIdBetween(commentId, fromId, toId));
+	}
+
+	/** 참조하는 수신자 행이 없는 공유 본문 삭제 - 막 생성된 본문은 orphanGrace 동안 대상에서 제외 */
+	@Scheduled(fixedDelayString = "${notification.content.purge-interval:3600000}")
+	public void purgeOrphanContents() {
+		LocalDateTime before = LocalDateTime.now().minus(orphanGrace);
+		int deleted = 0;
+		long afterId = 0L;
+
+		while (true) {
+			List<Long> ids = notificationContentRepository.findOrphanIdsBefore(before, afterId, Limit.of(CHUNK_SIZE));
+			if (ids.isEmpty()) {
+				break;
+			}
+			Integer count = transactionTemplate.execute(status -> notificationContentRepository.deleteOrphansByIds(ids));
+			deleted += (count == null) ? 0 : count;
+			afterId = ids.get(ids.size() - 1);
+		}
+		if (deleted > 0) {
+			log.info("공유 알림 본문 정리 - {}건", deleted);
+		}
+	}
+
+	/**
+	 * 요청 스레드를 붙잡지 않도록 정리 작업을 전용 스레드 풀에서 실행
+	 * - 큐가 가득 차면 RetryLaterException (503 + Retry-After) → 예약되지 않은 삭제에 202 를 주지 않음
+	 */
+	public void submit(String description, Runnable task) {
+		try {
+			cleanupExecutor.execute(() -> {
+				try {
+					task.run();
+				} catch (RuntimeException e) {
+					log.error("알림 비동기 삭제 실패 - {}", description, e);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			log.warn("알림 비동기 삭제 큐 초과 - 거절 ({})", description);
+			throw new RetryLaterException("알림 삭제 요청이 많습니다. 잠시 후 다시 시도해 주세요.",
+					rejectedRetryAfter.toSeconds());
+		}
+	}
+
+	private int deleteInChunks(LongFunction<List<Long>> findIdsAfter, RangeDelete deleteRange) {
+		int deleted = 0;
+		long afterId = 0L;
+
+		while (true) {
+			List<Long> ids = findIdsAfter.apply(afterId);
+			if (ids.isEmpty()) {
+				return deleted;
+			}
+			Long fromId = ids.get(0);
+			Long toId = ids.get(ids.size() - 1);
+			Integer count = transactionTemplate.execute(status -> deleteRange.delete(fromId, toId));
+			deleted += (count == null) ? 0 : count;
+			afterId = toId;
+		}
+	}
+
+	@FunctionalInterface
+	private interface RangeDelete {
+		int delete(Long fromId, Long toId);
+	}
+}
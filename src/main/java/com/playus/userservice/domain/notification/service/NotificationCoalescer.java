@@ -0,0 +1,212 @@
+package com.playus.userservice.domain.notification.service;
+
+import com.playus.userservice.domain.notification.dto.response.NotificationResponse;
+import com.playus.userservice.domain.notification.event.RecentNotificationsChangedEvent;
+import com.playus.userservice.domain.user.enums.NotificationType;
+import com.playus.userservice.domain.user.repository.write.NotificationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 알림 묶음 처리 (notification.coalesce.enabled=true 일 때만 동작)
+ * - (수신자, 타입, 게시글/직관팟) 별로 window 동안 들어온 알림을 첫 알림 한 행에 합침 → "새 댓글 N개"
+ * - 첫 알림은 바로 전송, 이후 합쳐진 알림은 window 가 닫힐 때 묶음으로 한 번 전송 (합쳐진 알림이 없으면 전송 없음)
+ * - flush 와 합치기 커밋은 window 락으로 순서를 정함 → flush 뒤에 커밋된 합치기는 다음 정리 주기에 묶음을 다시 전송
+ * - Mongo 읽기 모델 / 최근 알림 캐시도 window 가 닫힐 때 최종 묶음으로 갱신 (그 전까지는 첫 알림 내용)
+ * - 파드 로컬 상태라 같은 대상의 요청이 여러 파드로 나뉘면 파드별로 묶임
+ */
+@Slf4j
+@Component
+public class NotificationCoalescer {
+
+	private final NotificationRepository notificationRepository;
+	private final NotificationDispatcher notificationDispatcher;
+	private final NotificationProjector notificationProjector;
+	private final ApplicationEventPublisher eventPublisher;
+	private final boolean enabled;
+	private final long windowMillis;
+	private final Counter coalesced;
+
+	private final Map<Key, Window> windows = new ConcurrentHashMap<>();
+	/** 이미 flush 된 뒤 합치기가 커밋된 window → 다음 정리 주기에 묶음 재전송 */
+	private final Set<Window> lateWindows = ConcurrentHashMap.newKeySet();
+
+	public NotificationCoalescer(
+			NotificationRepository notificationRepository,
+			NotificationDispatcher notificationDispatcher,
+			NotificationProjector notificationProjector,
+			ApplicationEventPublisher eventPublisher,
+			MeterRegistry meterRegistry,
+			@Value("${notification.coalesce.enabled:false}") boolean enabled,
+			@Value("${notification.coalesce.window:60s}") Duration window) {
+		this.notificationRepository = notificationRepository;
+		this.notificationDispatcher = notificationDispatcher;
+		this.notificationProjector = notificationProjector;
+		this.eventPublisher = eventPublisher;
+		this.enabled = enabled;
+		this.windowMillis = window.toMillis();
+		this.coalesced = Counter.builder("notification.coalesced")
+				.description("기존 알림에 합쳐져 새 행을 만들지 않은 알림 수")
+				.register(meterRegistry);
+	}
+
+	/** 묶음 대상 키 - targetId 는 댓글이면 게시글 ID, 직관팟이면 직관팟 ID */
+	public record Key(Long receiverId, NotificationType type, Long targetId) {}
+
+	/**
+	 * 열린 window 가 있으면 그 알림에 합치고 true (호출 측 트랜잭션 안에서 UPDATE, 개수는 DB 에서 원자적 증가)
+	 * 없거나 이미 읽은 알림이면 false → 호출 측이 새 알림 생성 후 {@link #open} 호출
+	 * window 의 합침 횟수는 커밋 후에만 반영 → 롤백된 합치기로 묶음 전송이 일어나지 않음
+	 */
+	public boolean mergeIfOpen(Key key, String content, Long actorId) {
+		if (!enabled || !isCoalescable(key)) {
+			return false;
+		}
+		Window window = windows.get(key);
+		if (window == null || window.isClosed(System.currentTimeMillis(), windowMillis)) {
+			return false;
+		}
+
+		Long id = window.notificationId;
+		if (notificationRepository.incrementCoalescedCount(id, content, actorId, LocalDateTime.now()) == 0) {
+			windows.remove(key, window);
+			return false;
+		}
+		// UPDATE 가 잡은 행 잠금이 커밋까지 유지되므로 읽은 개수는 이 트랜잭션의 결과
+		int count = notificationRepository.findCoalescedCountById(id);
+		notificationRepository.updateTitle(id, digestTitle(key.type(), count));
+
+		afterCommit(() -> {
+			coalesced.increment();
+			if (!window.recordMerge()) {
+				lateWindows.add(window);
+			}
+		});
+		return true;
+	}
+
+	public void open(Key key, Long notificationId) {
+		if (!enabled || !isCoalescable(key)) {
+			return;
+		}
+		// 동시에 열린 경우 먼저 열린 window 유지
+		windows.putIfAbsent(key, new Window(key, notificationId, System.currentTimeMillis()));
+	}
+
+	/** 닫힌 window 정리, 첫 전송 이후 합쳐진 알림이 있으면 최종 묶음을 한 번 전송 */
+	@Scheduled(fixedDelayString = "${notification.coalesce.sweep-interval:1000}")
+	public void flushClosedWindows() {
+		if (!enabled) {
+			return;
+		}
+		long now = System.currentTimeMillis();
+		windows.forEach((key, window) -> {
+			if (window.isClosed(now, windowMillis) && windows.remove(key, window) && window.drainMerges() > 0) {
+				flush(window);
+			}
+		});
+		// 빼낸 뒤 다시 늦은 합치기가 커밋되면 다시 들어오고, 이미 가져간 합치기면 drain 이 0 → 중복 전송 없음
+		for (Window window : lateWindows) {
+			if (lateWindows.remove(window) && window.drainMerges() > 0) {
+				flush(window);
+			}
+		}
+	}
+
+	int openWindowCount() {
+		return windows.size();
+	}
+
+	private void flush(Window window) {
+		Key key = window.key;
+		try {
+			notificationRepository.findById(window.notificationId)
+					.map(NotificationResponse::from)
+					.ifPresent(response -> {
+						notificationProjector.upsert(key.receiverId(), List.of(response));
+						// 캐시에 남은 첫 알림 제목/내용 → 다음 조회에서 DB 의 최종 묶음으로 다시 채움
+						eventPublisher.publishEvent(RecentNotificationsChangedEvent.evict(key.receiverId()));
+						notificationDispatcher.dispatch(key.receiverId(), response);
+					});
+		} catch (RuntimeException e) {
+			log.warn("묶음 알림 전송 실패 - notificationId: {}", window.notificationId, e);
+		}
+	}
+
+	private static void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+
+	/** 승인/거절 결과처럼 수신자에게 한 번만 가는 알림은 묶지 않음 */
+	private boolean isCoalescable(Key key) {
+		return key.targetId() != null && switch (key.type()) {
+			case COMMENT, PARTY_REQUEST, PARTY_JOINED -> true;
+			default -> false;
+		};
+	}
+
+	private String digestTitle(NotificationType type, int count) {
+		return switch (type) {
+			case COMMENT       -> String.format("새 댓글 %d개가 등록되었습니다.", count);
+			case PARTY_REQUEST -> String.format("새 참가 요청 %d건이 도착했습니다.", count);
+			case PARTY_JOINED  -> String.format("새로운 참가자 %d명이 입장했습니다.", count);
+			default            -> "";
+		};
+	}
+
+	private static final class Window {
+		private final Key key;
+		private final Long notificationId;
+		private final long openedAt;
+		/** 마지막 전송 이후 커밋된 합치기 수 (window 락으로 보호) */
+		private int pendingMerges;
+		private boolean flushed;
+
+		private Window(Key key, Long notificationId, long openedAt) {
+			this.key = key;
+			this.notificationId = notificationId;
+			this.openedAt = openedAt;
+		}
+
+		private boolean isClosed(long now, long windowMillis) {
+			return now - openedAt >= windowMillis;
+		}
+
+		/** 커밋된 합치기 반영 - 이미 flush 된 window 면 false (호출 측이 재전송 대상으로 등록) */
+		private synchronized boolean recordMerge() {
+			pendingMerges++;
+			return !flushed;
+		}
+
+		/** flush 표시 후 쌓인 합치기 수를 가져감 - 이후 커밋되는 합치기는 recordMerge 가 false */
+		private synchronized int drainMerges() {
+			flushed = true;
+			int merges = pendingMerges;
+			pendingMerges = 0;
+			return merges;
+		}
+	}
+}
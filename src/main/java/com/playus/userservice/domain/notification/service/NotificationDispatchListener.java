@@ -0,0 +1,60 @@
+package com.playus.userservice.domain.notification.service;
+
+import com.playus.userservice.domain.notification.event.NotificationCreatedEvent;
+import com.playus.userservice.global.config.async.NotificationExecutorConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 커밋 완료 후 SSE 전송을 전용 스레드 풀로 넘김
+ * - 롤백된 알림은 AFTER_COMMIT 이 호출되지 않으므로 전송되지 않음
+ * - 느린 소켓이 요청 스레드와 Hikari 커넥션을 붙잡지 않음
+ * - 전송 성공 시 outbox 처리 완료 표시, 큐 초과/실패로 남은 행은 poller 가 재전송
+ */
+@Slf4j
+@Component
+public class NotificationDispatchListener {
+
+	private final NotificationDispatcher notificationDispatcher;
+	private final NotificationOutboxService notificationOutboxService;
+	private final Executor dispatchExecutor;
+	private final Timer dispatchLatency;
+
+	public NotificationDispatchListener(
+			NotificationDispatcher notificationDispatcher,
+			NotificationOutboxService notificationOutboxService,
+			@Qualifier(NotificationExecutorConfig.DISPATCH_EXECUTOR) Executor dispatchExecutor,
+			MeterRegistry meterRegistry) {
+		this.notificationDispatcher = notificationDispatcher;
+		this.notificationOutboxService = notificationOutboxService;
+		this.dispatchExecutor = dispatchExecutor;
+		this.dispatchLatency = Timer.builder("notification.dispatch.latency")
+				.description("커밋 후 큐 대기 + SSE 전송까지 걸린 시간")
+				.register(meterRegistry);
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onNotificationCreated(NotificationCreatedEvent event) {
+		long enqueuedAt = System.nanoTime();
+		dispatchExecutor.execute(() -> {
+			try {
+				notificationDispatcher.dispatchAll(event.receiverId(), event.notifications());
+				if (event.outboxId() != null) {
+					notificationOutboxService.markDelivered(event.outboxId());
+				}
+			} catch (RuntimeException e) {
+				log.warn("알림 전송 실패 - receiverId: {}", event.receiverId(), e);
+			} finally {
+				dispatchLatency.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+			}
+		});
+	}
+}
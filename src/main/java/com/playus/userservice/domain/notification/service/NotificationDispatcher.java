@@ -0,0 +1,206 @@
+package com.playus.userservice.domain.notification.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.playus.userservice.domain.notification.dto.message.SseFanoutMessage;
+import com.playus.userservice.domain.notification.repository.CachedEvent;
+import com.playus.userservice.domain.notification.repository.EmitterLocationRepository;
+import com.playus.userservice.domain.notification.repository.EmitterRepository;
+import com.playus.userservice.domain.notification.repository.EncodedPayload;
+import com.playus.userservice.domain.notification.repository.EventCacheRepository;
+import com.playus.userservice.domain.notification.repository.EventSequenceRepository;
+import com.playus.userservice.domain.notification.repository.SseConnection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SSE 이벤트 전달
+ * - 수신자가 연결된 파드가 자신이면 로컬 emitter 로 바로 전송
+ * - 다른 파드면 해당 파드 전용 채널(sse:node:{nodeId})에만 publish → 전체 브로드캐스트 없음
+ * - 로컬 전송은 연결별 대기열에 넣기만 함 → 느린 클라이언트가 호출 스레드를 붙잡지 않음
+ * - SSE id 는 보내기 전에 유저별로 Redis 에서 발급 → 모든 파드의 캐시가 같은 id 를 쓰므로 어느 파드로 재연결해도
+ *   Last-Event-ID 비교가 맞음, 발급 기준이 시각(µs) 이라 Redis 장애 중 로컬 발급과도 순서가 섞이지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationDispatcher {
+
+	private final EmitterRepository emitterRepository;
+	private final EventCacheRepository eventCacheRepository;
+	private final EmitterLocationRepository emitterLocationRepository;
+	private final ClusterNode clusterNode;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final SseConnectionFactory sseConnectionFactory;
+	private final EventSequenceRepository eventSequenceRepository;
+
+	/** Redis 장애 시 로컬 발급 - 마지막으로 받은 id 와 같은 시각 기반 하한 이후로 발급, 복구 후에도 id 가 뒤로 가지 않음 */
+	private final AtomicLong localSequence = new AtomicLong();
+
+	public void dispatch(Long receiverId, Object payload) {
+		dispatchAll(receiverId, List.of(payload));
+	}
+
+	/** 같은 수신자의 알림 여러 건 → 연결 위치 조회 / id 발급은 한 번만, 알림마다 직렬화도 한 번만 */
+	public void dispatchAll(Long receiverId, List<?> payloads) {
+		Set<String> nodeIds = findNodeIds(receiverId);
+		List<EncodedPayload> encoded = payloads.stream()
+				.map(payload -> encode(receiverId, payload))
+				.filter(Objects::nonNull)
+				.toList();
+		if (encoded.isEmpty()) {
+			return;
+		}
+		long firstId = reserveEventIds(receiverId, encoded.size());
+
+		// 연결 정보가 없어도 로컬 캐시에는 남겨 재연결 시 재전송
+		if (nodeIds.isEmpty() || nodeIds.contains(clusterNode.getId())) {
+			for (int i = 0; i < encoded.size(); i++) {
+				deliverLocal(receiverId, firstId + i, encoded.get(i));
+			}
+		}
+
+		for (String nodeId : nodeIds) {
+			if (!nodeId.equals(clusterNode.getId())) {
+				for (int i = 0; i < encoded.size(); i++) {
+					publish(nodeId, receiverId, firstId + i, encoded.get(i));
+				}
+			}
+		}
+	}
+
+	/** 이 파드에 연결된 emitter 로 전송 (pub/sub 수신 시에도 사용) */
+	public void deliverLocal(Long receiverId, long eventId, EncodedPayload payload) {
+		// 연결 여부와 무관하게 캐시 → 끊겨 있던 클라이언트도 재연결 시 수신
+		CachedEvent event = eventCacheRepository.save(receiverId, eventId, payload);
+		Map<String, SseConnection> connections = emitterRepository.findAllEmitterByUserId(receiverId);
+		if (connections.isEmpty()) {
+			return;
+		}
+
+		// 프레임은 한 번만 만들고 모든 연결이 공유
+		SseEmitter.SseEventBuilder sseEvent = toSseEvent(event);
+		connections.values().forEach(connection -> connection.enqueue(sseEvent));
+	}
+
+	/** id 없이 온 fan-out 메시지 (배포 중 이전 버전 파드) → 이 파드에서 발급 */
+	public void deliverLocal(Long receiverId, EncodedPayload payload) {
+		deliverLocal(receiverId, reserveEventIds(receiverId, 1), payload);
+	}
+
+	public SseConnection connect(Long userId, String emitterId, SseEmitter emitter) {
+		SseConnection connection = sseConnectionFactory.create(userId, emitterId, emitter,
+				closed -> disconnect(userId, emitterId));
+		emitterRepository.save(userId, emitterId, connection);
+		try {
+			emitterLocationRepository.save(userId, clusterNode.getId());
+		} catch (DataAccessException e) {
+			log.warn("SSE 연결 위치 저장 실패 - userId: {}", userId, e);
+		}
+		return connection;
+	}
+
+	public void disconnect(Long userId, String emitterId) {
+		emitterRepository.deleteById(userId, emitterId);
+		if (!emitterRepository.findAllEmitterByUserId(userId).isEmpty()) {
+			return;
+		}
+		try {
+			emitterLocationRepository.delete(userId, clusterNode.getId());
+		} catch (DataAccessException e) {
+			log.warn("SSE 연결 위치 삭제 실패 - userId: {}", userId, e);
+		}
+	}
+
+	/**
+	 * 유저당 연결 수 상한 → 오래된 연결부터 keep 개만 남기고 정리
+	 * - 밀려난 연결에는 retry 를 보낸 뒤 종료 → 아직 열려 있는 탭이 곧바로 재연결해 다른 탭을 밀어내지 않도록
+	 */
+	public void evictOldest(Long userId, int keep, Duration retry) {
+		List<SseConnection> connections = emitterRepository.findAllEmitterByUserId(userId).values().stream()
+				.sorted(Comparator.comparingLong(SseConnection::getConnectedAt))
+				.toList();
+		for (int i = 0; i < connections.size() - Math.max(0, keep); i++) {
+			SseConnection evicted = connections.get(i);
+			// 저장소에서 빼기 전에 retry 를 넣고 종료 예약 → 빠지면서 대기열이 버려지지 않음
+			evicted.enqueue(SseEmitter.event().reconnectTime(retry.toMillis()));
+			evicted.completeAfterFlush();
+			disconnect(userId, evicted.getEmitterId());
+		}
+	}
+
+	public void disconnectAll(Long userId) {
+		emitterRepository.deleteAllEmitterByUserId(userId);
+		try {
+			emitterLocationRepository.delete(userId, clusterNode.getId());
+		} catch (DataAccessException e) {
+			log.warn("SSE 연결 위치 삭제 실패 - userId: {}", userId, e);
+		}
+	}
+
+	public SseEmitter.SseEventBuilder toSseEvent(CachedEvent event) {
+		return event.data().toSseEvent(event.id());
+	}
+
+	private Set<String> findNodeIds(Long receiverId) {
+		try {
+			return emitterLocationRepository.findAllNodeIdByUserId(receiverId);
+		} catch (DataAccessException e) {
+			// Redis 장애 시 최소한 이 파드의 연결에는 전달
+			log.warn("SSE 연결 위치 조회 실패, 로컬 전송만 수행 - userId: {}", receiverId, e);
+			return Set.of();
+		}
+	}
+
+	/** 유저별 id count 개 예약, 첫 id 반환 */
+	private long reserveEventIds(Long receiverId, int count) {
+		long floor = System.currentTimeMillis() * 1000;
+		try {
+			long last = eventSequenceRepository.increment(receiverId, count, floor);
+			localSequence.accumulateAndGet(last, Math::max);
+			return last - count + 1;
+		} catch (DataAccessException e) {
+			log.warn("SSE 이벤트 id 발급 실패, 로컬 발급으로 대체 - userId: {}", receiverId, e);
+			return localSequence.updateAndGet(last -> Math.max(last, floor) + count) - count + 1;
+		}
+	}
+
+	private void publish(String nodeId, Long receiverId, long eventId, EncodedPayload payload) {
+		try {
+			// 이미 직렬화한 JSON 을 그대로 끼워 넣음 (메시지 형식은 기존과 동일)
+			JsonNode raw = JsonNodeFactory.instance.rawValueNode(new RawValue(payload.toString()));
+			SseFanoutMessage message = new SseFanoutMessage(receiverId, eventId, raw);
+			redisTemplate.convertAndSend(ClusterNode.channelOf(nodeId), objectMapper.writeValueAsString(message));
+		} catch (JsonProcessingException | DataAccessException e) {
+			log.warn("SSE fan-out 실패 - nodeId: {}, userId: {}", nodeId, receiverId, e);
+		}
+	}
+
+	private EncodedPayload encode(Long receiverId, Object payload) {
+		if (payload instanceof EncodedPayload encoded) {
+			return encoded;
+		}
+		try {
+			return EncodedPayload.wrap(objectMapper.writeValueAsBytes(payload));
+		} catch (JsonProcessingException e) {
+			log.warn("SSE 이벤트 직렬화 실패 - userId: {}", receiverId, e);
+			return null;
+		}
+	}
+}
@@ -0,0 +1,38 @@
+package com.playus.userservice.domain.notification.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.playus.userservice.domain.notification.dto.message.SseFanoutMessage;
+import com.playus.userservice.domain.notification.repository.EncodedPayload;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/** 이 파드 전용 채널로 들어온 SSE 이벤트를 로컬 emitter 로 전달 */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationFanoutListener implements MessageListener {
+
+	private final NotificationDispatcher notificationDispatcher;
+	private final ObjectMapper objectMapper;
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			SseFanoutMessage fanout = objectMapper.readValue(message.getBody(), SseFanoutMessage.class);
+			// 수신 파드에서 한 번 직렬화 → 이 파드의 연결·캐시가 공유
+			EncodedPayload payload = EncodedPayload.wrap(objectMapper.writeValueAsBytes(fanout.payload()));
+			if (fanout.eventId() == null) {
+				notificationDispatcher.deliverLocal(fanout.userId(), payload);
+			} else {
+				notificationDispatcher.deliverLocal(fanout.userId(), fanout.eventId(), payload);
+			}
+		} catch (IOException e) {
+			log.warn("SSE fan-out 메시지 역직렬화 실패", e);
+		}
+	}
+}
@@ -0,0 +1,204 @@
+package com.playus.userservice.domain.notification.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.playus.userservice.domain.notification.dto.response.NotificationResponse;
+import com.playus.userservice.domain.user.entity.NotificationOutbox;
+import com.playus.userservice.domain.user.repository.write.NotificationOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알림 전송 outbox
+ * - append: 알림과 같은 트랜잭션에서 수신자별 outbox 행 기록 (JDBC 배치 INSERT)
+ * - markDelivered: 커밋 직후 전송 성공 시 처리 완료 표시
+ * - poll: 유예 시간이 지나도 처리되지 않은 행(전송 실패, 큐 초과, 파드 종료 등)을
+ *         FOR UPDATE SKIP LOCKED 로 나눠 가져가 재전송 → 재시작 후에도 at-least-once
+ *         가져간 행은 retry-backoff 만큼 lease 를 걸고 바로 커밋, 전송은 트랜잭션 밖에서 한 뒤 처리 완료 표시
+ *         (전송 실패 / 파드 종료 시 lease 가 끝나면 다시 대상이 됨)
+ */
+@Slf4j
+@Service
+public class NotificationOutboxService {
+
+	private static final int PURGE_BATCH_SIZE = 1000;
+
+	private final NotificationOutboxRepository outboxRepository;
+	private final NotificationDispatcher notificationDispatcher;
+	private final ObjectMapper objectMapper;
+	private final TransactionTemplate transactionTemplate;
+
+	private final int batchSize;
+	private final Duration grace;
+	private final Duration retryBackoff;
+	private final Duration retention;
+
+	private final Counter deliveredImmediately;
+	private final Counter redelivered;
+	private final Counter failed;
+	private final Timer lag;
+
+	public NotificationOutboxService(
+			NotificationOutboxRepository outboxRepository,
+			NotificationDispatcher notificationDispatcher,
+			ObjectMapper objectMapper,
+			PlatformTransactionManager transactionManager,
+			MeterRegistry meterRegistry,
+			@Value("${notification.outbox.batch-size:100}") int batchSize,
+			@Value("${notification.outbox.grace:5s}") Duration grace,
+			@Value("${notification.outbox.retry-backoff:10s}") Duration retryBackoff,
+			@Value("${notification.outbox.retention:1d}") Duration retention) {
+		this.outboxRepository = outboxRepository;
+		this.notificationDispatcher = notificationDispatcher;
+		this.objectMapper = objectMapper;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.batchSize = batchSize;
+		this.grace = grace;
+		this.retryBackoff = retryBackoff;
+		this.retention = retention;
+
+		this.deliveredImmediately = Counter.builder("notification.outbox.delivered")
+				.tag("path", "immediate")
+				.description("처리 완료된 outbox 행 수")
+				.register(meterRegistry);
+		this.redelivered = Counter.builder("notification.outbox.delivered")
+				.tag("path", "poller")
+				.description("처리 완료된 outbox 행 수")
+				.register(meterRegistry);
+		this.failed = Counter.builder("notification.outbox.failed")
+				.description("poller 재전송 실패 수")
+				.register(meterRegistry);
+		this.lag = Timer.builder("notification.outbox.lag")
+				.description("outbox 기록부터 poller 전송까지 걸린 시간")
+				.register(meterRegistry);
+	}
+
+	/** 호출 측 트랜잭션 안에서 호출 @return 수신자 ID → outbox ID */
+	public Map<Long, Long> append(Map<Long, List<NotificationResponse>> byReceiver) {
+		LocalDateTime now = LocalDateTime.now();
+		List<Long> receiverIds = new ArrayList<>(byReceiver.keySet());
+		List<NotificationOutbox> outboxes = new ArrayList<>(receiverIds.size());
+		for (Long receiverId : receiverIds) {
+			outboxes.add(NotificationOutbox.builder()
+					.receiverId(receiverId)
+					.payload(toJson(byReceiver.get(receiverId)))
+					.availableAt(now.plus(grace))
+					.build());
+		}
+
+		List<Long> ids = outboxRepository.batchInsert(outboxes, now);
+		Map<Long, Long> outboxIds = new LinkedHashMap<>();
+		for (int i = 0; i < receiverIds.size(); i++) {
+			outboxIds.put(receiverIds.get(i), ids.get(i));
+		}
+		return outboxIds;
+	}
+
+	/** 커밋 직후 전송 성공 → 트랜잭션 하나로 처리 완료 표시 (실패해도 poller 가 한 번 더 보낼 뿐) */
+	public void markDelivered(Long outboxId) {
+		try {
+			Integer updated = transactionTemplate.execute(status ->
+					outboxRepository.markProcessed(outboxId, LocalDateTime.now()));
+			if (updated != null && updated > 0) {
+				deliveredImmediately.increment();
+			}
+		} catch (DataAccessException e) {
+			log.warn("outbox 처리 완료 표시 실패 - outboxId: {}", outboxId, e);
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${notification.outbox.poll-interval:1000}")
+	public void poll() {
+		try {
+			List<NotificationOutbox> rows;
+			do {
+				LocalDateTime now = LocalDateTime.now();
+				rows = transactionTemplate.execute(status -> claim(now));
+				if (rows == null || rows.isEmpty()) {
+					return;
+				}
+				deliver(rows, now);
+			} while (rows.size() == batchSize);
+		} catch (DataAccessException e) {
+			log.warn("outbox 폴링 실패", e);
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${notification.outbox.purge-interval:600000}")
+	public void purge() {
+		try {
+			LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+			Integer deleted;
+			do {
+				deleted = transactionTemplate.execute(status ->
+						outboxRepository.deleteProcessedBefore(cutoff, PURGE_BATCH_SIZE));
+			} while (deleted != null && deleted == PURGE_BATCH_SIZE);
+		} catch (DataAccessException e) {
+			log.warn("outbox 정리 실패", e);
+		}
+	}
+
+	/** 전송할 행을 잠가 lease 를 걸고 커밋 → 잠금과 커넥션은 전송(Redis 발행 등 I/O) 전에 반환 */
+	private List<NotificationOutbox> claim(LocalDateTime now) {
+		List<NotificationOutbox> rows = outboxRepository.findDeliverableForUpdate(now, batchSize);
+		rows.forEach(row -> row.lease(now.plus(retryBackoff)));
+		return rows;
+	}
+
+	/** 트랜잭션 밖에서 전송 후 성공한 행만 한 번에 처리 완료 표시, 실패한 행은 lease 가 끝나면 재시도 */
+	private void deliver(List<NotificationOutbox> rows, LocalDateTime claimedAt) {
+		List<Long> deliveredIds = new ArrayList<>(rows.size());
+		for (NotificationOutbox row : rows) {
+			try {
+				notificationDispatcher.dispatchAll(row.getReceiverId(), toPayloads(row.getPayload()));
+				deliveredIds.add(row.getId());
+				redelivered.increment();
+				if (row.getCreatedAt() != null) {
+					lag.record(Duration.between(row.getCreatedAt(), claimedAt));
+				}
+			} catch (RuntimeException e) {
+				log.warn("outbox 재전송 실패 - outboxId: {}, attempts: {}", row.getId(), row.getAttempts(), e);
+				failed.increment();
+			}
+		}
+		if (!deliveredIds.isEmpty()) {
+			transactionTemplate.execute(status ->
+					outboxRepository.markAllProcessed(deliveredIds, LocalDateTime.now()));
+		}
+	}
+
+	private String toJson(List<NotificationResponse> notifications) {
+		try {
+			return objectMapper.writeValueAsString(notifications);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("outbox 직렬화 실패", e);
+		}
+	}
+
+	/** 응답 객체로 되돌리지 않고 JSON 그대로 전송 → 클라이언트가 받는 형태 동일 */
+	private List<JsonNode> toPayloads(String payload) {
+		try {
+			List<JsonNode> payloads = new ArrayList<>();
+			objectMapper.readTree(payload).forEach(payloads::add);
+			return payloads;
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("outbox 역직렬화 실패", e);
+		}
+	}
+}
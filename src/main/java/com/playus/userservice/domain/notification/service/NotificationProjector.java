@@ -0,0 +1,152 @@
+package com.playus.userservice.domain.notification.service;
+
+import com.playus.userservice.domain.notification.dto.response.NotificationResponse;
+import com.playus.userservice.domain.notification.event.NotificationCreatedEvent;
+import com.playus.userservice.domain.notification.event.RecentNotificationsChangedEvent;
+import com.playus.userservice.domain.user.document.NotificationDocument;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * MySQL 알림 변경 → Mongo 읽기 모델(notifications 컬렉션) 반영
+ * - 생성 / 읽음: 커밋 후 이벤트로 반영 (롤백 시 호출되지 않음)
+ * - 삭제 / 묶음 갱신: 청크 커밋, 스케줄러에서 일어나므로 호출 측이 직접 호출
+ * - 반영 실패는 로그 + 메트릭만 남김 → 읽음 / 삭제는 부분 갱신이라 다음 변경으로 맞춰지지 않으므로
+ *   {@link NotificationReadModelSync} 의 주기적 id 범위 비교로 복구
+ */
+@Slf4j
+@Component
+public class NotificationProjector {
+
+	private final MongoTemplate mongoTemplate;
+	private final Counter failures;
+
+	public NotificationProjector(MongoTemplate mongoTemplate, MeterRegistry meterRegistry) {
+		this.mongoTemplate = mongoTemplate;
+		this.failures = Counter.builder("notification.read-model.projection.failures")
+				.description("Mongo 읽기 모델 반영 실패 수")
+				.register(meterRegistry);
+	}
+
+	/** auto-index-creation 을 켜지 않으므로 기동 시 NotificationDocument 의 인덱스 보장 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void ensureIndexes() {
+		try {
+			IndexOperations indexOps = mongoTemplate.indexOps(NotificationDocument.class);
+			new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext())
+					.resolveIndexFor(NotificationDocument.class)
+					.forEach(indexOps::ensureIndex);
+		} catch (DataAccessException e) {
+			log.warn("알림 읽기 모델 인덱스 생성 실패", e);
+		}
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onNotificationCreated(NotificationCreatedEvent event) {
+		upsert(event.receiverId(), event.notifications());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onNotificationsChanged(RecentNotificationsChangedEvent event) {
+		switch (event.type()) {
+			case READ     -> markRead(event.userId(), event.notificationIds());
+			case READ_ALL -> markAllRead(event.userId());
+			case EVICT    -> { }    // 삭제 / 묶음 갱신은 호출 측이 직접 반영
+		}
+	}
+
+	/** 같은 id 문서는 통째로 교체 → 재전송 / 묶음 갱신도 최종 상태로 수렴 */
+	public void upsert(Long receiverId, List<NotificationResponse> notifications) {
+		if (notifications.isEmpty()) {
+			return;
+		}
+		try {
+			BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, NotificationDocument.class);
+			LocalDateTime now = LocalDateTime.now();
+			for (NotificationResponse n : notifications) {
+				bulk.replaceOne(byId(n.id()), toDocument(receiverId, n, now), FindAndReplaceOptions.options().upsert());
+			}
+			bulk.execute();
+		} catch (DataAccessException e) {
+			fail("upsert", "userId=" + receiverId, e);
+		}
+	}
+
+	public void markRead(Long receiverId, Collection<Long> notificationIds) {
+		updateRead(receiverId, Criteria.where("receiver_id").is(receiverId).and("_id").in(notificationIds));
+	}
+
+	public void markAllRead(Long receiverId) {
+		updateRead(receiverId, Criteria.where("receiver_id").is(receiverId).and("is_read").is(false));
+	}
+
+	public void deleteAllByReceiverId(Long receiverId) {
+		try {
+			mongoTemplate.remove(Query.query(Criteria.where("receiver_id").is(receiverId)), NotificationDocument.class);
+		} catch (DataAccessException e) {
+			fail("delete", "userId=" + receiverId, e);
+		}
+	}
+
+	public void deleteAllByCommentId(Long commentId) {
+		try {
+			mongoTemplate.remove(Query.query(Criteria.where("comment_id").is(commentId)), NotificationDocument.class);
+		} catch (DataAccessException e) {
+			fail("delete", "commentId=" + commentId, e);
+		}
+	}
+
+	private void updateRead(Long receiverId, Criteria criteria) {
+		try {
+			mongoTemplate.updateMulti(Query.query(criteria),
+					Update.update("is_read", true).set("updated_at", LocalDateTime.now()),
+					NotificationDocument.class);
+		} catch (DataAccessException e) {
+			fail("read", "userId=" + receiverId, e);
+		}
+	}
+
+	private void fail(String operation, String target, DataAccessException e) {
+		failures.increment();
+		log.warn("알림 읽기 모델 반영 실패({}) - {}", operation, target, e);
+	}
+
+	private static Query byId(Long id) {
+		return Query.query(Criteria.where("_id").is(id));
+	}
+
+	static NotificationDocument toDocument(Long receiverId, NotificationResponse n, LocalDateTime now) {
+		return NotificationDocument.builder()
+				.id(n.id())
+				.title(n.title())
+				.content(n.content())
+				.commentId(n.commentId())
+				.partyId(n.partyId())
+				.actorId(n.actorId())
+				.receiverId(receiverId)
+				.isRead(n.isRead())
+				.type(n.type())
+				.createdAt(n.createdAt())
+				.updatedAt(now)
+				.build();
+	}
+}
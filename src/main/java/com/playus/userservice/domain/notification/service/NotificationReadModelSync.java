@@ -0,0 +1,254 @@
+package com.playus.userservice.domain.notification.service;
+
+import com.playus.userservice.domain.notification.dto.response.NotificationResponse;
+import com.playus.userservice.domain.user.document.NotificationDocument;
+import com.playus.userservice.domain.user.entity.Notification;
+import com.playus.userservice.domain.user.repository.write.NotificationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * MySQL → Mongo 읽기 모델 backfill + 복구
+ * - backfill: 읽기 모델 도입 전 알림을 id 순 청크로 옮김, 진행 위치는 Mongo 에 기록 → 재시작 / 여러 파드가 이어서 진행
+ *   이미 있는 문서는 건드리지 않음 (커밋 후 반영된 최신 상태를 먼저 읽어 둔 청크로 덮어쓰지 않도록)
+ * - 완료 전에는 {@link NotificationReadService} 가 MySQL 에서 조회 → 빈 읽기 모델로 목록 / 안 읽은 개수가 틀리지 않음
+ * - 복구: 완료 후 id 범위를 순회하며 MySQL 과 비교, 반영 실패로 빠졌거나 다른 문서는 다시 쓰고 MySQL 에 없는 문서는 삭제
+ *   grace 안에 바뀐 행 / 문서는 반영 중일 수 있으므로 다음 순회로 미룸
+ *   마지막 청크에서는 MySQL 최대 id 보다 큰 문서도 함께 비교 → 끝부분에서 삭제된 알림의 문서도 정리
+ *   Redis lease 를 가진 한 파드만 순회 → 파드 수만큼 MySQL 을 훑지 않음 (Redis 장애 시 건너뜀)
+ */
+@Slf4j
+@Component
+public class NotificationReadModelSync {
+
+	private static final String STATE_COLLECTION = "read_model_state";
+	private static final String STATE_ID = "notifications";
+	private static final String REPAIR_LEASE_KEY = "notification:read-model:repair-lease";
+
+	private final NotificationRepository notificationRepository;
+	private final MongoTemplate mongoTemplate;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ClusterNode clusterNode;
+	private final boolean backfillEnabled;
+	private final int backfillChunkSize;
+	private final int repairChunkSize;
+	private final Duration repairGrace;
+	private final Duration repairLease;
+	private final Counter backfilled;
+	private final Counter repaired;
+
+	private volatile boolean completed;
+	/** 복구 순회 위치 (파드 로컬, 끝에 닿으면 처음부터) - 스케줄러 스레드에서만 접근 */
+	private long repairCursor;
+
+	public NotificationReadModelSync(
+			NotificationRepository notificationRepository,
+			MongoTemplate mongoTemplate,
+			RedisTemplate<String, String> redisTemplate,
+			ClusterNode clusterNode,
+			MeterRegistry meterRegistry,
+			@Value("${notification.read-model.backfill.enabled:true}") boolean backfillEnabled,
+			@Value("${notification.read-model.backfill.chunk-size:1000}") int backfillChunkSize,
+			@Value("${notification.read-model.repair.chunk-size:500}") int repairChunkSize,
+			@Value("${notification.read-model.repair.grace:1m}") Duration repairGrace,
+			@Value("${notification.read-model.repair.lease:1m}") Duration repairLease) {
+		this.notificationRepository = notificationRepository;
+		this.mongoTemplate = mongoTemplate;
+		this.redisTemplate = redisTemplate;
+		this.clusterNode = clusterNode;
+		this.backfillEnabled = backfillEnabled;
+		this.backfillChunkSize = backfillChunkSize;
+		this.repairChunkSize = repairChunkSize;
+		this.repairGrace = repairGrace;
+		this.repairLease = repairLease;
+		this.backfilled = Counter.builder("notification.read-model.backfilled")
+				.description("backfill 로 읽기 모델에 옮긴 알림 수 (이미 있던 문서 포함)")
+				.register(meterRegistry);
+		this.repaired = Counter.builder("notification.read-model.repaired")
+				.description("MySQL 과 달라 다시 쓰거나 삭제한 읽기 모델 문서 수")
+				.register(meterRegistry);
+	}
+
+	/** backfill 이 끝나 읽기 모델에 모든 알림이 있음 */
+	public boolean isBackfilled() {
+		return completed;
+	}
+
+	/** 한 주기에 한 청크 - 다른 파드가 끝냈으면 완료 표시만 확인 */
+	@Scheduled(fixedDelayString = "${notification.read-model.backfill.interval:1000}")
+	public void backfill() {
+		if (completed) {
+			return;
+		}
+		try {
+			Document state = mongoTemplate.findById(STATE_ID, Document.class, STATE_COLLECTION);
+			if (state != null && state.getBoolean("completed", false)) {
+				completed = true;
+				log.info("알림 읽기 모델 backfill 완료 확인");
+				return;
+			}
+			if (!backfillEnabled) {
+				return;
+			}
+
+			Number lastId = state == null ? null : state.get("last_id", Number.class);
+			List<Notification> rows = notificationRepository.findChunkAfterId(
+					lastId == null ? 0L : lastId.longValue(), Limit.of(backfillChunkSize));
+			if (rows.isEmpty()) {
+				// 진행 위치는 청크를 쓴 뒤에만 올라가므로 빈 청크 = 모든 알림 반영
+				mongoTemplate.upsert(stateQuery(),
+						Update.update("completed", true).set("completed_at", LocalDateTime.now()), STATE_COLLECTION);
+				completed = true;
+				log.info("알림 읽기 모델 backfill 완료 - lastId: {}", lastId);
+				return;
+			}
+
+			insertMissing(rows);
+			mongoTemplate.upsert(stateQuery(), new Update().max("last_id", rows.get(rows.size() - 1).getId()),
+					STATE_COLLECTION);
+			backfilled.increment(rows.size());
+		} catch (DataAccessException e) {
+			log.warn("알림 읽기 모델 backfill 실패 - 다음 주기에 이어서 진행", e);
+		}
+	}
+
+	/** 한 주기에 한 id 범위 비교 (backfill 완료 후, lease 를 가진 파드만) */
+	@Scheduled(fixedDelayString = "${notification.read-model.repair.interval:10000}")
+	public void repair() {
+		if (!completed) {
+			return;
+		}
+		try {
+			if (!holdsRepairLease()) {
+				return;
+			}
+			List<Notification> rows = notificationRepository.findChunkAfterId(repairCursor, Limit.of(repairChunkSize));
+			long fromId = repairCursor;
+			boolean last = rows.size() < repairChunkSize;
+			long toId = rows.isEmpty() ? fromId : rows.get(rows.size() - 1).getId();
+			repairCursor = last ? 0L : toId;
+
+			// 마지막 청크는 위쪽을 열어 MySQL 최대 id 보다 큰 문서까지 (한 번에 청크 크기만큼)
+			Query range = last
+					? Query.query(Criteria.where("_id").gt(fromId))
+							.with(Sort.by(Sort.Direction.ASC, "_id"))
+							.limit(rows.size() + repairChunkSize)
+					: Query.query(Criteria.where("_id").gt(fromId).lte(toId));
+			Map<Long, NotificationDocument> documents = mongoTemplate.find(range, NotificationDocument.class)
+					.stream()
+					.collect(Collectors.toMap(NotificationDocument::getId, Function.identity()));
+			LocalDateTime now = LocalDateTime.now();
+			LocalDateTime settled = now.minus(repairGrace);
+
+			BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, NotificationDocument.class);
+			int fixes = 0;
+			for (Notification n : rows) {
+				NotificationDocument current = documents.remove(n.getId());
+				if (isRecent(n.getUpdatedAt(), settled) || (current != null && isRecent(current.getUpdatedAt(), settled))) {
+					continue;
+				}
+				NotificationDocument expected = NotificationProjector.toDocument(
+						n.getReceiver().getId(), NotificationResponse.from(n), now);
+				if (current == null || !matches(current, expected)) {
+					bulk.replaceOne(byId(n.getId()), expected, FindAndReplaceOptions.options().upsert());
+					fixes++;
+				}
+			}
+			// 범위 안에 남은 문서 = MySQL 에서 삭제됐는데 반영되지 않은 문서 (마지막 청크면 최대 id 위쪽 포함)
+			List<Long> orphanIds = documents.values().stream()
+					.filter(d -> !isRecent(d.getUpdatedAt(), settled))
+					.map(NotificationDocument::getId)
+					.toList();
+			if (!orphanIds.isEmpty()) {
+				bulk.remove(Query.query(Criteria.where("_id").in(orphanIds)));
+				fixes += orphanIds.size();
+			}
+
+			if (fixes > 0) {
+				bulk.execute();
+				repaired.increment(fixes);
+				log.info("알림 읽기 모델 복구 - ids: ({}, {}], 마지막 청크: {}, 문서: {}", fromId, toId, last, fixes);
+			}
+		} catch (DataAccessException e) {
+			log.warn("알림 읽기 모델 복구 실패 - 다음 주기에 다시 시도", e);
+		}
+	}
+
+	/** lease 가 비었으면 잡고, 이미 가진 파드면 연장 - 가진 파드가 죽으면 만료 후 다른 파드가 이어받음 */
+	private boolean holdsRepairLease() {
+		String owner = clusterNode.getId();
+		if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(REPAIR_LEASE_KEY, owner, repairLease))) {
+			return true;
+		}
+		if (owner.equals(redisTemplate.opsForValue().get(REPAIR_LEASE_KEY))) {
+			redisTemplate.expire(REPAIR_LEASE_KEY, repairLease);
+			return true;
+		}
+		return false;
+	}
+
+	/** 없는 문서만 생성 ($setOnInsert) */
+	private void insertMissing(List<Notification> rows) {
+		BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, NotificationDocument.class);
+		LocalDateTime now = LocalDateTime.now();
+		for (Notification n : rows) {
+			Document fields = new Document();
+			mongoTemplate.getConverter().write(
+					NotificationProjector.toDocument(n.getReceiver().getId(), NotificationResponse.from(n), now), fields);
+			Update update = new Update();
+			fields.forEach((key, value) -> {
+				if (!"_id".equals(key)) {
+					update.setOnInsert(key, value);
+				}
+			});
+			bulk.upsert(byId(n.getId()), update);
+		}
+		bulk.execute();
+	}
+
+	private static boolean matches(NotificationDocument current, NotificationDocument expected) {
+		return Objects.equals(current.getReceiverId(), expected.getReceiverId())
+				&& current.isRead() == expected.isRead()
+				&& current.getType() == expected.getType()
+				&& Objects.equals(current.getTitle(), expected.getTitle())
+				&& Objects.equals(current.getContent(), expected.getContent())
+				&& Objects.equals(current.getCommentId(), expected.getCommentId())
+				&& Objects.equals(current.getPartyId(), expected.getPartyId())
+				&& Objects.equals(current.getActorId(), expected.getActorId());
+	}
+
+	private static boolean isRecent(LocalDateTime updatedAt, LocalDateTime settled) {
+		return updatedAt != null && updatedAt.isAfter(settled);
+	}
+
+	private static Query stateQuery() {
+		return Query.query(Criteria.where("_id").is(STATE_ID));
+	}
+
+	private static Query byId(Long id) {
+		return Query.query(Criteria.where("_id").is(id));
+	}
+}
@@ -0,0 +1,122 @@
+package com.playus.userservice.domain.notification.service;
+
+import com.playus.userservice.domain.notification.dto.request.NotificationCursor;
+import com.playus.userservice.domain.notification.dto.response.NotificationResponse;
+import com.playus.userservice.domain.user.entity.User;
+import com.playus.userservice.domain.user.repository.read.NotificationReadOnlyRepository;
+import com.playus.userservice.domain.user.repository.write.NotificationRepository;
+import com.playus.userservice.domain.user.repository.write.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 알림 조회 - Mongo 읽기 모델(notifications 컬렉션) 기준
+ * - 쓰기는 MySQL, 커밋 후 {@link NotificationProjector} 가 반영 → 잠깐 늦게 보일 수 있음
+ * - notification.read-model.enabled 를 켜고 backfill 이 끝나기 전까지는 MySQL 에서 조회
+ *   (기존 알림이 빠진 읽기 모델로 목록 / 안 읽은 개수 카운터가 틀어지지 않도록)
+ * - Mongo 장애 시 MySQL 로 대체
+ * - 유저 존재 여부는 결과가 비었을 때만 MySQL 로 확인 → 대부분의 조회는 MySQL 커넥션을 쓰지 않음
+ */
+@Slf4j
+@Service
+public class NotificationReadService {
+
+	private final NotificationReadOnlyRepository notificationReadOnlyRepository;
+	private final NotificationRepository notificationRepository;
+	private final UserRepository userRepository;
+	private final NotificationReadModelSync notificationReadModelSync;
+	private final boolean readModelEnabled;
+	private final Counter fallbacks;
+
+	public NotificationReadService(
+			NotificationReadOnlyRepository notificationReadOnlyRepository,
+			NotificationRepository notificationRepository,
+			UserRepository userRepository,
+			NotificationReadModelSync notificationReadModelSync,
+			MeterRegistry meterRegistry,
+			@Value("${notification.read-model.enabled:false}") boolean readModelEnabled) {
+		this.notificationReadOnlyRepository = notificationReadOnlyRepository;
+		this.notificationRepository = notificationRepository;
+		this.userRepository = userRepository;
+		this.notificationReadModelSync = notificationReadModelSync;
+		this.readModelEnabled = readModelEnabled;
+		this.fallbacks = Counter.builder("notification.read-model.fallback")
+				.description("Mongo 읽기 모델 장애로 MySQL 에서 조회한 수")
+				.register(meterRegistry);
+	}
+
+	/** 커서 이후 알림을 최신순으로 limit 건 */
+	public List<NotificationResponse> findPage(Long userId, NotificationCursor after, Limit limit, boolean unreadOnly) {
+		List<NotificationResponse> page = read(userId,
+				() -> (unreadOnly
+						? notificationReadOnlyRepository.findUnreadPageByReceiverId(userId, after.createdAt(), after.id(), limit)
+						: notificationReadOnlyRepository.findPageByReceiverId(userId, after.createdAt(), after.id(), limit))
+						.stream().map(NotificationResponse::from).toList(),
+				() -> (unreadOnly
+						? notificationRepository.findUnreadPageByReceiverId(
+								userId, after.createdAt(), after.createdAtMillisEnd(), after.id(), limit)
+						: notificationRepository.findPageByReceiverId(
+								userId, after.createdAt(), after.createdAtMillisEnd(), after.id(), limit))
+						.stream().map(NotificationResponse::from).toList());
+		if (page.isEmpty()) {
+			ensureUserExists(userId);
+		}
+		return page;
+	}
+
+	/** 최근 3개 */
+	public List<NotificationResponse> findRecent(Long userId) {
+		List<NotificationResponse> recent = read(userId,
+				() -> notificationReadOnlyRepository.findTop3ByReceiverIdOrderByCreatedAtDescIdDesc(userId).stream()
+						.map(NotificationResponse::from)
+						.toList(),
+				() -> notificationRepository.findTop3ByReceiverOrderByCreatedAtDesc(findUser(userId)).stream()
+						.map(NotificationResponse::from)
+						.toList());
+		if (recent.isEmpty()) {
+			ensureUserExists(userId);
+		}
+		return recent;
+	}
+
+	public long countUnread(Long userId) {
+		return read(userId,
+				() -> notificationReadOnlyRepository.countByReceiverIdAndIsReadFalse(userId),
+				() -> notificationRepository.countUnreadByReceiverId(userId));
+	}
+
+	private <T> T read(Long userId, Supplier<T> readModel, Supplier<T> writeModel) {
+		if (!readModelEnabled || !notificationReadModelSync.isBackfilled()) {
+			return writeModel.get();
+		}
+		try {
+			return readModel.get();
+		} catch (DataAccessException e) {
+			fallbacks.increment();
+			log.warn("알림 읽기 모델 조회 실패, MySQL 로 대체 - userId: {}", userId, e);
+			return writeModel.get();
+		}
+	}
+
+	private void ensureUserExists(Long userId) {
+		if (!userRepository.existsById(userId)) {
+			throw new ResponseStatusException(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다.");
+		}
+	}
+
+	private User findUser(Long userId) {
+		return userRepository.findById(userId)
+				.orElseThrow(() -> new ResponseStatusException(
+						HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다."));
+	}
+}
@@ -1,10 +1,22 @@
 package com.playus.userservice.domain.notification.service;
 
+import com.playus.userservice.domain.notification.dto.request.NotificationCursor;
+import com.playus.userservice.domain.notification.dto.response.NotificationBatchResponse;
+import com.playus.userservice.domain.notification.dto.response.NotificationPageResponse;
 import com.playus.userservice.domain.notification.dto.response.NotificationResponse;
-import com.playus.userservice.domain.notification.repository.EmitterRepository;
+import com.playus.userservice.domain.notification.dto.response.ReadCountResponse;
+import com.playus.userservice.domain.notification.dto.response.UnreadCountResponse;
+import com.playus.userservice.domain.notification.event.NotificationCreatedEvent;
+import com.playus.userservice.domain.notification.event.RecentNotificationsChangedEvent;
+import com.playus.userservice.domain.notification.event.UnreadCountChangedEvent;
+import com.playus.userservice.domain.notification.repository.EventCacheRepository;
+import com.playus.userservice.domain.notification.repository.SseConnection;
 import com.playus.userservice.domain.user.feign.response.PartyNotificationEvent;
+import com.playus.userservice.domain.user.feign.response.PartyNotificationFanoutEvent;
+import com.playus.userservice.domain.user.repository.write.NotificationContentRepository;
 import com.playus.userservice.domain.user.repository.write.NotificationRepository;
 import com.playus.userservice.domain.user.entity.Notification;
+import com.playus.userservice.domain.user.entity.NotificationContent;
 import com.playus.userservice.domain.user.entity.User;
 import com.playus.userservice.domain.user.enums.NotificationType;
 import com.playus.userservice.domain.user.feign.response.CommentNotificationEvent;
@@ -12,14 +24,25 @@ import com.playus.userservice.domain.user.repository.write.UserRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -29,47 +52,74 @@ public class NotificationService {
 
 	/** 1시간  */
 	private static final Long DEFAULT_TIMEOUT = 60L * 60 * 1000;
+	/** 배치 요청 1회 최대 건수 */
+	private static final int MAX_BATCH_SIZE = 500;
+	/** 목록 페이지 크기 기본값 / 상한 */
+	private static final int DEFAULT_PAGE_SIZE = 20;
+	private static final int MAX_PAGE_SIZE = 50;
 
 	private final UserRepository userRepository;
 	private final NotificationRepository notificationRepository;
-	private final EmitterRepository emitterRepository;
+	private final NotificationContentRepository notificationContentRepository;
+	private final EventCacheRepository eventCacheRepository;
+	private final NotificationDispatcher notificationDispatcher;
+	private final ApplicationEventPublisher eventPublisher;
+	private final SseHeartbeat sseHeartbeat;
+	private final UnreadCountService unreadCountService;
+	private final NotificationCleaner notificationCleaner;
+	private final NotificationCoalescer notificationCoalescer;
+	private final NotificationOutboxService notificationOutboxService;
+	private final SseAdmissionController sseAdmissionController;
+	private final RecentNotificationService recentNotificationService;
+	private final NotificationReadService notificationReadService;
+	private final NotificationProjector notificationProjector;
 
 	// SSE 구독 (CONNECT)
 	public SseEmitter subscribe(Long userId, String lastEventId) {
 
-		emitterRepository.deleteAllEmitterStartWithId(userId.toString());
-		emitterRepository.deleteAllEventCacheStartWithId(userId.toString());
+		// 한도 초과 시 emitter 를 만들기 전에 503
+		sseAdmissionController.admit(userId);
+		notificationDispatcher.evictOldest(userId, sseAdmissionController.maxPerUser() - 1,
+				sseAdmissionController.evictedRetry());
 
 		String emitterId = userId + "_" + System.currentTimeMillis();
-		SseEmitter emitter = emitterRepository.save(emitterId, new SseEmitter(DEFAULT_TIMEOUT));
+		SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
+		SseConnection connection = notificationDispatcher.connect(userId, emitterId, emitter);
+		sseHeartbeat.register(connection);
 
 		// 자동 정리
-		emitter.onCompletion(() -> cleanup(emitterId));
-		emitter.onTimeout   (() -> cleanup(emitterId));
+		emitter.onCompletion(() -> release(connection));
+		emitter.onTimeout   (() -> release(connection));
 
-		// 더미 이벤트 전송
-		send(emitter, emitterId, "EventStream Created. [userId=" + userId + "]");
+		// 더미 이벤트 전송 (id 없이 보내야 클라이언트의 Last-Event-ID 가 유지됨)
+		connection.enqueue(SseEmitter.event().data("EventStream Created. [userId=" + userId + "]"));
 
 		// 끊겼던 ID 이후 이벤트 재전송
-		if (lastEventId != null && !lastEventId.isEmpty()) {
-			Map<String, Object> cache = emitterRepository.findAllEventCacheStartWithByUserId(userId.toString());
-			cache.entrySet().stream()
-					.filter(e -> e.getKey().compareTo(lastEventId) > 0)
-					.forEach(e -> send(emitter, e.getKey(), e.getValue()));
+		Long lastSeenId = parseEventId(lastEventId);
+		if (lastSeenId != null) {
+			eventCacheRepository.findAllByUserIdAfter(userId, lastSeenId)
+					.forEach(e -> connection.enqueue(notificationDispatcher.toSseEvent(e)));
 		}
 
 		return emitter;
 	}
 
-	// 특정 유저의 모든 알림 삭제 + SSE 연결 종료
-	@Transactional
+	private void release(SseConnection connection) {
+		notificationDispatcher.disconnect(connection.getUserId(), connection.getEmitterId());
+		sseHeartbeat.unregister(connection);
+	}
+
+	// 특정 유저의 모든 알림 삭제 + SSE 연결 종료 (청크 단위로 커밋되도록 트랜잭션 없이 실행)
 	public void delete(Long userId) {
-		User user = userRepository.findById(userId)
-				.orElseThrow(() -> new ResponseStatusException(
-						HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다."));
-		emitterRepository.deleteAllEmitterStartWithId(userId.toString());
-		emitterRepository.deleteAllEventCacheStartWithId(userId.toString());
-		notificationRepository.deleteAllByReceiver(user);
+		if (!userRepository.existsById(userId)) {
+			throw new ResponseStatusException(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다.");
+		}
+		notificationDispatcher.disconnectAll(userId);
+		eventCacheRepository.deleteAllByUserId(userId);
+		notificationCleaner.deleteAllByReceiverId(userId);
+		notificationProjector.deleteAllByReceiverId(userId);
+		eventPublisher.publishEvent(UnreadCountChangedEvent.reset(userId));
+		eventPublisher.publishEvent(RecentNotificationsChangedEvent.evict(userId));
 	}
 
 	// 알림 읽음 처리
@@ -83,31 +133,58 @@ public class NotificationService {
 			throw new ResponseStatusException(
 					HttpStatus.BAD_REQUEST, "해당 알림을 읽을 수 없습니다.");
 		}
-		n.markAsRead();
+		if (!n.isRead()) {
+			n.markAsRead();
+			eventPublisher.publishEvent(UnreadCountChangedEvent.decreased(userId, 1));
+			eventPublisher.publishEvent(RecentNotificationsChangedEvent.read(userId, Set.of(notificationId)));
+		}
 	}
 
-	// 전체 알림 조회
+	// 알림 여러 건 읽음 처리
 	@Transactional
-	public List<NotificationResponse> getNotifications(Long userId) {
-		User user = userRepository.findById(userId)
-				.orElseThrow(() -> new ResponseStatusException(
-						HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다."));
-
-		return notificationRepository.findAllByReceiver(user).stream()
-				.map(NotificationResponse::from)
-				.collect(Collectors.toList());
+	public ReadCountResponse readNotifications(Long userId, List<Long> notificationIds) {
+		Set<Long> ids = Set.copyOf(notificationIds);
+		int updated = notificationRepository.markAsReadByIds(userId, ids, LocalDateTime.now());
+		publishRead(userId, updated, RecentNotificationsChangedEvent.read(userId, ids));
+		return new ReadCountResponse(updated);
 	}
 
-	// 최근 3개 알림 조회
+	// 전체 읽음 처리
 	@Transactional
-	public List<NotificationResponse> getRecentNotifications(Long userId) {
-		User user = userRepository.findById(userId)
-				.orElseThrow(() -> new ResponseStatusException(
-						HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다."));
+	public ReadCountResponse readAllNotifications(Long userId) {
+		int updated = notificationRepository.markAllAsRead(userId, LocalDateTime.now());
+		publishRead(userId, updated, RecentNotificationsChangedEvent.readAll(userId));
+		return new ReadCountResponse(updated);
+	}
+
+	// 알림 목록 조회 (keyset 페이징, Mongo 읽기 모델)
+	public NotificationPageResponse getNotifications(Long userId, String cursor, int size, boolean unreadOnly) {
+		NotificationCursor after = NotificationCursor.parse(cursor);
+		int pageSize = (size < 1) ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+		// 한 건 더 조회해 다음 페이지 유무 판단
+		Limit limit = Limit.of(pageSize + 1);
+
+		List<NotificationResponse> rows = notificationReadService.findPage(userId, after, limit, unreadOnly);
+
+		boolean hasNext = rows.size() > pageSize;
+		List<NotificationResponse> page = hasNext ? rows.subList(0, pageSize) : rows;
+		String nextCursor = null;
+		if (hasNext) {
+			NotificationResponse last = page.get(page.size() - 1);
+			nextCursor = new NotificationCursor(last.createdAt(), last.id()).encode();
+		}
 
-		return notificationRepository.findTop3ByReceiverOrderByCreatedAtDesc(user).stream()
-				.map(NotificationResponse::from)
-				.collect(Collectors.toList());
+		return new NotificationPageResponse(page, nextCursor, hasNext);
+	}
+
+	// 안 읽은 알림 개수
+	public UnreadCountResponse getUnreadCount(Long userId) {
+		return new UnreadCountResponse(unreadCountService.getCount(userId));
+	}
+
+	// 최근 3개 알림 조회 (캐시 적중 시 DB 를 거치지 않도록 트랜잭션 없이 실행)
+	public List<NotificationResponse> getRecentNotifications(Long userId) {
+		return recentNotificationService.getRecent(userId);
 	}
 
 	// community
@@ -116,28 +193,44 @@ public class NotificationService {
 
 		if (!e.activated()) return;
 
+		// 같은 게시글의 댓글이 window 안에 몰리면 기존 알림에 합침
+		NotificationCoalescer.Key key = new NotificationCoalescer.Key(e.receiverId(), NotificationType.COMMENT, e.postId());
+		if (notificationCoalescer.mergeIfOpen(key, e.content(), e.writerId())) {
+			eventPublisher.publishEvent(RecentNotificationsChangedEvent.evict(e.receiverId()));
+			return;
+		}
+
 		User receiver = userRepository.findById(e.receiverId())
 				.orElseThrow(() -> new ResponseStatusException(
 						HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다."));
 
-		Notification n = Notification.builder()
-				.receiver(receiver)
-				.title("새 댓글이 등록되었습니다.")
-				.content(e.content())
-				.commentId(e.commentId())
-				.partyId(null)
-				.actorId(e.writerId())
-				.isRead(false)
-				.type(NotificationType.COMMENT)
-				.build();
+		Notification n = commentNotification(receiver, e);
 
 		notificationRepository.save(n);
-		dispatchToClient(receiver.getId(), n);
+		publishCreated(Map.of(receiver.getId(), List.of(NotificationResponse.from(n))));
+		notificationCoalescer.open(key, n.getId());
 	}
 
+	// community - 배치
 	@Transactional
+	public NotificationBatchResponse sendCommentNotifications(List<CommentNotificationEvent> events) {
+		return saveBatch(events, CommentNotificationEvent::activated,
+				CommentNotificationEvent::receiverId, this::commentNotification);
+	}
+
+	// 청크 단위로 커밋되도록 트랜잭션 없이 실행
 	public void deleteByCommentId(Long commentId) {
-		notificationRepository.deleteAllByCommentId(commentId);
+		// 안 읽은 알림이 지워지는 유저만 카운터 재계산, 최근 알림 캐시는 읽음 여부와 무관하게 삭제
+		List<Long> affectedUserIds = notificationRepository.findUnreadReceiverIdsByCommentId(commentId);
+		List<Long> receiverIds = notificationRepository.findReceiverIdsByCommentId(commentId);
+		notificationCleaner.deleteAllByCommentId(commentId);
+		notificationProjector.deleteAllByCommentId(commentId);
+		affectedUserIds.forEach(userId -> eventPublisher.publishEvent(UnreadCountChangedEvent.reset(userId)));
+		receiverIds.forEach(userId -> eventPublisher.publishEvent(RecentNotificationsChangedEvent.evict(userId)));
+	}
+
+	public void deleteByCommentIdAsync(Long commentId) {
+		notificationCleaner.submit("commentId=" + commentId, () -> deleteByCommentId(commentId));
 	}
 
 
@@ -145,19 +238,188 @@ public class NotificationService {
 	@Transactional
 	public void createPartyNotification(PartyNotificationEvent e) {
 
+		NotificationCoalescer.Key key = new NotificationCoalescer.Key(e.receiverId(), e.type(), e.partyId());
+		if (notificationCoalescer.mergeIfOpen(key, buildContent(e), e.actorId())) {
+			eventPublisher.publishEvent(RecentNotificationsChangedEvent.evict(e.receiverId()));
+			return;
+		}
+
 		User receiver = userRepository.findById(e.receiverId())
 				.orElseThrow(() -> new ResponseStatusException(
 						HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다."));
 
-		Notification n = Notification.builder()
+		Notification n = partyNotification(receiver, e);
+
+		notificationRepository.save(n);
+		publishCreated(Map.of(receiver.getId(), List.of(NotificationResponse.from(n))));
+		notificationCoalescer.open(key, n.getId());
+	}
+
+	// twp - 배치
+	@Transactional
+	public NotificationBatchResponse createPartyNotifications(List<PartyNotificationEvent> events) {
+		return saveBatch(events, e -> true, PartyNotificationEvent::receiverId, this::partyNotification);
+	}
+
+	// twp - 같은 이벤트를 여러 수신자에게 (팟 멤버 전체 등)
+	@Transactional
+	public NotificationBatchResponse fanoutPartyNotification(PartyNotificationFanoutEvent e) {
+		List<Long> receiverIds = e.receiverIds();
+		if (receiverIds == null || receiverIds.isEmpty() || receiverIds.size() > MAX_BATCH_SIZE) {
+			throw new ResponseStatusException(
+					HttpStatus.BAD_REQUEST, "수신자 수는 1~" + MAX_BATCH_SIZE + "명이어야 합니다.");
+		}
+		if (e.type() == null) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "알림 타입이 필요합니다.");
+		}
+
+		Map<Long, User> receivers = userRepository.findAllById(
+						receiverIds.stream().filter(Objects::nonNull).collect(Collectors.toSet())).stream()
+				.collect(Collectors.toMap(User::getId, Function.identity()));
+
+		NotificationBatchResponse.Item[] results = new NotificationBatchResponse.Item[receiverIds.size()];
+		List<Integer> pendingIndexes = new ArrayList<>();
+		List<User> pendingReceivers = new ArrayList<>();
+		Set<Long> seen = new HashSet<>();
+
+		for (int i = 0; i < receiverIds.size(); i++) {
+			Long receiverId = receiverIds.get(i);
+			User receiver = receivers.get(receiverId);
+			if (receiver == null) {
+				results[i] = new NotificationBatchResponse.Item(i, NotificationBatchResponse.Status.RECEIVER_NOT_FOUND, null);
+			} else if (!seen.add(receiverId)) {
+				results[i] = new NotificationBatchResponse.Item(i, NotificationBatchResponse.Status.SKIPPED, null);
+			} else {
+				pendingIndexes.add(i);
+				pendingReceivers.add(receiver);
+			}
+		}
+		if (pendingReceivers.isEmpty()) {
+			return NotificationBatchResponse.of(List.of(results));
+		}
+
+		// 본문은 한 번만 저장, 수신자 행은 본문 id 만 가진 채 배치 INSERT
+		NotificationContent content = notificationContentRepository.save(NotificationContent.builder()
+				.title(partyTitle(e.type()))
+				.content(buildContent(e.type(), e.partyTitle(), e.requireMessage()))
+				.partyId(e.partyId())
+				.actorId(e.actorId())
+				.type(e.type())
+				.build());
+		List<Notification> pending = pendingReceivers.stream()
+				.map(receiver -> Notification.recipientOf(receiver, content))
+				.toList();
+
+		// JPA 감사 시각과 같이 밀리초까지 (읽기 모델 / 커서와 같은 정밀도)
+		LocalDateTime createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+		List<Long> ids = notificationRepository.batchInsert(pending, createdAt);
+
+		Map<Long, List<NotificationResponse>> byReceiver = new LinkedHashMap<>();
+		for (int k = 0; k < pending.size(); k++) {
+			Notification n = pending.get(k);
+			Long id = ids.get(k);
+			results[pendingIndexes.get(k)] = new NotificationBatchResponse.Item(
+					pendingIndexes.get(k), NotificationBatchResponse.Status.CREATED, id);
+			byReceiver.put(n.getReceiver().getId(), List.of(NotificationResponse.from(n, id, createdAt)));
+		}
+		publishCreated(byReceiver);
+
+		return NotificationBatchResponse.of(List.of(results));
+	}
+
+	/**
+	 * 배치 저장 공통
+	 * - 수신자는 findAllById 한 번으로 조회, 없는 수신자는 항목 단위 실패로 처리
+	 * - JDBC 배치 INSERT 후 수신자별로 묶어 이벤트 발행 (커밋 후 전송)
+	 */
+	private <E> NotificationBatchResponse saveBatch(
+			List<E> events,
+			Predicate<E> activated,
+			Function<E, Long> receiverIdOf,
+			BiFunction<User, E, Notification> toNotification) {
+
+		if (events == null || events.isEmpty() || events.size() > MAX_BATCH_SIZE) {
+			throw new ResponseStatusException(
+					HttpStatus.BAD_REQUEST, "배치 크기는 1~" + MAX_BATCH_SIZE + "건이어야 합니다.");
+		}
+
+		Set<Long> receiverIds = events.stream()
+				.filter(activated)
+				.map(receiverIdOf)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toSet());
+		Map<Long, User> receivers = userRepository.findAllById(receiverIds).stream()
+				.collect(Collectors.toMap(User::getId, Function.identity()));
+
+		NotificationBatchResponse.Item[] results = new NotificationBatchResponse.Item[events.size()];
+		List<Integer> pendingIndexes = new ArrayList<>();
+		List<Notification> pending = new ArrayList<>();
+
+		for (int i = 0; i < events.size(); i++) {
+			E e = events.get(i);
+			if (!activated.test(e)) {
+				results[i] = new NotificationBatchResponse.Item(i, NotificationBatchResponse.Status.SKIPPED, null);
+				continue;
+			}
+			User receiver = receivers.get(receiverIdOf.apply(e));
+			if (receiver == null) {
+				results[i] = new NotificationBatchResponse.Item(i, NotificationBatchResponse.Status.RECEIVER_NOT_FOUND, null);
+				continue;
+			}
+			pendingIndexes.add(i);
+			pending.add(toNotification.apply(receiver, e));
+		}
+
+		LocalDateTime createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+		List<Long> ids = notificationRepository.batchInsert(pending, createdAt);
+
+		Map<Long, List<NotificationResponse>> byReceiver = new LinkedHashMap<>();
+		for (int k = 0; k < pending.size(); k++) {
+			Notification n = pending.get(k);
+			Long id = ids.get(k);
+			results[pendingIndexes.get(k)] = new NotificationBatchResponse.Item(
+					pendingIndexes.get(k), NotificationBatchResponse.Status.CREATED, id);
+			byReceiver.computeIfAbsent(n.getReceiver().getId(), key -> new ArrayList<>())
+					.add(NotificationResponse.from(n, id, createdAt));
+		}
+		publishCreated(byReceiver);
+
+		return NotificationBatchResponse.of(List.of(results));
+	}
+
+	/** 같은 트랜잭션에서 outbox 기록 후 이벤트 발행 → 커밋 후 전송이 실패해도 poller 가 재전송 */
+	private void publishCreated(Map<Long, List<NotificationResponse>> byReceiver) {
+		if (byReceiver.isEmpty()) return;
+
+		Map<Long, Long> outboxIds = notificationOutboxService.append(byReceiver);
+		byReceiver.forEach((receiverId, responses) ->
+				eventPublisher.publishEvent(new NotificationCreatedEvent(outboxIds.get(receiverId), receiverId, responses)));
+	}
+
+	private void publishRead(Long userId, int updated, RecentNotificationsChangedEvent recentChanged) {
+		if (updated > 0) {
+			eventPublisher.publishEvent(UnreadCountChangedEvent.decreased(userId, updated));
+			eventPublisher.publishEvent(recentChanged);
+		}
+	}
+
+	private Notification commentNotification(User receiver, CommentNotificationEvent e) {
+		return Notification.builder()
 				.receiver(receiver)
-				.title(switch (e.type()) {
-					case PARTY_REQUEST  -> "새 참가 요청이 도착했습니다.";
-					case PARTY_JOINED   -> "새로운 참가자가 입장했습니다.";
-					case PARTY_APPROVED -> "직관팟 가입이 승인되었습니다.";
-					case PARTY_REFUSED  -> "직관팟 가입이 거절되었습니다.";
-					default             -> "";
-				})
+				.title("새 댓글이 등록되었습니다.")
+				.content(e.content())
+				.commentId(e.commentId())
+				.partyId(null)
+				.actorId(e.writerId())
+				.isRead(false)
+				.type(NotificationType.COMMENT)
+				.build();
+	}
+
+	private Notification partyNotification(User receiver, PartyNotificationEvent e) {
+		return Notification.builder()
+				.receiver(receiver)
+				.title(partyTitle(e.type()))
 				.content(buildContent(e))
 				.commentId(null)
 				.partyId(e.partyId())
@@ -165,50 +427,46 @@ public class NotificationService {
 				.isRead(false)
 				.type(e.type())
 				.build();
-
-		notificationRepository.save(n);
-		dispatchToClient(receiver.getId(), n);
 	}
 
 
-	private String buildContent(PartyNotificationEvent e) {
-		return switch (e.type()) {
-			case PARTY_REQUEST  -> String.format("'%s' 직관팟에 참가 요청이 왔습니다. 메시지: %s", e.partyTitle(), nullToDash(e.requireMessage()));
-			case PARTY_JOINED   -> String.format("'%s' 직관팟에 새로운 참가자가 입장했습니다.", e.partyTitle());
-			case PARTY_APPROVED -> String.format("'%s' 직관팟 가입이 승인되었습니다.", e.partyTitle());
-			case PARTY_REFUSED  -> String.format("'%s' 직관팟 가입이 거절되었습니다.", e.partyTitle());
+	private String partyTitle(NotificationType type) {
+		return switch (type) {
+			case PARTY_REQUEST  -> "새 참가 요청이 도착했습니다.";
+			case PARTY_JOINED   -> "새로운 참가자가 입장했습니다.";
+			case PARTY_APPROVED -> "직관팟 가입이 승인되었습니다.";
+			case PARTY_REFUSED  -> "직관팟 가입이 거절되었습니다.";
 			default             -> "";
 		};
 	}
 
-	private String nullToDash(String s) {
-		return (s == null || s.isBlank()) ? "-" : s;
+	private String buildContent(PartyNotificationEvent e) {
+		return buildContent(e.type(), e.partyTitle(), e.requireMessage());
 	}
 
-	private void dispatchToClient(Long receiverId, Notification notification) {
-		String prefix = receiverId.toString();
-		Map<String, SseEmitter> emitters = emitterRepository.findAllEmitterStartWithByUserId(prefix);
-
-		emitters.forEach((key, emitter) -> {
-			emitterRepository.saveEventCache(key, notification);
-			if (send(emitter, key, NotificationResponse.from(notification))) {
-				log.warn("알림 전송 실패 - emitterId: {}", key);
-			}
-		});
+	private String buildContent(NotificationType type, String partyTitle, String requireMessage) {
+		return switch (type) {
+			case PARTY_REQUEST  -> String.format("'%s' 직관팟에 참가 요청이 왔습니다. 메시지: %s", partyTitle, nullToDash(requireMessage));
+			case PARTY_JOINED   -> String.format("'%s' 직관팟에 새로운 참가자가 입장했습니다.", partyTitle);
+			case PARTY_APPROVED -> String.format("'%s' 직관팟 가입이 승인되었습니다.", partyTitle);
+			case PARTY_REFUSED  -> String.format("'%s' 직관팟 가입이 거절되었습니다.", partyTitle);
+			default             -> "";
+		};
 	}
 
-	private void cleanup(String emitterId) {
-		emitterRepository.deleteById(emitterId);
-		emitterRepository.deleteAllEventCacheStartWithId(emitterId);
+	private String nullToDash(String s) {
+		return (s == null || s.isBlank()) ? "-" : s;
 	}
 
-	private boolean send(SseEmitter emitter, String id, Object data) {
+	/** 숫자가 아닌 예전 형식(userId_timestamp)의 id 는 재전송 대상에서 제외 */
+	private Long parseEventId(String lastEventId) {
+		if (lastEventId == null || lastEventId.isBlank()) {
+			return null;
+		}
 		try {
-			emitter.send(SseEmitter.event().id(id).data(data));
-			return false;
-		} catch (IOException e) {
-			cleanup(id);
-			return true;
+			return Long.parseLong(lastEventId.trim());
+		} catch (NumberFormatException e) {
+			return null;
 		}
 	}
 }
@@ -0,0 +1,30 @@
+package com.playus.userservice.domain.notification.service;
+
+import com.playus.userservice.domain.notification.event.NotificationCreatedEvent;
+import com.playus.userservice.domain.notification.event.RecentNotificationsChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/** 커밋된 변경만 최근 알림 캐시에 반영 (롤백 시 호출되지 않음) */
+@Component
+@RequiredArgsConstructor
+public class RecentNotificationListener {
+
+	private final RecentNotificationService recentNotificationService;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onNotificationCreated(NotificationCreatedEvent event) {
+		recentNotificationService.push(event.receiverId(), event.notifications());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onRecentNotificationsChanged(RecentNotificationsChangedEvent event) {
+		switch (event.type()) {
+			case READ     -> recentNotificationService.markRead(event.userId(), event.notificationIds());
+			case READ_ALL -> recentNotificationService.markAllRead(event.userId());
+			case EVICT    -> recentNotificationService.evict(event.userId());
+		}
+	}
+}
@@ -0,0 +1,163 @@
+package com.playus.userservice.domain.notification.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.playus.userservice.domain.notification.dto.response.NotificationResponse;
+import com.playus.userservice.domain.notification.repository.RecentNotificationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * 최근 알림 목록 - Redis LIST 캐시(notification:recent:{userId})
+ * - 조회: LRANGE 한 번, 없으면 읽기 모델 조회 후 저장 / Redis 장애 시 읽기 모델로 대체
+ * - 생성: 커밋 후 캐시가 있는 유저만 앞에 추가, 읽음: 해당 항목만 교체
+ * - 삭제 / 묶음 갱신: 캐시를 지워 다음 조회 시 다시 생성 (빠진 자리는 저장소만 채울 수 있음)
+ */
+@Slf4j
+@Service
+public class RecentNotificationService {
+
+	/** findTop3ByReceiverOrderByCreatedAtDesc 와 같은 크기 */
+	static final int CAPACITY = 3;
+
+	private final RecentNotificationRepository recentNotificationRepository;
+	private final NotificationReadService notificationReadService;
+	private final ObjectMapper objectMapper;
+
+	private final Counter hits;
+	private final Counter misses;
+	private final Counter errors;
+
+	public RecentNotificationService(
+			RecentNotificationRepository recentNotificationRepository,
+			NotificationReadService notificationReadService,
+			ObjectMapper objectMapper,
+			MeterRegistry meterRegistry) {
+		this.recentNotificationRepository = recentNotificationRepository;
+		this.notificationReadService = notificationReadService;
+		this.objectMapper = objectMapper;
+		this.hits = requests(meterRegistry, "hit");
+		this.misses = requests(meterRegistry, "miss");
+		this.errors = requests(meterRegistry, "error");
+	}
+
+	public List<NotificationResponse> getRecent(Long userId) {
+		try {
+			List<NotificationResponse> cached = decode(recentNotificationRepository.findByUserId(userId));
+			if (cached != null) {
+				hits.increment();
+				return cached;
+			}
+			misses.increment();
+		} catch (DataAccessException e) {
+			errors.increment();
+			log.warn("최근 알림 캐시 조회 실패, DB 로 대체 - userId: {}", userId, e);
+			return load(userId);
+		}
+
+		List<NotificationResponse> loaded = load(userId);
+		try {
+			recentNotificationRepository.saveIfUnchanged(userId, encode(loaded));
+		} catch (DataAccessException | JsonProcessingException e) {
+			log.warn("최근 알림 캐시 저장 실패 - userId: {}", userId, e);
+		}
+		return loaded;
+	}
+
+	public void push(Long userId, List<NotificationResponse> created) {
+		try {
+			recentNotificationRepository.pushIfPresent(userId, encode(created), CAPACITY);
+		} catch (DataAccessException | JsonProcessingException e) {
+			log.warn("최근 알림 캐시 추가 실패 - userId: {}", userId, e);
+			evict(userId);
+		}
+	}
+
+	public void markRead(Long userId, Collection<Long> notificationIds) {
+		patchRead(userId, n -> notificationIds.contains(n.id()));
+	}
+
+	public void markAllRead(Long userId) {
+		patchRead(userId, n -> true);
+	}
+
+	public void evict(Long userId) {
+		try {
+			recentNotificationRepository.evict(userId);
+		} catch (DataAccessException e) {
+			log.warn("최근 알림 캐시 삭제 실패 - userId: {}", userId, e);
+		}
+	}
+
+	/** 캐시된 항목 중 대상만 읽음으로 교체, 그 사이 목록이 바뀌어 교체하지 못하면 캐시 삭제 */
+	private void patchRead(Long userId, Predicate<NotificationResponse> target) {
+		try {
+			List<String> cached = recentNotificationRepository.findByUserId(userId);
+			List<NotificationResponse> responses = decode(cached);
+			if (responses == null) {
+				// 캐시가 없음 → 진행 중인 재생성이 읽음 처리 전 상태를 저장하지 않도록 변경 표시
+				recentNotificationRepository.evict(userId);
+				return;
+			}
+
+			List<RecentNotificationRepository.Replacement> replacements = new ArrayList<>();
+			for (int i = 0; i < responses.size(); i++) {
+				NotificationResponse n = responses.get(i);
+				if (!n.isRead() && target.test(n)) {
+					replacements.add(new RecentNotificationRepository.Replacement(
+							i, cached.get(i), objectMapper.writeValueAsString(n.asRead())));
+				}
+			}
+			if (recentNotificationRepository.replaceIfUnchanged(userId, replacements) < replacements.size()) {
+				recentNotificationRepository.evict(userId);
+			}
+		} catch (DataAccessException | JsonProcessingException e) {
+			log.warn("최근 알림 캐시 읽음 반영 실패 - userId: {}", userId, e);
+			evict(userId);
+		}
+	}
+
+	private List<NotificationResponse> load(Long userId) {
+		return notificationReadService.findRecent(userId);
+	}
+
+	private List<String> encode(List<NotificationResponse> responses) throws JsonProcessingException {
+		List<String> values = new ArrayList<>(responses.size());
+		for (NotificationResponse response : responses) {
+			values.add(objectMapper.writeValueAsString(response));
+		}
+		return values;
+	}
+
+	/** 캐시가 없거나 형식이 바뀌어 읽을 수 없으면 null → DB 기준으로 다시 생성 */
+	private List<NotificationResponse> decode(List<String> values) {
+		if (values == null) {
+			return null;
+		}
+		try {
+			List<NotificationResponse> responses = new ArrayList<>(values.size());
+			for (String value : values) {
+				responses.add(objectMapper.readValue(value, NotificationResponse.class));
+			}
+			return responses;
+		} catch (JsonProcessingException e) {
+			log.warn("최근 알림 캐시 형식 오류, 다시 생성", e);
+			return null;
+		}
+	}
+
+	private static Counter requests(MeterRegistry meterRegistry, String result) {
+		return Counter.builder("notification.recent.cache.requests")
+				.tag("result", result)
+				.description("최근 알림 조회 시 캐시 적중 / 미스 / Redis 오류 수")
+				.register(meterRegistry);
+	}
+}
@@ -0,0 +1,135 @@
+package com.playus.userservice.domain.notification.service;
+
+import com.playus.userservice.domain.notification.repository.EmitterRepository;
+import com.playus.userservice.global.exception.RetryLaterException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SSE 연결 수락 제어 (SseEmitter 생성 전에 판단 → 거절된 요청은 비동기 슬롯을 잡지 않음)
+ * - 파드당 최대 연결 수, 초당 신규 연결 수(토큰 버킷) 초과 시 503 + Retry-After
+ * - Retry-After 에 지터를 더해 재연결이 한 시점에 몰리지 않도록 분산
+ * - 유저당 연결 수는 거절하지 않고 오래된 연결부터 정리 (끊긴 줄 모르는 이전 탭 때문에 재연결이 막히지 않도록)
+ *   → 여러 탭이 서로를 밀어내며 재연결을 반복하지 않도록 상한은 탭 여러 개를 허용하고,
+ *     밀려난 연결에는 긴 retry 를 보내 바로 재연결하지 않게 함
+ * - 종료 drain 이 시작되면 모든 신규 연결 거절
+ */
+@Slf4j
+@Component
+public class SseAdmissionController {
+
+	private static final long SECOND_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+	private final EmitterRepository emitterRepository;
+	private final int maxConnections;
+	private final int maxPerUser;
+	private final Duration evictedRetry;
+	private final double maxNewPerSecond;
+	private final long retryAfterSeconds;
+	private final long retryAfterJitterSeconds;
+
+	private final Counter rejectedByPodLimit;
+	private final Counter rejectedByRateLimit;
+	private final Counter rejectedByDraining;
+
+	private volatile boolean accepting = true;
+
+	/** 아래 두 필드는 this 로 보호 */
+	private double tokens;
+	private long refilledAt;
+
+	public SseAdmissionController(
+			EmitterRepository emitterRepository,
+			MeterRegistry meterRegistry,
+			@Value("${notification.sse.admission.max-connections:5000}") int maxConnections,
+			@Value("${notification.sse.admission.max-per-user:3}") int maxPerUser,
+			@Value("${notification.sse.admission.evicted-retry:5m}") Duration evictedRetry,
+			@Value("${notification.sse.admission.max-new-per-second:200}") int maxNewPerSecond,
+			@Value("${notification.sse.admission.retry-after:5s}") Duration retryAfter,
+			@Value("${notification.sse.admission.retry-after-jitter:10s}") Duration retryAfterJitter) {
+		this.emitterRepository = emitterRepository;
+		this.maxConnections = maxConnections;
+		this.maxPerUser = Math.max(1, maxPerUser);
+		this.evictedRetry = evictedRetry;
+		this.maxNewPerSecond = maxNewPerSecond;
+		this.retryAfterSeconds = Math.max(1, retryAfter.toSeconds());
+		this.retryAfterJitterSeconds = retryAfterJitter.toSeconds();
+		this.tokens = maxNewPerSecond;
+		this.refilledAt = System.nanoTime();
+
+		this.rejectedByPodLimit = Counter.builder("notification.sse.admission.rejected")
+				.tag("reason", "pod-limit")
+				.description("수락 제어로 거절된 SSE 연결 요청 수")
+				.register(meterRegistry);
+		this.rejectedByRateLimit = Counter.builder("notification.sse.admission.rejected")
+				.tag("reason", "rate-limit")
+				.description("수락 제어로 거절된 SSE 연결 요청 수")
+				.register(meterRegistry);
+		this.rejectedByDraining = Counter.builder("notification.sse.admission.rejected")
+				.tag("reason", "draining")
+				.description("수락 제어로 거절된 SSE 연결 요청 수")
+				.register(meterRegistry);
+		// HPA 스케일 기준
+		Gauge.builder("notification.sse.connections.active", emitterRepository, EmitterRepository::count)
+				.description("이 파드에 연결된 SSE 연결 수")
+				.register(meterRegistry);
+	}
+
+	/** 수락 불가 시 RetryLaterException (503) */
+	public void admit(Long userId) {
+		if (!accepting) {
+			rejectedByDraining.increment();
+			throw reject("서버가 재시작 중입니다.");
+		}
+		// 같은 유저의 재연결은 기존 연결을 정리하고 들어오므로 그만큼은 빈 자리로 계산
+		int replacing = Math.max(0, emitterRepository.findAllEmitterByUserId(userId).size() - (maxPerUser - 1));
+		if (emitterRepository.count() - replacing >= maxConnections) {
+			rejectedByPodLimit.increment();
+			throw reject("SSE 연결 수가 한도에 도달했습니다.");
+		}
+		if (!tryAcquire()) {
+			rejectedByRateLimit.increment();
+			throw reject("SSE 연결 요청이 많습니다.");
+		}
+	}
+
+	/** 종료 drain 시작 → 이후 연결 요청은 다른 파드로 가도록 503 */
+	public void stopAccepting() {
+		accepting = false;
+	}
+
+	/** 새 연결을 포함한 유저당 최대 연결 수 */
+	public int maxPerUser() {
+		return maxPerUser;
+	}
+
+	/** 상한 초과로 밀려난 연결이 다시 연결하기까지 기다릴 시간 (SSE retry) */
+	public Duration evictedRetry() {
+		return evictedRetry;
+	}
+
+	private synchronized boolean tryAcquire() {
+		long now = System.nanoTime();
+		tokens = Math.min(maxNewPerSecond, tokens + (now - refilledAt) * maxNewPerSecond / SECOND_NANOS);
+		refilledAt = now;
+		if (tokens < 1) {
+			return false;
+		}
+		tokens -= 1;
+		return true;
+	}
+
+	private RetryLaterException reject(String reason) {
+		long jitter = retryAfterJitterSeconds > 0 ? ThreadLocalRandom.current().nextLong(retryAfterJitterSeconds + 1) : 0;
+		log.debug("SSE 연결 거절 - {}", reason);
+		return new RetryLaterException(reason + " 잠시 후 다시 시도해 주세요.", retryAfterSeconds + jitter);
+	}
+}
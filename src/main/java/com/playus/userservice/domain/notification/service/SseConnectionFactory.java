@@ -0,0 +1,130 @@
+package com.playus.userservice.domain.notification.service;
+
+import com.playus.userservice.domain.notification.repository.SseConnection;
+import com.playus.userservice.global.config.async.NotificationExecutorConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 연결별 전송 대기열 생성 + 공통 메트릭
+ * - capacity 기본값은 재연결 시 재전송 최대치(replay.capacity-per-user=50) + 여유분
+ * - DROP_OLDEST: 느린 연결은 최근 이벤트만 받음 / DISCONNECT: 끊고 Last-Event-ID 재연결로 복구
+ * - 쓰기 중인 연결(≤ writer 스레드 수)만 따로 모아 두고, write-timeout 을 넘긴 쓰기는 연결째 끊음
+ */
+@Slf4j
+@Component
+public class SseConnectionFactory {
+
+	private final Executor writer;
+	private final Executor closer;
+	private final int capacity;
+	private final SseConnection.OverflowPolicy overflowPolicy;
+	private final long writeTimeoutNanos;
+
+	/** emitter.send 진행 중인 연결 → 크기는 writer 스레드 수를 넘지 않음 */
+	private final Set<SseConnection> writing = ConcurrentHashMap.newKeySet();
+
+	private final AtomicLong queued = new AtomicLong();
+	private final Counter dropped;
+	private final Counter overflowDisconnected;
+	private final Counter writeTimedOut;
+
+	public SseConnectionFactory(
+			@Qualifier(NotificationExecutorConfig.SSE_WRITER_EXECUTOR) Executor writer,
+			@Qualifier(NotificationExecutorConfig.SSE_CLOSER_EXECUTOR) Executor closer,
+			MeterRegistry meterRegistry,
+			@Value("${notification.sse.queue.capacity:64}") int capacity,
+			@Value("${notification.sse.queue.overflow-policy:DROP_OLDEST}") SseConnection.OverflowPolicy overflowPolicy,
+			@Value("${notification.sse.writer.write-timeout:5s}") Duration writeTimeout) {
+		this.writer = writer;
+		this.closer = closer;
+		this.capacity = capacity;
+		this.overflowPolicy = overflowPolicy;
+		this.writeTimeoutNanos = writeTimeout.toNanos();
+
+		Gauge.builder("notification.sse.queue.depth", queued, AtomicLong::get)
+				.description("전체 SSE 연결의 전송 대기 이벤트 수")
+				.register(meterRegistry);
+		this.dropped = Counter.builder("notification.sse.queue.dropped")
+				.description("대기열 초과로 버려진 SSE 이벤트 수 (DROP_OLDEST)")
+				.register(meterRegistry);
+		this.overflowDisconnected = Counter.builder("notification.sse.queue.overflow.disconnected")
+				.description("대기열 초과로 끊은 SSE 연결 수 (DISCONNECT)")
+				.register(meterRegistry);
+		this.writeTimedOut = Counter.builder("notification.sse.write.timeout")
+				.description("한 번의 쓰기가 write-timeout 을 넘겨 끊은 SSE 연결 수")
+				.register(meterRegistry);
+		Gauge.builder("notification.sse.writer.busy", writing, Set::size)
+				.description("emitter.send 에 묶여 있는 writer 스레드 수")
+				.register(meterRegistry);
+	}
+
+	/** @param onClosed 대기열 초과/전송 실패로 연결이 스스로 닫혔을 때 (저장소 정리) */
+	public SseConnection create(Long userId, String emitterId, SseEmitter emitter, Consumer<SseConnection> onClosed) {
+		return new SseConnection(userId, emitterId, emitter, capacity, overflowPolicy, writer, closer,
+				new SseConnection.Listener() {
+					@Override
+					public void onQueued(int delta) {
+						queued.addAndGet(delta);
+					}
+
+					@Override
+					public void onDropped() {
+						dropped.increment();
+					}
+
+					@Override
+					public void onWriteStarted(SseConnection connection) {
+						writing.add(connection);
+					}
+
+					@Override
+					public void onWriteFinished(SseConnection connection) {
+						writing.remove(connection);
+					}
+
+					@Override
+					public void onClosed(SseConnection connection, SseConnection.CloseReason reason) {
+						if (reason == SseConnection.CloseReason.OVERFLOW) {
+							overflowDisconnected.increment();
+						} else if (reason == SseConnection.CloseReason.WRITE_TIMEOUT) {
+							writeTimedOut.increment();
+						}
+						log.debug("SSE 연결 종료 - emitterId: {}, reason: {}", emitterId, reason);
+						onClosed.accept(connection);
+					}
+				});
+	}
+
+	/**
+	 * write-timeout 을 넘긴 쓰기의 연결을 끊음 (하트비트 tick 마다 호출)
+	 * - 닫힌 연결은 더 이상 drain 이 예약되지 않으므로 writer 스레드가 같은 소켓에 다시 묶이지 않음
+	 * - emitter 종료는 closer 스레드에서 → 막힌 send 를 기다리느라 하트비트가 멈추지 않음
+	 *
+	 * @return 이번에 끊은 연결
+	 */
+	public List<SseConnection> abortStalledWrites(long nowNanos) {
+		List<SseConnection> aborted = new ArrayList<>();
+		for (SseConnection connection : writing) {
+			if (connection.isStalled(nowNanos, writeTimeoutNanos) && connection.abort()) {
+				aborted.add(connection);
+			}
+		}
+		return aborted;
+	}
+}
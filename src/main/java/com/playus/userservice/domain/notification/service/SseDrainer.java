@@ -0,0 +1,110 @@
+package com.playus.userservice.domain.notification.service;
+
+import com.playus.userservice.domain.notification.repository.EmitterRepository;
+import com.playus.userservice.domain.notification.repository.SseConnection;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 종료 시 SSE 연결 정리 (롤링 배포 시 재연결이 남은 파드로 한꺼번에 몰리지 않도록)
+ * 1. 신규 연결 거절 (503)
+ * 2. 연결마다 reconnect-window 안의 임의 retry 값 전송 → 브라우저가 그만큼 기다렸다 재연결
+ * 3. 연결을 섞어 waves 묶음으로 나눠 wave-interval 간격으로 종료 (남은 이벤트 전송 후)
+ * - 웹 서버 graceful shutdown 보다 먼저 멈추도록 가장 높은 phase 사용
+ *   (열린 SSE 요청이 graceful shutdown 대기 시간을 다 잡아먹지 않게)
+ */
+@Slf4j
+@Component
+public class SseDrainer implements SmartLifecycle {
+
+	private final EmitterRepository emitterRepository;
+	private final SseAdmissionController sseAdmissionController;
+	private final long reconnectWindowMillis;
+	private final int waves;
+	private final long waveIntervalMillis;
+
+	private volatile boolean running;
+
+	public SseDrainer(
+			EmitterRepository emitterRepository,
+			SseAdmissionController sseAdmissionController,
+			@Value("${notification.sse.drain.reconnect-window:30s}") Duration reconnectWindow,
+			@Value("${notification.sse.drain.waves:5}") int waves,
+			@Value("${notification.sse.drain.wave-interval:1s}") Duration waveInterval) {
+		this.emitterRepository = emitterRepository;
+		this.sseAdmissionController = sseAdmissionController;
+		this.reconnectWindowMillis = Math.max(1, reconnectWindow.toMillis());
+		this.waves = Math.max(1, waves);
+		this.waveIntervalMillis = waveInterval.toMillis();
+	}
+
+	@Override
+	public void start() {
+		running = true;
+	}
+
+	@Override
+	public void stop() {
+		running = false;
+		drain();
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	@Override
+	public int getPhase() {
+		return Integer.MAX_VALUE;
+	}
+
+	/** @return 정리한 연결 수 */
+	int drain() {
+		sseAdmissionController.stopAccepting();
+
+		List<SseConnection> connections = emitterRepository.findAll();
+		if (connections.isEmpty()) {
+			return 0;
+		}
+		Collections.shuffle(connections);
+
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		for (SseConnection connection : connections) {
+			connection.enqueue(SseEmitter.event().reconnectTime(1 + random.nextLong(reconnectWindowMillis)));
+		}
+
+		int waveSize = (connections.size() + waves - 1) / waves;
+		boolean interrupted = false;
+		for (int i = 0; i < connections.size(); i++) {
+			if (i > 0 && i % waveSize == 0 && !interrupted) {
+				// 인터럽트 → 남은 연결은 기다리지 않고 바로 종료
+				interrupted = !pause();
+			}
+			connections.get(i).completeAfterFlush();
+		}
+		log.info("SSE drain 완료 - 연결 {}개, {}개씩 {}ms 간격", connections.size(), waveSize, waveIntervalMillis);
+		return connections.size();
+	}
+
+	private boolean pause() {
+		if (waveIntervalMillis <= 0) {
+			return true;
+		}
+		try {
+			Thread.sleep(waveIntervalMillis);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+}
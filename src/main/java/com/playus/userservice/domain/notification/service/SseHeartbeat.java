@@ -0,0 +1,192 @@
+package com.playus.userservice.domain.notification.service;
+
+import com.playus.userservice.domain.notification.repository.EmitterRepository;
+import com.playus.userservice.domain.notification.repository.SseConnection;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SSE 하트비트 + 끊긴 연결 정리
+ * - emitter 마다 타이머를 두지 않고 스레드 1개가 버킷(wheel)을 한 칸씩 돌며 ping
+ * - 연결은 emitterId 해시로 버킷 고정 → interval 마다 한 번씩, 전체 부하는 버킷 수만큼 분산
+ * - ping 은 연결 대기열로 보냄 → 쓰기 실패한 연결 정리
+ * - 쓰기 timeout 은 버킷과 무관하게 매 tick 검사 (interval 을 기다리면 그동안 writer 스레드가 묶임)
+ * - ALB/프록시 idle timeout(기본 60초) 보다 짧은 주기로 보내 유휴 연결 유지
+ */
+@Slf4j
+@Component
+public class SseHeartbeat {
+
+	private static final long MINUTE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+	private final EmitterRepository emitterRepository;
+	private final SseConnectionFactory sseConnectionFactory;
+	private final Set<SseConnection>[] wheel;
+	private final long tickMillis;
+
+	private final Counter reapedFailed;
+	private final Counter reapedStalled;
+	private final Counter reapedDetached;
+	private final AtomicLong reapedThisMinute = new AtomicLong();
+	private final AtomicLong reapedLastMinute = new AtomicLong();
+
+	private ScheduledExecutorService ticker;
+	private int cursor;
+	private long minuteStartedAt;
+
+	@SuppressWarnings("unchecked")
+	public SseHeartbeat(
+			EmitterRepository emitterRepository,
+			SseConnectionFactory sseConnectionFactory,
+			MeterRegistry meterRegistry,
+			@Value("${notification.sse.heartbeat.interval:30s}") Duration interval,
+			@Value("${notification.sse.heartbeat.wheel-size:32}") int wheelSize) {
+		this.emitterRepository = emitterRepository;
+		this.sseConnectionFactory = sseConnectionFactory;
+		this.wheel = new Set[wheelSize];
+		for (int i = 0; i < wheelSize; i++) {
+			wheel[i] = ConcurrentHashMap.newKeySet();
+		}
+		this.tickMillis = Math.max(1, interval.toMillis() / wheelSize);
+		this.minuteStartedAt = System.nanoTime();
+
+		this.reapedFailed = Counter.builder("notification.sse.reaped")
+				.tag("reason", "failed")
+				.description("하트비트로 정리된 SSE 연결 수")
+				.register(meterRegistry);
+		this.reapedStalled = Counter.builder("notification.sse.reaped")
+				.tag("reason", "stalled")
+				.description("하트비트로 정리된 SSE 연결 수")
+				.register(meterRegistry);
+		this.reapedDetached = Counter.builder("notification.sse.reaped")
+				.tag("reason", "detached")
+				.description("하트비트로 정리된 SSE 연결 수")
+				.register(meterRegistry);
+		Gauge.builder("notification.sse.reaped.last-minute", reapedLastMinute, AtomicLong::get)
+				.description("직전 1분 동안 정리된 SSE 연결 수")
+				.register(meterRegistry);
+		Gauge.builder("notification.sse.heartbeat.connections", this, SseHeartbeat::size)
+				.description("하트비트 대상 SSE 연결 수")
+				.register(meterRegistry);
+	}
+
+	@PostConstruct
+	void start() {
+		ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread t = new Thread(r, "sse-heartbeat");
+			t.setDaemon(true);
+			return t;
+		});
+		ticker.scheduleAtFixedRate(this::safeTick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+	}
+
+	@PreDestroy
+	void stop() {
+		if (ticker != null) {
+			ticker.shutdownNow();
+		}
+	}
+
+	public void register(SseConnection connection) {
+		wheel[slotOf(connection.getEmitterId())].add(connection);
+	}
+
+	public void unregister(SseConnection connection) {
+		wheel[slotOf(connection.getEmitterId())].remove(connection);
+	}
+
+	public int size() {
+		int total = 0;
+		for (Set<SseConnection> bucket : wheel) {
+			total += bucket.size();
+		}
+		return total;
+	}
+
+	/** 쓰기가 멈춘 연결 정리 → 현재 버킷의 연결에 ping 후 다음 버킷으로 이동 */
+	void tick() {
+		// 버퍼가 차서 쓰기가 밀리는 연결 → 서버 쪽에서 끊어 재연결 유도 (저장소 정리는 연결 종료 통지로)
+		for (SseConnection c : sseConnectionFactory.abortStalledWrites(System.nanoTime())) {
+			unregister(c);
+			reapedStalled.increment();
+			reapedThisMinute.incrementAndGet();
+			log.debug("SSE 연결 정리 - emitterId: {}, stalled: true", c.getEmitterId());
+		}
+
+		Set<SseConnection> bucket = wheel[cursor];
+		cursor = (cursor + 1) % wheel.length;
+
+		for (SseConnection c : bucket) {
+			// 쓰기 실패 / 대기열 초과로 이미 닫힌 연결
+			if (c.isClosed()) {
+				bucket.remove(c);
+				reap(c);
+				continue;
+			}
+			// 재구독 / 상한 초과 등으로 저장소에서 빠진 emitter → ping 대상 아님
+			// 강제 complete 하면 대기 중인 retry 가 버려져 밀려난 탭이 바로 재연결하므로, 보낼 것을 보낸 뒤 종료
+			if (emitterRepository.findAllEmitterByUserId(c.getUserId()).get(c.getEmitterId()) != c) {
+				bucket.remove(c);
+				c.completeAfterFlush();
+				reapedDetached.increment();
+				reapedThisMinute.incrementAndGet();
+				continue;
+			}
+
+			// SseEventBuilder 는 전송 시 내부 상태가 바뀌므로 매번 새로 생성
+			if (!c.enqueue(SseEmitter.event().comment("ping")) || c.isClosed()) {
+				bucket.remove(c);
+				reap(c);
+			}
+		}
+		rollMinute();
+	}
+
+	long reapedLastMinute() {
+		return reapedLastMinute.get();
+	}
+
+	private void safeTick() {
+		try {
+			tick();
+		} catch (RuntimeException e) {
+			// 예외가 새면 scheduleAtFixedRate 가 멈추므로 삼킴
+			log.warn("SSE 하트비트 실패", e);
+		}
+	}
+
+	private void reap(SseConnection c) {
+		reapedFailed.increment();
+		// 쓰기 중에 저장소에서 빠진 연결일 수 있으므로 emitter 락을 기다리지 않도록 completer 에 맡김
+		c.completeEmitter();
+		reapedThisMinute.incrementAndGet();
+		log.debug("SSE 연결 정리 - emitterId: {}, stalled: false", c.getEmitterId());
+	}
+
+	private void rollMinute() {
+		long now = System.nanoTime();
+		if (now - minuteStartedAt >= MINUTE_NANOS) {
+			reapedLastMinute.set(reapedThisMinute.getAndSet(0));
+			minuteStartedAt = now;
+		}
+	}
+
+	private int slotOf(String emitterId) {
+		return Math.floorMod(emitterId.hashCode(), wheel.length);
+	}
+}
@@ -0,0 +1,30 @@
+package com.playus.userservice.domain.notification.service;
+
+import com.playus.userservice.domain.notification.event.NotificationCreatedEvent;
+import com.playus.userservice.domain.notification.event.UnreadCountChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/** 커밋된 변경만 카운터에 반영 (롤백 시 호출되지 않음) */
+@Component
+@RequiredArgsConstructor
+public class UnreadCountListener {
+
+	private final UnreadCountService unreadCountService;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onNotificationCreated(NotificationCreatedEvent event) {
+		unreadCountService.increase(event.receiverId(), event.notifications().size());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onUnreadCountChanged(UnreadCountChangedEvent event) {
+		if (event.reset()) {
+			unreadCountService.reset(event.userId());
+		} else {
+			unreadCountService.increase(event.userId(), event.delta());
+		}
+	}
+}
@@ -0,0 +1,93 @@
+package com.playus.userservice.domain.notification.service;
+
+import com.playus.userservice.domain.notification.repository.UnreadCountRepository;
+import com.playus.userservice.domain.user.repository.write.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 안 읽은 알림 수 - Redis 카운터(notification:unread:{userId})
+ * - 조회: GET 한 번, 없으면 읽기 모델 COUNT 후 저장 / Redis 장애 시 읽기 모델 COUNT 로 대체
+ * - 변경: 커밋 후 증감, 변경된 유저는 보정 대상으로 등록
+ * - 보정: 주기적으로 보정 대상 유저의 카운터를 DB 기준으로 덮어씀
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UnreadCountService {
+
+	private static final int RECONCILE_BATCH_SIZE = 100;
+	private static final int RECONCILE_MAX_BATCHES = 50;
+
+	private final UnreadCountRepository unreadCountRepository;
+	private final NotificationRepository notificationRepository;
+	private final NotificationReadService notificationReadService;
+
+	/** Redis 장애 중 변경된 유저 → 복구 후 보정 대상으로 넘김 */
+	private final Set<Long> pendingDirty = ConcurrentHashMap.newKeySet();
+
+	public long getCount(Long userId) {
+		try {
+			Long cached = unreadCountRepository.findByUserId(userId);
+			if (cached != null) {
+				return cached;
+			}
+			long count = notificationReadService.countUnread(userId);
+			unreadCountRepository.save(userId, count);
+			return count;
+		} catch (DataAccessException e) {
+			log.warn("안 읽은 알림 카운터 조회 실패, 읽기 모델로 대체 - userId: {}", userId, e);
+			return notificationReadService.countUnread(userId);
+		}
+	}
+
+	public void increase(Long userId, long delta) {
+		try {
+			unreadCountRepository.incrementIfPresent(userId, delta);
+			unreadCountRepository.markDirty(userId);
+		} catch (DataAccessException e) {
+			log.warn("안 읽은 알림 카운터 갱신 실패 - userId: {}", userId, e);
+			pendingDirty.add(userId);
+		}
+	}
+
+	public void reset(Long userId) {
+		try {
+			unreadCountRepository.deleteByUserId(userId);
+		} catch (DataAccessException e) {
+			log.warn("안 읽은 알림 카운터 초기화 실패 - userId: {}", userId, e);
+			pendingDirty.add(userId);
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${notification.unread.reconcile-interval:300000}")
+	public void reconcile() {
+		try {
+			flushPendingDirty();
+			for (int i = 0; i < RECONCILE_MAX_BATCHES; i++) {
+				List<Long> userIds = unreadCountRepository.popDirty(RECONCILE_BATCH_SIZE);
+				if (userIds.isEmpty()) {
+					return;
+				}
+				userIds.forEach(userId ->
+						unreadCountRepository.save(userId, notificationRepository.countUnreadByReceiverId(userId)));
+			}
+		} catch (DataAccessException e) {
+			log.warn("안 읽은 알림 카운터 보정 실패", e);
+		}
+	}
+
+	private void flushPendingDirty() {
+		for (Long userId : pendingDirty) {
+			unreadCountRepository.markDirty(userId);
+			pendingDirty.remove(userId);
+		}
+	}
+}
@@ -1,16 +1,21 @@
 package com.playus.userservice.domain.notification.specification;
 
+import com.playus.userservice.domain.notification.dto.response.NotificationBatchResponse;
 import com.playus.userservice.domain.user.feign.response.CommentNotificationEvent;
 import com.playus.userservice.domain.user.feign.response.PartyNotificationEvent;
+import com.playus.userservice.domain.user.feign.response.PartyNotificationFanoutEvent;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
 
+import java.util.List;
+
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
 @Tag(name = "Notification-Internal", description = "커뮤니티/TWP 서비스 → 알림 API (내부 호출)")
@@ -18,21 +23,33 @@ public interface NotificationApiControllerSpecification {
 
     @Operation(
             summary     = "댓글 삭제 → 관련 알림 삭제",
-            description = "커뮤니티 서비스에서 댓글 삭제 후 관련 알림을 정리합니다.",
-            parameters  = @Parameter(
-                    name        = "comment-id",
-                    description = "삭제된 댓글 ID",
-                    in          = ParameterIn.PATH,
-                    required    = true,
-                    example     = "42"
-            )
+            description = "커뮤니티 서비스에서 댓글 삭제 후 관련 알림을 정리합니다. async=true 면 삭제를 예약하고 바로 반환합니다.",
+            parameters  = {
+                    @Parameter(
+                            name        = "comment-id",
+                            description = "삭제된 댓글 ID",
+                            in          = ParameterIn.PATH,
+                            required    = true,
+                            example     = "42"
+                    ),
+                    @Parameter(
+                            name        = "async",
+                            description = "비동기 삭제 여부 (기본 false)",
+                            in          = ParameterIn.QUERY,
+                            required    = false,
+                            example     = "true"
+                    )
+            }
     )
     @ApiResponses({
             @ApiResponse(responseCode = "204", description = "삭제 완료"),
+            @ApiResponse(responseCode = "202", description = "삭제 예약 (async=true)"),
+            @ApiResponse(responseCode = "503", description = "삭제 대기열 초과로 예약 거절 (async=true, Retry-After 헤더의 초 만큼 기다린 뒤 재시도)",
+                    headers = @Header(name = "Retry-After", description = "재시도까지 기다릴 시간(초)")),
             @ApiResponse(responseCode = "500", description = "서버 오류",
                     content = @Content(mediaType = APPLICATION_JSON_VALUE))
     })
-    ResponseEntity<Void> deleteByCommentId(Long commentId);
+    ResponseEntity<Void> deleteByCommentId(Long commentId, boolean async);
 
     @Operation(
             summary     = "댓글 알림 생성",
@@ -61,4 +78,53 @@ public interface NotificationApiControllerSpecification {
             @Parameter(description = "직관팟 알림 이벤트", required = true)
             PartyNotificationEvent event
     );
+
+    @Operation(
+            summary     = "댓글 알림 일괄 생성",
+            description = "댓글 알림을 최대 500건까지 한 번에 생성합니다. 항목별 결과(CREATED / SKIPPED / RECEIVER_NOT_FOUND)를 요청 순서대로 반환합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "처리 완료 (항목별 결과 포함)"),
+            @ApiResponse(responseCode = "400", description = "배치 크기 초과 또는 빈 요청",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE)),
+            @ApiResponse(responseCode = "500", description = "서버 오류",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE))
+    })
+    ResponseEntity<NotificationBatchResponse> createCommentNotifications(
+            @Parameter(description = "댓글 알림 이벤트 목록", required = true)
+            List<CommentNotificationEvent> events
+    );
+
+    @Operation(
+            summary     = "직관팟 알림 일괄 생성",
+            description = "직관팟 알림을 최대 500건까지 한 번에 생성합니다. 항목별 결과(CREATED / RECEIVER_NOT_FOUND)를 요청 순서대로 반환합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "처리 완료 (항목별 결과 포함)"),
+            @ApiResponse(responseCode = "400", description = "배치 크기 초과 또는 빈 요청",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE)),
+            @ApiResponse(responseCode = "500", description = "서버 오류",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE))
+    })
+    ResponseEntity<NotificationBatchResponse> createPartyNotifications(
+            @Parameter(description = "직관팟 알림 이벤트 목록", required = true)
+            List<PartyNotificationEvent> events
+    );
+
+    @Operation(
+            summary     = "직관팟 알림 fan-out",
+            description = "같은 직관팟 이벤트를 최대 500명에게 보냅니다. 본문은 한 번만 저장하고 수신자별로는 읽음 상태만 저장합니다. "
+                        + "항목별 결과(CREATED / SKIPPED(중복 수신자) / RECEIVER_NOT_FOUND)를 receiverIds 순서대로 반환합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "처리 완료 (항목별 결과 포함)"),
+            @ApiResponse(responseCode = "400", description = "수신자 수 초과, 빈 수신자 목록 또는 타입 누락",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE)),
+            @ApiResponse(responseCode = "500", description = "서버 오류",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE))
+    })
+    ResponseEntity<NotificationBatchResponse> fanoutPartyNotification(
+            @Parameter(description = "직관팟 fan-out 알림 이벤트", required = true)
+            PartyNotificationFanoutEvent event
+    );
 }
@@ -1,16 +1,22 @@
 package com.playus.userservice.domain.notification.specification;
 
+import com.playus.userservice.domain.notification.dto.request.ReadNotificationsRequest;
+import com.playus.userservice.domain.notification.dto.response.NotificationPageResponse;
 import com.playus.userservice.domain.notification.dto.response.NotificationResponse;
+import com.playus.userservice.domain.notification.dto.response.ReadCountResponse;
+import com.playus.userservice.domain.notification.dto.response.UnreadCountResponse;
 import com.playus.userservice.domain.oauth.dto.CustomOAuth2User;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -39,7 +45,7 @@ public interface NotificationControllerSpecification {
                             description = "클라이언트가 저장한 마지막 이벤트 ID (재연결 시)",
                             in          = ParameterIn.HEADER,
                             required    = false,
-                            example     = "1_1715151515151"
+                            example     = "1760000000000001"
                     )
             }
     )
@@ -59,6 +65,19 @@ public interface NotificationControllerSpecification {
                                 "message": "유효하지 않은 토큰입니다."
                             }""")
                     )
+            ),
+            @ApiResponse(
+                    responseCode = "503", description = "연결 한도 초과 (Retry-After 헤더의 초 만큼 기다린 뒤 재연결)",
+                    headers = @Header(name = "Retry-After", description = "재시도까지 기다릴 시간(초), 지터 포함"),
+                    content = @Content(
+                            mediaType = APPLICATION_JSON_VALUE,
+                            examples  = @ExampleObject(value = """
+                            {
+                                "code": 503,
+                                "status": "SERVICE_UNAVAILABLE",
+                                "message": "SSE 연결 수가 한도에 도달했습니다. 잠시 후 다시 시도해 주세요."
+                            }""")
+                    )
             )
     })
     ResponseEntity<SseEmitter> subscribe(
@@ -104,8 +123,107 @@ public interface NotificationControllerSpecification {
     );
 
     @Operation(
-            summary     = "전체 알림 목록",
-            description = "사용자에게 발송된 모든 알림을 조회합니다.",
+            summary     = "알림 여러 건 읽음 처리",
+            description = "전달한 알림 ID 중 본인의 안 읽은 알림을 한 번에 읽음 처리하고, 실제 변경된 개수를 반환합니다.",
+            security    = @SecurityRequirement(name = "AccessCookie"),
+            parameters  = @Parameter(
+                    name        = "Access",
+                    description = "JWT access token (쿠키)",
+                    in          = ParameterIn.COOKIE,
+                    required    = true,
+                    example     = "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9..."
+            )
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200", description = "처리 성공",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE)
+            ),
+            @ApiResponse(
+                    responseCode = "400", description = "ID 목록이 비었거나 500개 초과",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE)
+            )
+    })
+    ResponseEntity<ReadCountResponse> readNotifications(
+            @Parameter(hidden = true) CustomOAuth2User principal,
+            @Valid ReadNotificationsRequest request
+    );
+
+    @Operation(
+            summary     = "전체 읽음 처리",
+            description = "본인의 안 읽은 알림을 모두 읽음 처리하고, 실제 변경된 개수를 반환합니다.",
+            security    = @SecurityRequirement(name = "AccessCookie"),
+            parameters  = @Parameter(
+                    name        = "Access",
+                    description = "JWT access token (쿠키)",
+                    in          = ParameterIn.COOKIE,
+                    required    = true,
+                    example     = "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9..."
+            )
+    )
+    @ApiResponse(
+            responseCode = "200", description = "처리 성공",
+            content = @Content(mediaType = APPLICATION_JSON_VALUE)
+    )
+    ResponseEntity<ReadCountResponse> readAllNotifications(
+            @Parameter(hidden = true) CustomOAuth2User principal
+    );
+
+    @Operation(
+            summary     = "알림 목록 (커서 페이징)",
+            description = "최신순으로 알림을 조회합니다. 응답의 nextCursor 를 cursor 로 넘기면 다음 페이지를 조회합니다.",
+            security    = @SecurityRequirement(name = "AccessCookie"),
+            parameters  = {
+                    @Parameter(
+                            name        = "Access",
+                            description = "JWT access token (쿠키)",
+                            in          = ParameterIn.COOKIE,
+                            required    = true,
+                            example     = "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9..."
+                    ),
+                    @Parameter(
+                            name        = "cursor",
+                            description = "이전 응답의 nextCursor (첫 페이지는 생략)",
+                            in          = ParameterIn.QUERY,
+                            required    = false,
+                            example     = "2025-06-01T12:30:00.123456_1024"
+                    ),
+                    @Parameter(
+                            name        = "size",
+                            description = "페이지 크기 (기본 20, 최대 50)",
+                            in          = ParameterIn.QUERY,
+                            required    = false,
+                            example     = "20"
+                    ),
+                    @Parameter(
+                            name        = "unreadOnly",
+                            description = "안 읽은 알림만 조회",
+                            in          = ParameterIn.QUERY,
+                            required    = false,
+                            example     = "false"
+                    )
+            }
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200", description = "조회 성공",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE)
+            ),
+            @ApiResponse(
+                    responseCode = "400", description = "잘못된 커서",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE)
+            )
+    })
+    ResponseEntity<NotificationPageResponse> getNotifications(
+            @Parameter(hidden = true) CustomOAuth2User principal,
+            @Parameter(hidden = true) String cursor,
+            @Parameter(hidden = true) int size,
+            @Parameter(hidden = true) boolean unreadOnly
+    );
+
+    @Operation(
+            summary     = "안 읽은 알림 개수",
+            description = "알림 배지 표시용 안 읽은 알림 개수를 조회합니다.",
             security    = @SecurityRequirement(name = "AccessCookie"),
             parameters  = @Parameter(
                     name        = "Access",
@@ -119,7 +237,7 @@ public interface NotificationControllerSpecification {
             responseCode = "200", description = "조회 성공",
             content = @Content(mediaType = APPLICATION_JSON_VALUE)
     )
-    ResponseEntity<List<NotificationResponse>> getNotifications(
+    ResponseEntity<UnreadCountResponse> getUnreadCount(
             @Parameter(hidden = true) CustomOAuth2User principal
     );
 
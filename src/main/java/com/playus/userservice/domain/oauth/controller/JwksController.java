@@ -0,0 +1,37 @@
+package com.playus.userservice.domain.oauth.controller;
+
+import com.playus.userservice.domain.oauth.specification.JwksControllerSpecification;
+import com.playus.userservice.global.jwt.JwtKeys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Map;
+
+@RestController
+public class JwksController implements JwksControllerSpecification {
+
+    private final JwtKeys jwtKeys;
+    private final CacheControl cacheControl;
+    private final String eTag;
+
+    public JwksController(
+            JwtKeys jwtKeys,
+            @Value("${spring.jwt.jwks.max-age:PT10M}") Duration maxAge) {
+        this.jwtKeys = jwtKeys;
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+        this.eTag = Integer.toHexString(jwtKeys.jwks().hashCode());
+    }
+
+    /** 다른 서비스 ->  토큰 로컬 검증용 공개키 목록, max-age 동안 캐시 후 ETag 로 재검증 */
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .eTag(eTag)
+                .body(jwtKeys.jwks());
+    }
+}
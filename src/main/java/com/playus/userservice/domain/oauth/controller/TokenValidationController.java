@@ -3,7 +3,9 @@ package com.playus.userservice.domain.oauth.controller;
 
 import com.playus.userservice.domain.oauth.service.TokenValidationService;
 import com.playus.userservice.domain.oauth.specification.TokenValidationControllerSpecification;
+import com.playus.userservice.global.request.TokenBatchValidationRequest;
 import com.playus.userservice.global.request.TokenValidationRequest;
+import com.playus.userservice.global.response.TokenBatchValidationResponse;
 import com.playus.userservice.global.response.TokenValidationResponse;
 import io.jsonwebtoken.JwtException;
 import jakarta.validation.Valid;
@@ -35,4 +37,12 @@ public class TokenValidationController implements TokenValidationControllerSpeci
                     .body(new TokenValidationResponse(true));
         }
     }
+
+    /** 내부 MSA ->  토큰 여러 개를 한 번에 조회, 결과는 요청 순서대로 */
+    @PostMapping("/blacklist-check/batch")
+    public ResponseEntity<TokenBatchValidationResponse> checkBlacklistBatch(
+            @Valid @RequestBody TokenBatchValidationRequest req) {
+
+        return ResponseEntity.ok(tokenValidationService.checkAll(req.tokens()));
+    }
 }
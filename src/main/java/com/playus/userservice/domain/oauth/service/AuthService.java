@@ -5,14 +5,15 @@ import com.playus.userservice.domain.oauth.enums.TokenType;
 import com.playus.userservice.domain.user.dto.UserDto;
 import com.playus.userservice.domain.user.enums.Gender;
 import com.playus.userservice.domain.user.enums.Role;
+import com.playus.userservice.global.jwt.JwtClaims;
 import com.playus.userservice.global.jwt.JwtUtil;
+import com.playus.userservice.global.jwt.VerifiedTokenCache;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseCookie;
 import org.springframework.stereotype.Service;
@@ -22,15 +23,14 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
-import java.time.Duration;
-
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
     private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final TokenService tokenService;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final TokenBlacklistService tokenBlacklistService;
 
     @Value("${cookie.secure}")
     private boolean cookieSecure;
@@ -65,14 +65,11 @@ public class AuthService {
 
         // Access Token 블랙리스트
         String access = tokenService.resolveToken(req, TokenType.ACCESS);
-        if (access != null && !jwtUtil.isExpired(access)) {
-            String jti = jwtUtil.getJti(access);
-
-            long ttlSeconds = jwtUtil.getRemainingExpirationTime(access) / 1000;
-
-            if (ttlSeconds > 0) {
-                redisTemplate.opsForValue().set("blacklist:" + jti, "", Duration.ofSeconds(ttlSeconds));
-            }
+        if (access != null) {
+            JwtClaims claims = jwtUtil.parse(access);
+            // Redis 저장 + 전 파드 로컬 사본에 전파
+            tokenBlacklistService.blacklist(claims.jti(), claims.expiresAt());
+            verifiedTokenCache.invalidate(access);
         }
         // 클라이언트 쿠키(Access) 만료 처리
         ResponseCookie expiredAccess = ResponseCookie.from("Access", "")
@@ -100,27 +97,24 @@ public class AuthService {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "MISSING_TOKEN");
         }
     
+        // 서명 검증은 한 번만 하고 이후 클레임은 결과에서 꺼냄
+        JwtClaims claims = jwtUtil.parse(token);
+
         //블랙리스트 체크
-        String jti = jwtUtil.getJti(token);
-        if (Boolean.TRUE.equals(redisTemplate.hasKey("blacklist:" + jti))) {
+        if (tokenBlacklistService.isBlacklisted(claims.jti())) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "BLACKLISTED_TOKEN");
         }
 
 
-        String type = jwtUtil.getType(token);
-        if (!"access".equals(type)) {
+        if (!claims.isAccessToken()) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "INVALID_TOKEN_TYPE");
         }
 
         // 엑세스 토큰 클레임 검사
-        String userId = jwtUtil.getUserId(token);
-        String role = jwtUtil.getRole(token);
-        int age = jwtUtil.getAge(token);
-        String gender = jwtUtil.getGender(token);
-
         CustomOAuth2User principal =
                 new CustomOAuth2User(
-                        UserDto.fromJwt(Long.parseLong(userId), Role.valueOf(role), age, Gender.valueOf(gender))
+                        UserDto.fromJwt(Long.parseLong(claims.userId()), Role.valueOf(claims.role()),
+                                claims.age(), Gender.valueOf(claims.gender()))
                 );
 
         Authentication auth = new UsernamePasswordAuthenticationToken(
@@ -0,0 +1,40 @@
+package com.playus.userservice.domain.oauth.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 블랙리스트 채널 구독
+ * - 다른 파드의 로그아웃을 로컬 사본에 반영
+ * - 구독될 때마다(기동 / 재연결) 구독 확인 후 전체 동기화, 구독이 풀리면 동기화 전 상태로
+ * - 자기 파드의 구독 확인 메시지도 이 채널로 받음 (재연결로 구독이 조용히 끊긴 경우 감지)
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenBlacklistListener implements MessageListener, SubscriptionListener {
+
+    private final TokenBlacklistService tokenBlacklistService;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        tokenBlacklistService.onBlacklisted(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        tokenBlacklistService.markSubscribed();
+        // Redis I/O 스레드에서 호출될 수 있으므로 동기화(Redis 조회)는 다른 스레드에서
+        CompletableFuture.runAsync(tokenBlacklistService::synchronize);
+    }
+
+    @Override
+    public void onChannelUnsubscribed(byte[] channel, long count) {
+        tokenBlacklistService.markUnsynced();
+    }
+}
@@ -0,0 +1,231 @@
+package com.playus.userservice.domain.oauth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 엑세스 토큰 블랙리스트 - 파드 로컬 사본 + Redis 원본
+ * - 조회: 로컬 Map 만 확인 → 요청 경로에서 네트워크 I/O 없음
+ * - 등록(로그아웃): Redis 키(blacklist:{jti}) + 색인(blacklist:index, score = 만료 시각) 저장 후 채널로 전 파드에 알림
+ * - 동기화: 채널 구독 시(기동 / 재연결)와 주기적으로 색인을 읽어 로컬 사본 보충
+ * - 로컬 사본만 믿는 조건: 채널 구독이 확인됐고 + 색인 동기화가 성공했고 + 직전 주기에 보낸 확인 메시지가 채널로 돌아옴
+ *   (드라이버 재연결은 구독 해제 통지 없이 일어날 수 있어, 구독이 살아 있는지 주기마다 메시지로 확인)
+ * - 그 밖에는 Redis 를 직접 조회, 그것도 실패하면 failurePolicy 에 따름
+ */
+@Slf4j
+@Service
+public class TokenBlacklistService {
+
+    public static final String CHANNEL = "auth:blacklist";
+
+    private static final String KEY_PREFIX = "blacklist:";
+    /** 클러스터에서도 한 노드에서 읽도록 키 하나에 모아 둔 색인 (키스페이스 SCAN 대신) */
+    private static final String INDEX_KEY = "blacklist:index";
+    private static final String DELIMITER = "|";
+    /** 구독 확인 메시지 "#probe|{파드 식별자}|{보낸 시각}" - jti(UUID) 와 겹치지 않는 접두어 */
+    private static final String PROBE_PREFIX = "#probe" + DELIMITER;
+    /** 확인 메시지가 이 시간 안에 돌아오지 않으면 구독이 끊긴 것으로 봄 */
+    private static final long PROBE_TIMEOUT_MILLIS = 5_000;
+
+    public enum FailurePolicy {
+        CLOSED,   // 확인할 수 없으면 차단
+        OPEN      // 확인할 수 없으면 통과 (로컬 사본에 있는 토큰은 계속 차단)
+    }
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final FailurePolicy failurePolicy;
+
+    /** jti → 토큰 만료 시각(ms) */
+    private final Map<String, Long> blacklisted = new ConcurrentHashMap<>();
+    private final String probeId = UUID.randomUUID().toString();
+    private volatile boolean subscribed;
+    private volatile boolean synced;
+    private volatile long probeSentAt;
+    private volatile long probeEchoedAt;
+
+    private final Counter redisLookups;
+    private final Counter failedOpen;
+    private final Counter failedClosed;
+
+    public TokenBlacklistService(
+            RedisTemplate<String, String> redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${spring.jwt.blacklist.failure-policy:CLOSED}") FailurePolicy failurePolicy) {
+        this.redisTemplate = redisTemplate;
+        this.failurePolicy = failurePolicy;
+        this.redisLookups = lookups(meterRegistry, "redis");
+        this.failedOpen = lookups(meterRegistry, "fail-open");
+        this.failedClosed = lookups(meterRegistry, "fail-closed");
+        Gauge.builder("auth.blacklist.size", blacklisted, Map::size)
+                .description("로컬 블랙리스트 사본의 토큰 수")
+                .register(meterRegistry);
+        Gauge.builder("auth.blacklist.synced", this, s -> s.synced ? 1 : 0)
+                .description("로컬 블랙리스트가 Redis 와 동기화된 상태면 1")
+                .register(meterRegistry);
+    }
+
+    public boolean isBlacklisted(String jti) {
+        Long expiresAt = blacklisted.get(jti);
+        if (expiresAt != null && expiresAt > System.currentTimeMillis()) {
+            return true;
+        }
+        if (synced) {
+            return false;
+        }
+
+        try {
+            redisLookups.increment();
+            return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + jti));
+        } catch (DataAccessException e) {
+            log.warn("블랙리스트 조회 실패, {} 정책 적용 - jti: {}", failurePolicy, jti, e);
+            return failureVerdict(1);
+        }
+    }
+
+    /**
+     * 여러 jti 를 요청 순서대로 판단 - 로컬 사본으로 판단하지 못한 것만 모아 MGET 한 번
+     * (클러스터에서는 드라이버가 슬롯별로 나눠 병렬 실행)
+     */
+    public List<Boolean> areBlacklisted(List<String> jtis) {
+        long now = System.currentTimeMillis();
+        List<Boolean> results = new ArrayList<>(jtis.size());
+        List<Integer> unresolved = new ArrayList<>();
+        for (int i = 0; i < jtis.size(); i++) {
+            Long expiresAt = blacklisted.get(jtis.get(i));
+            boolean hit = expiresAt != null && expiresAt > now;
+            results.add(hit);
+            if (!hit && !synced) {
+                unresolved.add(i);
+            }
+        }
+        if (unresolved.isEmpty()) {
+            return results;
+        }
+
+        try {
+            redisLookups.increment(unresolved.size());
+            List<String> values = redisTemplate.opsForValue().multiGet(
+                    unresolved.stream().map(i -> KEY_PREFIX + jtis.get(i)).toList());
+            for (int k = 0; k < unresolved.size(); k++) {
+                results.set(unresolved.get(k), values != null && values.get(k) != null);
+            }
+        } catch (DataAccessException e) {
+            log.warn("블랙리스트 일괄 조회 실패, {} 정책 적용 - {}건", failurePolicy, unresolved.size(), e);
+            boolean verdict = failureVerdict(unresolved.size());
+            unresolved.forEach(i -> results.set(i, verdict));
+        }
+        return results;
+    }
+
+    /** 로그아웃한 토큰을 만료 시각까지 차단, 이 파드는 즉시 / 다른 파드는 채널로 반영 */
+    public void blacklist(String jti, long expiresAt) {
+        long ttlMillis = expiresAt - System.currentTimeMillis();
+        if (ttlMillis <= 0) {
+            return;
+        }
+        blacklisted.put(jti, expiresAt);
+        redisTemplate.opsForValue().set(KEY_PREFIX + jti, "", Duration.ofMillis(ttlMillis));
+        redisTemplate.opsForZSet().add(INDEX_KEY, jti, expiresAt);
+        redisTemplate.convertAndSend(CHANNEL, jti + DELIMITER + expiresAt);
+    }
+
+    /** 다른 파드의 로그아웃 알림 - "{jti}|{만료 시각}", 또는 구독 확인 메시지 */
+    public void onBlacklisted(String message) {
+        int idx = message.lastIndexOf(DELIMITER);
+        try {
+            if (message.startsWith(PROBE_PREFIX)) {
+                if (message.substring(PROBE_PREFIX.length(), idx).equals(probeId)) {
+                    probeEchoedAt = Math.max(probeEchoedAt, Long.parseLong(message.substring(idx + 1)));
+                }
+                return;
+            }
+            blacklisted.merge(message.substring(0, idx), Long.parseLong(message.substring(idx + 1)), Math::max);
+        } catch (IndexOutOfBoundsException | NumberFormatException e) {
+            log.warn("블랙리스트 메시지 형식 오류 - {}", message);
+        }
+    }
+
+    /**
+     * 색인 전체를 읽어 로컬 사본 보충 → 구독 전 / 끊긴 동안 놓친 알림 복구
+     * 직전 확인 메시지가 돌아오지 않았으면 이번 주기는 동기화되지 않은 상태로 두고, 새 확인 메시지를 보냄
+     */
+    @Scheduled(fixedDelayString = "${spring.jwt.blacklist.resync-interval:30000}")
+    public void synchronize() {
+        long now = System.currentTimeMillis();
+        long sentAt = probeSentAt;
+        boolean probeLost = sentAt > probeEchoedAt && now - sentAt > PROBE_TIMEOUT_MILLIS;
+        if (probeLost) {
+            synced = false;
+            log.warn("블랙리스트 채널 확인 메시지가 돌아오지 않음, 구독 복구 전까지 Redis 직접 조회");
+        }
+        try {
+            ZSetOperations<String, String> index = redisTemplate.opsForZSet();
+            index.removeRangeByScore(INDEX_KEY, 0, now);
+            Set<ZSetOperations.TypedTuple<String>> entries =
+                    index.rangeByScoreWithScores(INDEX_KEY, now, Double.POSITIVE_INFINITY);
+            if (entries != null) {
+                entries.forEach(entry ->
+                        blacklisted.merge(entry.getValue(), entry.getScore().longValue(), Math::max));
+            }
+            synced = subscribed && !probeLost;
+
+            probeSentAt = now;
+            redisTemplate.convertAndSend(CHANNEL, PROBE_PREFIX + probeId + DELIMITER + now);
+        } catch (DataAccessException e) {
+            synced = false;
+            log.warn("블랙리스트 동기화 실패, 복구 전까지 Redis 직접 조회", e);
+        }
+    }
+
+    /** 채널 구독 확인 (기동 / 재연결) → 이후 동기화가 성공하면 로컬 사본 사용 */
+    public void markSubscribed() {
+        // 방금 확인된 구독 → 이전 연결에서 보낸 확인 메시지는 기다리지 않음
+        probeSentAt = 0;
+        subscribed = true;
+    }
+
+    /** 구독이 끊김 → 다시 구독되고 동기화될 때까지 로컬 사본만 믿지 않음 */
+    public void markUnsynced() {
+        subscribed = false;
+        synced = false;
+    }
+
+    @Scheduled(fixedDelayString = "${spring.jwt.blacklist.sweep-interval:60000}")
+    public void deleteAllExpired() {
+        long now = System.currentTimeMillis();
+        blacklisted.values().removeIf(expiresAt -> expiresAt <= now);
+    }
+
+    /** 확인할 수 없는 토큰 count 개에 대한 판단 */
+    private boolean failureVerdict(int count) {
+        if (failurePolicy == FailurePolicy.OPEN) {
+            failedOpen.increment(count);
+            return false;
+        }
+        failedClosed.increment(count);
+        return true;
+    }
+
+    private static Counter lookups(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("auth.blacklist.fallback")
+                .tag("result", result)
+                .description("로컬 사본을 쓸 수 없어 Redis 조회 / 실패 정책으로 판단한 수")
+                .register(meterRegistry);
+    }
+}
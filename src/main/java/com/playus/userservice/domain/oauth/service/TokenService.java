@@ -3,6 +3,7 @@ package com.playus.userservice.domain.oauth.service;
 import com.playus.userservice.domain.oauth.enums.TokenType;
 import com.playus.userservice.domain.user.entity.User;
 import com.playus.userservice.domain.user.repository.write.UserRepository;
+import com.playus.userservice.global.jwt.JwtClaims;
 import com.playus.userservice.global.jwt.JwtUtil;
 import com.playus.userservice.global.util.AgeUtils;
 import io.jsonwebtoken.JwtException;
@@ -52,13 +53,14 @@ public class TokenService {
 
         String refresh = extractRefreshToken(req);
 
-        // 만료,변조 체크
-        if (jwtUtil.isExpired(refresh)) {
+        // 만료,변조 체크 (서명 검증은 한 번만)
+        JwtClaims claims = jwtUtil.parse(refresh);
+        if (claims.isExpired()) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "REFRESH_TOKEN_EXPIRED");
         }
 
         // Redis 검증
-        String userId = jwtUtil.getUserId(refresh);
+        String userId = claims.userId();
         String redisKey = REDIS_PREFIX + userId;
 
         if (!Boolean.TRUE.equals(redisTemplate.hasKey(redisKey))) {
@@ -66,7 +68,7 @@ public class TokenService {
         }
 
         // 유저 검증
-        String role = jwtUtil.getRole(refresh);
+        String role = claims.role();
         User user = userRepository.findByIdAndActivatedTrue(Long.parseLong(userId))
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "USER_NOT_FOUND"));
 
@@ -87,7 +89,7 @@ public class TokenService {
         res.addHeader(HttpHeaders.SET_COOKIE, accessCookie.toString());
 
         // 리프레쉬 토큰 유효기간 하루 남으면 새로 발급
-        long remaining = jwtUtil.getRemainingExpirationTime(refresh);
+        long remaining = claims.remainingMillis();
         long oneDayMs = 24L * 60 * 60 * 1000;
 
         if (remaining < oneDayMs) {
@@ -1,18 +1,24 @@
 package com.playus.userservice.domain.oauth.service;
 
 import com.playus.userservice.global.jwt.JwtUtil;
+import com.playus.userservice.global.jwt.VerifiedTokenCache;
+import com.playus.userservice.global.response.TokenBatchValidationResponse;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TokenValidationService {
 
     private final JwtUtil jwtUtil;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final TokenBlacklistService tokenBlacklistService;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     public boolean isBlacklisted(String token) {
 
@@ -29,7 +35,7 @@ public class TokenValidationService {
                 throw new IllegalArgumentException("유효하지 않은 JWT 토큰입니다");
             }
 
-            return redisTemplate.hasKey("blacklist:" + jti);
+            return tokenBlacklistService.isBlacklisted(jti);
 
         } catch (IllegalArgumentException e) {
             throw e;
@@ -39,4 +45,50 @@ public class TokenValidationService {
             throw new RuntimeException("토큰 검증 서비스 오류", e);
         }
     }
+
+    /**
+     * 여러 토큰을 요청 순서대로 판단
+     * - 서명 검증은 요청 스레드에서 순서대로 (공용 ForkJoinPool 을 다른 작업과 나눠 쓰지 않도록),
+     *   이미 검증한 엑세스 토큰은 캐시에서 jti 만 꺼냄
+     * - 블랙리스트는 로컬 사본 확인, 판단하지 못한 것만 Redis 한 번에 조회
+     */
+    public TokenBatchValidationResponse checkAll(List<String> tokens) {
+        List<String> jtis = tokens.stream()
+                .map(this::jtiOrNull)
+                .toList();
+
+        List<Integer> validIndexes = new ArrayList<>();
+        for (int i = 0; i < jtis.size(); i++) {
+            if (jtis.get(i) != null) {
+                validIndexes.add(i);
+            }
+        }
+        List<Boolean> blacklisted = tokenBlacklistService.areBlacklisted(
+                validIndexes.stream().map(jtis::get).toList());
+
+        List<TokenBatchValidationResponse.Result> results = new ArrayList<>(tokens.size());
+        for (int i = 0; i < tokens.size(); i++) {
+            results.add(TokenBatchValidationResponse.Result.invalid());
+        }
+        for (int k = 0; k < validIndexes.size(); k++) {
+            results.set(validIndexes.get(k), new TokenBatchValidationResponse.Result(true, blacklisted.get(k)));
+        }
+        return new TokenBatchValidationResponse(results);
+    }
+
+    /** 변조 / 만료 / jti 없는 토큰이면 null */
+    private String jtiOrNull(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        VerifiedTokenCache.VerifiedToken verified = verifiedTokenCache.get(token);
+        if (verified != null) {
+            return verified.jti();
+        }
+        try {
+            return jwtUtil.parse(token).jti();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
 }
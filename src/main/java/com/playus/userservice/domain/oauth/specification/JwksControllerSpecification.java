@@ -0,0 +1,51 @@
+package com.playus.userservice.domain.oauth.specification;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+@Tag(name = "Auth", description = "OAuth 토큰 검증 API")
+public interface JwksControllerSpecification {
+
+    @Operation(
+            summary     = "토큰 서명 공개키 목록(JWKS) 조회",
+            description = "RS256 / ES256 으로 서명한 토큰을 다른 서비스가 직접 검증할 수 있도록 공개키를 JWK Set 으로 반환합니다. "
+                        + "토큰 헤더의 kid 로 키를 고르며, 교체 예정 / 퇴역 키도 함께 포함됩니다. "
+                        + "Cache-Control max-age 동안 캐시하고 이후 ETag 로 재검증하세요. HMAC 모드에서는 빈 목록입니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200", description = "조회 성공",
+                    content = @Content(
+                            mediaType = APPLICATION_JSON_VALUE,
+                            examples = @ExampleObject(
+                                    name  = "JWKS 예시",
+                                    value = """
+                                    {
+                                        "keys": [
+                                            {
+                                                "kty": "RSA",
+                                                "kid": "2026-10",
+                                                "use": "sig",
+                                                "alg": "RS256",
+                                                "n": "0vx7agoebGcQSuuPiLJXZptN9nndrQmbXEps2aiAFbWhM78LhWx4...",
+                                                "e": "AQAB"
+                                            }
+                                        ]
+                                    }
+                                    """
+                            )
+                    )
+            ),
+            @ApiResponse(responseCode = "304", description = "변경 없음 - If-None-Match 가 현재 ETag 와 같음")
+    })
+    ResponseEntity<Map<String, Object>> jwks();
+}
@@ -1,6 +1,8 @@
 package com.playus.userservice.domain.oauth.specification;
 
+import com.playus.userservice.global.request.TokenBatchValidationRequest;
 import com.playus.userservice.global.request.TokenValidationRequest;
+import com.playus.userservice.global.response.TokenBatchValidationResponse;
 import com.playus.userservice.global.response.TokenValidationResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -96,4 +98,65 @@ public interface TokenValidationControllerSpecification {
     ResponseEntity<TokenValidationResponse> checkBlacklist(
             @Parameter(hidden = true) TokenValidationRequest request
     );
+
+    @Operation(
+            summary     = "토큰 블랙리스트 여부 일괄 확인",
+            description = "내부 MSA 호출용으로 최대 100개 토큰의 블랙리스트 등록 여부를 한 번에 조회합니다. "
+                        + "결과는 요청한 토큰 순서대로 반환하며, 유효하지 않은 토큰은 valid=false, blacklisted=true 입니다.",
+            requestBody = @RequestBody(
+                    required = true,
+                    content  = @Content(
+                            mediaType = APPLICATION_JSON_VALUE,
+                            examples  = @ExampleObject(
+                                    name  = "일괄 검증 요청 예시",
+                                    value = """
+                                    {
+                                        "tokens": [
+                                            "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...",
+                                            "eyJhbGciOiJIUzI1NiJ9..."
+                                        ]
+                                    }
+                                    """
+                            )
+                    )
+            )
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200", description = "일괄 조회 성공",
+                    content = @Content(
+                            mediaType = APPLICATION_JSON_VALUE,
+                            examples = @ExampleObject(
+                                    name  = "일괄 조회 결과 예시",
+                                    value = """
+                                    {
+                                        "results": [
+                                            { "valid": true,  "blacklisted": false },
+                                            { "valid": false, "blacklisted": true }
+                                        ]
+                                    }
+                                    """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400", description = "잘못된 요청 - 토큰 목록이 비었거나 100개 초과",
+                    content = @Content(
+                            mediaType = APPLICATION_JSON_VALUE,
+                            examples = @ExampleObject(
+                                    name  = "개수 초과 예시",
+                                    value = """
+                                    {
+                                        "code": 400,
+                                        "status": "BAD_REQUEST",
+                                        "message": "한 번에 100개까지 조회할 수 있습니다"
+                                    }
+                                    """
+                            )
+                    )
+            )
+    })
+    ResponseEntity<TokenBatchValidationResponse> checkBlacklistBatch(
+            @Parameter(hidden = true) TokenBatchValidationRequest request
+    );
 }
@@ -1,18 +1,32 @@
 package com.playus.userservice.domain.user.document;
 
-import com.playus.userservice.domain.common.BaseTimeEntity;
 import com.playus.userservice.domain.user.enums.NotificationType;
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 
+import java.time.LocalDateTime;
+
+/**
+ * 알림 읽기 모델 - MySQL notifications 커밋 후 NotificationProjector 가 반영
+ * 생성 시각은 MySQL 값을 그대로 옮겨야 커서가 일치하므로 auditing 을 쓰지 않음
+ */
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Document(collection = "notifications")
-public class NotificationDocument extends BaseTimeEntity {
+@CompoundIndexes({
+        // 목록 / 최근 알림 (keyset)
+        @CompoundIndex(name = "idx_notifications_receiver_created", def = "{'receiver_id': 1, 'created_at': -1, '_id': -1}"),
+        // 안 읽은 알림 목록 / 개수
+        @CompoundIndex(name = "idx_notifications_receiver_unread", def = "{'receiver_id': 1, 'is_read': 1, 'created_at': -1, '_id': -1}")
+})
+public class NotificationDocument {
     @Id
     private Long id;
 
@@ -26,9 +40,16 @@ public class NotificationDocument extends BaseTimeEntity {
     @Size(min = 1, max = 500)
     private String content;
 
+    @Indexed(name = "idx_notifications_comment")
     @Field("comment_id")
     private Long commentId;
 
+    @Field("party_id")
+    private Long partyId;
+
+    @Field("actor_id")
+    private Long actorId;
+
     @NotNull
     @Field("receiver_id")
     private Long receiverId;
@@ -39,15 +60,27 @@ public class NotificationDocument extends BaseTimeEntity {
     @NotNull
     private NotificationType type;
 
+    @Field("created_at")
+    private LocalDateTime createdAt;
+
+    @Field("updated_at")
+    private LocalDateTime updatedAt;
+
     @Builder
-    private NotificationDocument(Long id, String title, String content, Long commentId, Long receiverId, boolean isRead, NotificationType type) {
+    private NotificationDocument(Long id, String title, String content, Long commentId, Long partyId, Long actorId,
+                                 Long receiverId, boolean isRead, NotificationType type,
+                                 LocalDateTime createdAt, LocalDateTime updatedAt) {
         this.id = id;
         this.title = title;
         this.content = content;
         this.commentId = commentId;
+        this.partyId = partyId;
+        this.actorId = actorId;
         this.receiverId = receiverId;
         this.isRead = isRead;
         this.type = type;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
     }
 
     public static NotificationDocument createNotificationDocument(Long id, String title, String content, Long commentId, Long receiverId, boolean isRead, NotificationType type) {
@@ -8,19 +8,36 @@ import lombok.*;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+        // 목록 keyset 페이징: WHERE user_id = ? AND (created_at, id) < (?, ?) ORDER BY created_at DESC, id DESC
+        @Index(name = "idx_notifications_user_created", columnList = "user_id, created_at, id"),
+        // 안 읽은 알림 목록 / 개수
+        @Index(name = "idx_notifications_user_unread", columnList = "user_id, is_read, created_at, id"),
+        // 댓글/직관팟 단위 정리 (InnoDB 보조 인덱스는 PK 를 포함 → id 순 범위 삭제)
+        @Index(name = "idx_notifications_comment", columnList = "comment_id"),
+        @Index(name = "idx_notifications_party", columnList = "party_id"),
+        @Index(name = "idx_notifications_content", columnList = "content_id")
+})
 public class Notification extends BaseTimeEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    /** 공유 본문(sharedContent)을 쓰는 행은 빈 문자열 - 기존 스키마의 NOT NULL 을 그대로 유지 */
+    @Getter(AccessLevel.NONE)
     @Column(nullable = false)
     private String title;
 
+    @Getter(AccessLevel.NONE)
     @Column(nullable = false)
     private String content;
 
+    /** 여러 수신자가 같은 본문을 쓰는 fan-out 알림일 때만 사용 */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "content_id")
+    private NotificationContent sharedContent;
+
     /** 댓글 알림일 때만 사용 */
     @Column(name = "comment_id")
     private Long commentId;
@@ -44,6 +61,10 @@ public class Notification extends BaseTimeEntity {
     @Column(nullable = false, name = "is_read")
     private boolean isRead;
 
+    /** 묶음 알림에 합쳐진 알림 수 - 합치기는 UPDATE 로 원자적 증가 (기존 행 / JDBC 배치 삽입은 DB 기본값 1) */
+    @Column(name = "coalesced_count", nullable = false, columnDefinition = "int default 1")
+    private int coalescedCount = 1;
+
     @Builder
     private Notification(User receiver, String title, String content, Long commentId, Long partyId, Long actorId, boolean isRead, NotificationType type) {
         this.receiver = receiver;
@@ -69,6 +90,30 @@ public class Notification extends BaseTimeEntity {
                 .build();
     }
 
+    /** fan-out 수신자 행 - 제목/내용은 공유 본문에만 저장, 조회 조건에 쓰는 값만 복사 */
+    public static Notification recipientOf(User receiver, NotificationContent sharedContent) {
+        Notification n = Notification.builder()
+                .receiver(receiver)
+                .title("")
+                .content("")
+                .partyId(sharedContent.getPartyId())
+                .actorId(sharedContent.getActorId())
+                .isRead(false)
+                .type(sharedContent.getType())
+                .build();
+        n.sharedContent = sharedContent;
+        return n;
+    }
+
+    /** 자기 값이 비어 있고 공유 본문이 있으면 공유 본문 값 (묶음 알림으로 갱신된 행은 자기 값) */
+    public String getTitle() {
+        return (sharedContent == null || (title != null && !title.isEmpty())) ? title : sharedContent.getTitle();
+    }
+
+    public String getContent() {
+        return (sharedContent == null || (content != null && !content.isEmpty())) ? content : sharedContent.getContent();
+    }
+
     public void markAsRead() {
         this.isRead = true;
     }
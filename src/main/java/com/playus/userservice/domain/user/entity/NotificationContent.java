@@ -0,0 +1,49 @@
+package com.playus.userservice.domain.user.entity;
+
+import com.playus.userservice.domain.common.BaseTimeEntity;
+import com.playus.userservice.domain.user.enums.NotificationType;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 여러 수신자에게 같은 내용으로 가는 알림의 본문 (직관팟 멤버 전체 알림 등)
+ * 본문은 한 번만 저장하고 수신자별 notifications 행은 content_id 로 참조
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "notification_contents", indexes = {
+        // 수신자가 모두 삭제된 본문 정리
+        @Index(name = "idx_notification_contents_created", columnList = "created_at, id")
+})
+public class NotificationContent extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false)
+    private String content;
+
+    @Column(name = "party_id")
+    private Long partyId;
+
+    @Column(name = "actor_id")
+    private Long actorId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private NotificationType type;
+
+    @Builder
+    private NotificationContent(String title, String content, Long partyId, Long actorId, NotificationType type) {
+        this.title = title;
+        this.content = content;
+        this.partyId = partyId;
+        this.actorId = actorId;
+        this.type = type;
+    }
+}
@@ -0,0 +1,55 @@
+package com.playus.userservice.domain.user.entity;
+
+import com.playus.userservice.domain.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 SSE 전송 대기열 - 알림과 같은 트랜잭션에서 기록
+ * 커밋 직후 전송에 성공하면 processedAt 기록, 실패/유실 시 poller 가 재전송 (at-least-once)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "notification_outbox", indexes = {
+        @Index(name = "idx_outbox_pending", columnList = "processed_at, available_at, id")
+})
+public class NotificationOutbox extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "receiver_id", nullable = false)
+    private Long receiverId;
+
+    /** NotificationResponse JSON 배열 */
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    /** poller 가 가져갈 수 있는 시각 (커밋 직후 전송과 겹치지 않도록 유예) */
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    @Builder
+    private NotificationOutbox(Long receiverId, String payload, LocalDateTime availableAt) {
+        this.receiverId = receiverId;
+        this.payload = payload;
+        this.attempts = 0;
+        this.availableAt = availableAt;
+    }
+
+    /** poller 가 가져감 - until 까지 다른 poller 대상에서 빠지고, 처리 완료 표시가 없으면 그 뒤 재시도 */
+    public void lease(LocalDateTime until) {
+        this.attempts++;
+        this.availableAt = until;
+    }
+}
@@ -0,0 +1,31 @@
+package com.playus.userservice.domain.user.feign.response;
+
+import com.playus.userservice.domain.user.enums.NotificationType;
+import lombok.Builder;
+
+import java.util.List;
+
+/** 같은 직관팟 이벤트를 여러 수신자(팟 멤버 전체 등)에게 한 번에 보낼 때 사용 */
+@Builder
+public record PartyNotificationFanoutEvent(
+        Long partyId,
+        String partyTitle,
+        Long actorId,          // 행동 주체(참여자·작성자 등)
+        NotificationType type, // PARTY_JOINED, PARTY_APPROVED, PARTY_REFUSED ...
+        String requireMessage, // PARTY_REQUEST 일 때 신청 메시지
+        List<Long> receiverIds // 알림 받을 유저 목록
+) {
+
+    /** 선착순 팟: 누군가 참가 (→ 기존 멤버 전체에게) */
+    public static PartyNotificationFanoutEvent joined(
+            Long partyId, String partyTitle, Long applicantId, List<Long> receiverIds) {
+
+        return PartyNotificationFanoutEvent.builder()
+                .partyId(partyId)
+                .partyTitle(partyTitle)
+                .actorId(applicantId)
+                .type(NotificationType.PARTY_JOINED)
+                .receiverIds(receiverIds)
+                .build();
+    }
+}
@@ -0,0 +1,26 @@
+package com.playus.userservice.domain.user.repository.read;
+
+import com.playus.userservice.domain.user.document.NotificationDocument;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotificationReadOnlyRepository extends MongoRepository<NotificationDocument, Long> {
+
+    // keyset 페이징 - (created_at, _id) 가 커서보다 작은 알림을 최신순으로 -> idx_notifications_receiver_created
+    @Query(value = "{ 'receiver_id': ?0, $or: [ { 'created_at': { $lt: ?1 } }, { 'created_at': ?1, '_id': { $lt: ?2 } } ] }",
+            sort = "{ 'created_at': -1, '_id': -1 }")
+    List<NotificationDocument> findPageByReceiverId(Long receiverId, LocalDateTime createdAt, Long id, Limit limit);
+
+    // 안 읽은 알림만 -> idx_notifications_receiver_unread
+    @Query(value = "{ 'receiver_id': ?0, 'is_read': false, $or: [ { 'created_at': { $lt: ?1 } }, { 'created_at': ?1, '_id': { $lt: ?2 } } ] }",
+            sort = "{ 'created_at': -1, '_id': -1 }")
+    List<NotificationDocument> findUnreadPageByReceiverId(Long receiverId, LocalDateTime createdAt, Long id, Limit limit);
+
+    List<NotificationDocument> findTop3ByReceiverIdOrderByCreatedAtDescIdDesc(Long receiverId);
+
+    long countByReceiverIdAndIsReadFalse(Long receiverId);
+}
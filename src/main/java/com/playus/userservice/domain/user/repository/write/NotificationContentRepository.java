@@ -0,0 +1,35 @@
+package com.playus.userservice.domain.user.repository.write;
+
+import com.playus.userservice.domain.user.entity.NotificationContent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface NotificationContentRepository extends JpaRepository<NotificationContent, Long> {
+
+	/** 참조하는 수신자 행이 하나도 없는 본문 (수신자 삭제 / 유저 탈퇴 후 남은 것) */
+	@Query("""
+			SELECT c.id FROM NotificationContent c
+			WHERE c.createdAt < :before AND c.id > :afterId
+			  AND NOT EXISTS (SELECT 1 FROM Notification n WHERE n.sharedContent = c)
+			ORDER BY c.id
+			""")
+	List<Long> findOrphanIdsBefore(@Param("before") LocalDateTime before,
+								   @Param("afterId") Long afterId,
+								   Limit limit);
+
+	/** 조회 이후 참조가 생긴 본문은 남김 (안전장치) */
+	@Modifying
+	@Query("""
+			DELETE FROM NotificationContent c
+			WHERE c.id IN :ids
+			  AND NOT EXISTS (SELECT 1 FROM Notification n WHERE n.sharedContent = c)
+			""")
+	int deleteOrphansByIds(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,14 @@
+package com.playus.userservice.domain.user.repository.write;
+
+import com.playus.userservice.domain.user.entity.Notification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotificationJdbcRepository {
+	/**
+	 * JDBC 배치 INSERT (IDENTITY 전략이라 JPA saveAll 은 건마다 INSERT)
+	 * @return 입력 순서와 같은 순서의 생성 id
+	 */
+	List<Long> batchInsert(List<Notification> notifications, LocalDateTime createdAt);
+}
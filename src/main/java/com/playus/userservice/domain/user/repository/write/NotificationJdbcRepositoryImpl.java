@@ -0,0 +1,89 @@
+package com.playus.userservice.domain.user.repository.write;
+
+import com.playus.userservice.domain.user.entity.Notification;
+import com.playus.userservice.domain.user.entity.NotificationContent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+
+public class NotificationJdbcRepositoryImpl implements NotificationJdbcRepository {
+
+	private static final String INSERT_SQL = """
+			INSERT INTO notifications
+			    (title, content, content_id, comment_id, party_id, actor_id, user_id, type, is_read, created_at, updated_at)
+			VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+	/** JPA 로 저장한 행과 같은 기준으로 기록 - Hibernate 처럼 hibernate.jdbc.time_zone 으로 바인딩 (JVM 기본 시간대 무관) */
+	private final TimeZone jdbcTimeZone;
+
+	public NotificationJdbcRepositoryImpl(
+			JdbcTemplate jdbcTemplate,
+			@Value("${spring.jpa.properties.hibernate.jdbc.time_zone:}") String jdbcTimeZone) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.jdbcTimeZone = jdbcTimeZone.isBlank() ? TimeZone.getDefault() : TimeZone.getTimeZone(jdbcTimeZone);
+	}
+
+	@Override
+	public List<Long> batchInsert(List<Notification> notifications, LocalDateTime createdAt) {
+		if (notifications.isEmpty()) {
+			return List.of();
+		}
+
+		// 감사(@CreatedDate) 리스너를 거치지 않으므로 시간은 직접 기록
+		Timestamp now = Timestamp.valueOf(createdAt);
+		Calendar calendar = Calendar.getInstance(jdbcTimeZone);
+		KeyHolder keyHolder = new GeneratedKeyHolder();
+
+		jdbcTemplate.batchUpdate(
+				con -> con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+				new BatchPreparedStatementSetter() {
+					@Override
+					public void setValues(PreparedStatement ps, int i) throws SQLException {
+						Notification n = notifications.get(i);
+						NotificationContent shared = n.getSharedContent();
+						// 공유 본문을 쓰는 행은 제목/내용을 중복 저장하지 않음 (NOT NULL 컬럼이므로 빈 문자열)
+						ps.setString(1, shared == null ? n.getTitle() : "");
+						ps.setString(2, shared == null ? n.getContent() : "");
+						ps.setObject(3, shared == null ? null : shared.getId(), Types.BIGINT);
+						ps.setObject(4, n.getCommentId(), Types.BIGINT);
+						ps.setObject(5, n.getPartyId(), Types.BIGINT);
+						ps.setObject(6, n.getActorId(), Types.BIGINT);
+						ps.setLong(7, n.getReceiver().getId());
+						ps.setString(8, n.getType().name());
+						ps.setBoolean(9, n.isRead());
+						ps.setTimestamp(10, now, calendar);
+						ps.setTimestamp(11, now, calendar);
+					}
+
+					@Override
+					public int getBatchSize() {
+						return notifications.size();
+					}
+				},
+				keyHolder);
+
+		List<Map<String, Object>> keys = keyHolder.getKeyList();
+		if (keys.size() != notifications.size()) {
+			throw new IllegalStateException(
+					"생성 키 개수 불일치: expected=" + notifications.size() + ", actual=" + keys.size());
+		}
+		return keys.stream()
+				.map(key -> ((Number) key.values().iterator().next()).longValue())
+				.toList();
+	}
+}
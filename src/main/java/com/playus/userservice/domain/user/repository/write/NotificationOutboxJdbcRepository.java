@@ -0,0 +1,11 @@
+package com.playus.userservice.domain.user.repository.write;
+
+import com.playus.userservice.domain.user.entity.NotificationOutbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotificationOutboxJdbcRepository {
+	/** @return 입력 순서와 같은 순서의 생성 id */
+	List<Long> batchInsert(List<NotificationOutbox> outboxes, LocalDateTime createdAt);
+}
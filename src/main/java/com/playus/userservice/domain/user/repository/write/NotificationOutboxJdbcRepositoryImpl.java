@@ -0,0 +1,78 @@
+package com.playus.userservice.domain.user.repository.write;
+
+import com.playus.userservice.domain.user.entity.NotificationOutbox;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+
+public class NotificationOutboxJdbcRepositoryImpl implements NotificationOutboxJdbcRepository {
+
+	private static final String INSERT_SQL = """
+			INSERT INTO notification_outbox
+			    (receiver_id, payload, attempts, available_at, created_at, updated_at)
+			VALUES (?, ?, 0, ?, ?, ?)
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+	/** JPA 로 저장한 행과 같은 기준으로 기록 - Hibernate 처럼 hibernate.jdbc.time_zone 으로 바인딩 (JVM 기본 시간대 무관) */
+	private final TimeZone jdbcTimeZone;
+
+	public NotificationOutboxJdbcRepositoryImpl(
+			JdbcTemplate jdbcTemplate,
+			@Value("${spring.jpa.properties.hibernate.jdbc.time_zone:}") String jdbcTimeZone) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.jdbcTimeZone = jdbcTimeZone.isBlank() ? TimeZone.getDefault() : TimeZone.getTimeZone(jdbcTimeZone);
+	}
+
+	@Override
+	public List<Long> batchInsert(List<NotificationOutbox> outboxes, LocalDateTime createdAt) {
+		if (outboxes.isEmpty()) {
+			return List.of();
+		}
+
+		Timestamp now = Timestamp.valueOf(createdAt);
+		Calendar calendar = Calendar.getInstance(jdbcTimeZone);
+		KeyHolder keyHolder = new GeneratedKeyHolder();
+
+		jdbcTemplate.batchUpdate(
+				con -> con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+				new BatchPreparedStatementSetter() {
+					@Override
+					public void setValues(PreparedStatement ps, int i) throws SQLException {
+						NotificationOutbox o = outboxes.get(i);
+						ps.setLong(1, o.getReceiverId());
+						ps.setString(2, o.getPayload());
+						ps.setTimestamp(3, Timestamp.valueOf(o.getAvailableAt()), calendar);
+						ps.setTimestamp(4, now, calendar);
+						ps.setTimestamp(5, now, calendar);
+					}
+
+					@Override
+					public int getBatchSize() {
+						return outboxes.size();
+					}
+				},
+				keyHolder);
+
+		List<Map<String, Object>> keys = keyHolder.getKeyList();
+		if (keys.size() != outboxes.size()) {
+			throw new IllegalStateException(
+					"생성 키 개수 불일치: expected=" + outboxes.size() + ", actual=" + keys.size());
+		}
+		return keys.stream()
+				.map(key -> ((Number) key.values().iterator().next()).longValue())
+				.toList();
+	}
+}
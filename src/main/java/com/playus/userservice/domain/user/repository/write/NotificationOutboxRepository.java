@@ -0,0 +1,44 @@
+package com.playus.userservice.domain.user.repository.write;
+
+import com.playus.userservice.domain.user.entity.NotificationOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long>, NotificationOutboxJdbcRepository {
+
+	/** 다른 파드가 잡은 행은 건너뜀 → poller 여러 개가 겹치지 않고 나눠 처리 (트랜잭션 안에서 호출) */
+	@Query(value = """
+			SELECT * FROM notification_outbox
+			WHERE processed_at IS NULL AND available_at <= :now
+			ORDER BY id
+			LIMIT :limit
+			FOR UPDATE SKIP LOCKED
+			""", nativeQuery = true)
+	List<NotificationOutbox> findDeliverableForUpdate(@Param("now") LocalDateTime now,
+													  @Param("limit") int limit);
+
+	@Modifying
+	@Query("""
+			UPDATE NotificationOutbox o SET o.processedAt = :now, o.attempts = o.attempts + 1
+			WHERE o.id = :id AND o.processedAt IS NULL
+			""")
+	int markProcessed(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+	/** poller 가 전송한 행 - 시도 횟수는 lease 때 이미 올렸으므로 처리 시각만 기록 */
+	@Modifying
+	@Query("""
+			UPDATE NotificationOutbox o SET o.processedAt = :now
+			WHERE o.id IN :ids AND o.processedAt IS NULL
+			""")
+	int markAllProcessed(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+	@Modifying
+	@Query(value = "DELETE FROM notification_outbox WHERE processed_at < :cutoff LIMIT :limit", nativeQuery = true)
+	int deleteProcessedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
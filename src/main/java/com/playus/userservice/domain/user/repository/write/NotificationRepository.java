@@ -2,13 +2,133 @@ package com.playus.userservice.domain.user.repository.write;
 
 import com.playus.userservice.domain.user.entity.Notification;
 import com.playus.userservice.domain.user.entity.User;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
-public interface NotificationRepository extends JpaRepository<Notification, Long> {
-	List<Notification> findAllByReceiver(User receiver);
-	void deleteAllByReceiver(User receiver);
-	void deleteAllByCommentId(Long commentId);
+public interface NotificationRepository extends JpaRepository<Notification, Long>, NotificationJdbcRepository {
+	@EntityGraph(attributePaths = "sharedContent")
 	List<Notification> findTop3ByReceiverOrderByCreatedAtDesc(User receiver);
+
+	/**
+	 * (createdAt, id) 보다 오래된 알림을 최신순으로 (공유 본문은 같이 조회)
+	 * - 커서와 같은 밀리초 [createdAt, createdAtEnd) 안에서는 id 로 비교 → 밀리초로 저장된 읽기 모델과 같은 위치에서 이어짐
+	 */
+	@Query("""
+			SELECT n FROM Notification n
+			LEFT JOIN FETCH n.sharedContent
+			WHERE n.receiver.id = :userId
+			  AND (n.createdAt < :createdAt OR (n.createdAt < :createdAtEnd AND n.id < :id))
+			ORDER BY n.createdAt DESC, n.id DESC
+			""")
+	List<Notification> findPageByReceiverId(@Param("userId") Long userId,
+											@Param("createdAt") LocalDateTime createdAt,
+											@Param("createdAtEnd") LocalDateTime createdAtEnd,
+											@Param("id") Long id,
+											Limit limit);
+
+	@Query("""
+			SELECT n FROM Notification n
+			LEFT JOIN FETCH n.sharedContent
+			WHERE n.receiver.id = :userId
+			  AND n.isRead = false
+			  AND (n.createdAt < :createdAt OR (n.createdAt < :createdAtEnd AND n.id < :id))
+			ORDER BY n.createdAt DESC, n.id DESC
+			""")
+	List<Notification> findUnreadPageByReceiverId(@Param("userId") Long userId,
+												  @Param("createdAt") LocalDateTime createdAt,
+												  @Param("createdAtEnd") LocalDateTime createdAtEnd,
+												  @Param("id") Long id,
+												  Limit limit);
+
+	/** 읽기 모델 backfill / 복구용 - id 순 청크 (공유 본문은 같이 조회) */
+	@Query("""
+			SELECT n FROM Notification n
+			LEFT JOIN FETCH n.sharedContent
+			WHERE n.id > :afterId
+			ORDER BY n.id
+			""")
+	List<Notification> findChunkAfterId(@Param("afterId") Long afterId, Limit limit);
+
+	@Query("SELECT COUNT(n) FROM Notification n WHERE n.receiver.id = :userId AND n.isRead = false")
+	long countUnreadByReceiverId(@Param("userId") Long userId);
+
+	/** 엔티티 로딩 없이 UPDATE 한 번, 안 읽은 알림만 대상 → 반환값 = 실제 읽음 처리된 수 */
+	@Modifying(clearAutomatically = true)
+	@Query("""
+			UPDATE Notification n SET n.isRead = true, n.updatedAt = :now
+			WHERE n.receiver.id = :userId AND n.id IN :ids AND n.isRead = false
+			""")
+	int markAsReadByIds(@Param("userId") Long userId,
+						@Param("ids") Collection<Long> ids,
+						@Param("now") LocalDateTime now);
+
+	@Modifying(clearAutomatically = true)
+	@Query("""
+			UPDATE Notification n SET n.isRead = true, n.updatedAt = :now
+			WHERE n.receiver.id = :userId AND n.isRead = false
+			""")
+	int markAllAsRead(@Param("userId") Long userId,
+					  @Param("now") LocalDateTime now);
+
+	/*
+	 * 묶음 알림 합치기 - 읽기-수정-쓰기 대신 UPDATE 로 개수를 원자적으로 올림 (행 잠금으로 동시 합치기 직렬화)
+	 * 이미 읽었거나 삭제된 알림이면 0
+	 */
+	@Modifying
+	@Query("""
+			UPDATE Notification n
+			SET n.coalescedCount = n.coalescedCount + 1, n.content = :content, n.actorId = :actorId, n.updatedAt = :now
+			WHERE n.id = :id AND n.isRead = false
+			""")
+	int incrementCoalescedCount(@Param("id") Long id,
+								@Param("content") String content,
+								@Param("actorId") Long actorId,
+								@Param("now") LocalDateTime now);
+
+	@Query("SELECT n.coalescedCount FROM Notification n WHERE n.id = :id")
+	int findCoalescedCountById(@Param("id") Long id);
+
+	@Modifying
+	@Query("UPDATE Notification n SET n.title = :title WHERE n.id = :id")
+	int updateTitle(@Param("id") Long id, @Param("title") String title);
+
+	/*
+	 * 대량 삭제 - 파생 delete 는 엔티티를 모두 조회한 뒤 건마다 DELETE 하므로
+	 * id 순으로 청크를 잘라 범위 DELETE 한 번씩 실행
+	 */
+	@Query("SELECT n.id FROM Notification n WHERE n.receiver.id = :userId AND n.id > :afterId ORDER BY n.id")
+	List<Long> findIdsByReceiverIdAfter(@Param("userId") Long userId,
+										@Param("afterId") Long afterId,
+										Limit limit);
+
+	@Modifying
+	@Query("DELETE FROM Notification n WHERE n.receiver.id = :userId AND n.id BETWEEN :fromId AND :toId")
+	int deleteByReceiverIdAndIdBetween(@Param("userId") Long userId,
+									   @Param("fromId") Long fromId,
+									   @Param("toId") Long toId);
+
+	@Query("SELECT n.id FROM Notification n WHERE n.commentId = :commentId AND n.id > :afterId ORDER BY n.id")
+	List<Long> findIdsByCommentIdAfter(@Param("commentId") Long commentId,
+									   @Param("afterId") Long afterId,
+									   Limit limit);
+
+	@Modifying
+	@Query("DELETE FROM Notification n WHERE n.commentId = :commentId AND n.id BETWEEN :fromId AND :toId")
+	int deleteByCommentIdAndIdBetween(@Param("commentId") Long commentId,
+									  @Param("fromId") Long fromId,
+									  @Param("toId") Long toId);
+
+	@Query("SELECT DISTINCT n.receiver.id FROM Notification n WHERE n.commentId = :commentId AND n.isRead = false")
+	List<Long> findUnreadReceiverIdsByCommentId(@Param("commentId") Long commentId);
+
+	@Query("SELECT DISTINCT n.receiver.id FROM Notification n WHERE n.commentId = :commentId")
+	List<Long> findReceiverIdsByCommentId(@Param("commentId") Long commentId);
 }
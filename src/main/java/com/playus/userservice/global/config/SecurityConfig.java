@@ -4,15 +4,16 @@ import com.playus.userservice.domain.oauth.handler.CustomSuccessHandler;
 import com.playus.userservice.domain.oauth.handler.CustomFailureHandler;
 import com.playus.userservice.domain.oauth.repository.HttpCookieOAuth2AuthorizationRequestRepository;
 import com.playus.userservice.domain.oauth.service.CustomOAuth2UserService;
+import com.playus.userservice.domain.oauth.service.TokenBlacklistService;
 import com.playus.userservice.global.jwt.JwtFilter;
 import com.playus.userservice.global.jwt.JwtUtil;
+import com.playus.userservice.global.jwt.VerifiedTokenCache;
 
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -37,7 +38,8 @@ public class SecurityConfig {
 	private final CustomSuccessHandler customSuccessHandler;
 	private final CustomFailureHandler customFailureHandler;
 	private final JwtUtil jwtUtil;
-	private final RedisTemplate<String, String> redisTemplate;
+	private final VerifiedTokenCache verifiedTokenCache;
+	private final TokenBlacklistService tokenBlacklistService;
 	private final AuthenticationEntryPoint entryPoint;
 	private final AccessDeniedHandler accessDeniedHandler;
 
@@ -57,6 +59,7 @@ public class SecurityConfig {
 
 	private static final String[] WHITELISTED_PATHS = {
 			"/error",
+			"/.well-known/jwks.json",
 			"/swagger-ui/**",
 			"/v3/api-docs/**",
 			"/user/api/**",
@@ -105,7 +108,7 @@ public class SecurityConfig {
 				)
 
 				// JWT 필터
-				.addFilterBefore(new JwtFilter(jwtUtil, redisTemplate), UsernamePasswordAuthenticationFilter.class)
+				.addFilterBefore(new JwtFilter(jwtUtil, verifiedTokenCache, tokenBlacklistService), UsernamePasswordAuthenticationFilter.class)
 
 				// OAuth2 로그인 설정
 				.oauth2Login(oauth2 -> oauth2
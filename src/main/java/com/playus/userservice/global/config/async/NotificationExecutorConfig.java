@@ -0,0 +1,117 @@
+package com.playus.userservice.global.config.async;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Slf4j
+@Configuration
+public class NotificationExecutorConfig {
+
+    public static final String DISPATCH_EXECUTOR = "notificationDispatchExecutor";
+    public static final String CLEANUP_EXECUTOR = "notificationCleanupExecutor";
+    public static final String SSE_WRITER_EXECUTOR = "notificationSseWriterExecutor";
+    public static final String SSE_CLOSER_EXECUTOR = "notificationSseCloserExecutor";
+
+    /**
+     * SSE 전송 전용 스레드 풀
+     * - 큐가 가득 차면 요청 스레드(= DB 커넥션 보유 중)로 넘기지 않고 버림
+     *   → 유실된 알림은 목록 조회/재연결로 복구 가능
+     */
+    @Bean(name = DISPATCH_EXECUTOR)
+    public ThreadPoolTaskExecutor notificationDispatchExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${notification.dispatch.core-pool-size:2}") int corePoolSize,
+            @Value("${notification.dispatch.max-pool-size:4}") int maxPoolSize,
+            @Value("${notification.dispatch.queue-capacity:1000}") int queueCapacity) {
+
+        Counter rejected = Counter.builder("notification.dispatch.rejected")
+                .description("큐 초과로 버려진 SSE 전송 수")
+                .register(meterRegistry);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("notification-dispatch-");
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejected.increment();
+            log.warn("SSE 전송 큐 초과 - 전송 생략 (queue={})", pool.getQueue().size());
+        });
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+
+        Gauge.builder("notification.dispatch.queue.size", executor,
+                        e -> e.getThreadPoolExecutor() == null ? 0 : e.getThreadPoolExecutor().getQueue().size())
+                .description("SSE 전송 대기 중인 작업 수")
+                .register(meterRegistry);
+
+        return executor;
+    }
+
+    /**
+     * 알림 대량 삭제(비동기 모드) 전용
+     * - 큐가 차면 거절(AbortPolicy) → 호출 측이 503 + Retry-After 로 응답
+     *   (요청 스레드에서 대신 실행하면 202 를 주고도 삭제가 끝날 때까지 응답이 묶임)
+     */
+    @Bean(name = CLEANUP_EXECUTOR)
+    public ThreadPoolTaskExecutor notificationCleanupExecutor(
+            @Value("${notification.cleanup.pool-size:1}") int poolSize,
+            @Value("${notification.cleanup.queue-capacity:100}") int queueCapacity) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("notification-cleanup-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * SSE 연결별 대기열을 비우는 writer
+     * - 연결마다 drain 작업이 최대 1개만 대기하므로 큐 길이 ≤ 연결 수 → 무제한 큐
+     * - emitter.send 는 블로킹 쓰기 → 소켓 버퍼가 찬 연결은 writer 한 개를 붙잡음
+     * - 한 번의 쓰기가 notification.sse.writer.write-timeout(5s) 을 넘기면 하트비트가 연결을 끊어
+     *   같은 소켓에 다시 drain 이 예약되지 않도록 함
+     * - 이미 막힌 쓰기는 컨테이너 write timeout(server.tomcat.connection-timeout) 이 지나야 스레드가 반환되므로
+     *   pool-size 는 그 시간 동안 동시에 멈출 수 있는 연결 수보다 크게 잡을 것 (notification.sse.writer.busy 로 확인)
+     */
+    @Bean(name = SSE_WRITER_EXECUTOR)
+    public ThreadPoolTaskExecutor notificationSseWriterExecutor(
+            @Value("${notification.sse.writer.pool-size:4}") int poolSize) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setThreadNamePrefix("sse-writer-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(5);
+        return executor;
+    }
+
+    /**
+     * SSE emitter 종료(complete) 전용
+     * - 쓰기가 막힌 연결의 complete 는 send 가 쥔 emitter 락을 기다림 → 하트비트 / 생산자 스레드 대신 여기서 대기
+     * - 동시에 막히는 complete 는 막힌 쓰기 수(≤ writer pool-size) 를 넘지 않으므로 같은 크기로 둠
+     */
+    @Bean(name = SSE_CLOSER_EXECUTOR)
+    public ThreadPoolTaskExecutor notificationSseCloserExecutor(
+            @Value("${notification.sse.closer.pool-size:4}") int poolSize) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setThreadNamePrefix("sse-closer-");
+        return executor;
+    }
+}
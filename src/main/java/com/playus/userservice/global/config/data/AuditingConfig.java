@@ -1,11 +1,23 @@
 package com.playus.userservice.global.config.data;
 
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.auditing.DateTimeProvider;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.mongodb.config.EnableMongoAuditing;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
 @Configuration
-@EnableJpaAuditing
+@EnableJpaAuditing(dateTimeProviderRef = "millisDateTimeProvider")
 @EnableMongoAuditing
 public class AuditingConfig {
+
+    /** MySQL 생성 / 수정 시각도 Mongo 와 같이 밀리초까지만 → 두 저장소의 (created_at, id) 정렬이 같음 */
+    @Bean
+    public DateTimeProvider millisDateTimeProvider() {
+        return () -> Optional.of(LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS));
+    }
 }
@@ -0,0 +1,32 @@
+package com.playus.userservice.global.config.data.redis;
+
+import com.playus.userservice.domain.notification.service.ClusterNode;
+import com.playus.userservice.domain.notification.service.NotificationFanoutListener;
+import com.playus.userservice.domain.oauth.service.TokenBlacklistListener;
+import com.playus.userservice.domain.oauth.service.TokenBlacklistService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class RedisListenerConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            NotificationFanoutListener notificationFanoutListener,
+            TokenBlacklistListener tokenBlacklistListener,
+            ClusterNode clusterNode) {
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+
+        // 파드 전용 채널만 구독 → 다른 파드 유저의 이벤트는 받지 않음
+        container.addMessageListener(notificationFanoutListener, new ChannelTopic(clusterNode.getChannel()));
+        // 로그아웃 토큰은 모든 파드가 알아야 하므로 공용 채널
+        container.addMessageListener(tokenBlacklistListener, new ChannelTopic(TokenBlacklistService.CHANNEL));
+        return container;
+    }
+}
@@ -57,7 +57,8 @@ public class ExceptionAdvice {
                 .message(message)
                 .build();
         log.error("API Error ({}): {}", status, message);
-        return ResponseEntity.status(status).body(body);
+        // Retry-After 등 예외에 담긴 헤더 유지
+        return ResponseEntity.status(status).headers(e.getHeaders()).body(body);
     }
 
     @ExceptionHandler(AsyncRequestTimeoutException.class)
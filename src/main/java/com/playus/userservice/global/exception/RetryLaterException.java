@@ -0,0 +1,23 @@
+package com.playus.userservice.global.exception;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 일시적인 과부하로 거절 → 503 + Retry-After(초)
+ */
+public class RetryLaterException extends ResponseStatusException {
+
+    private final HttpHeaders headers = new HttpHeaders();
+
+    public RetryLaterException(String reason, long retryAfterSeconds) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, reason);
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return headers;
+    }
+}
@@ -0,0 +1,42 @@
+package com.playus.userservice.global.jwt;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * 서명 검증을 마친 토큰의 클레임 - 요청당 한 번만 파싱하고 필요한 값을 꺼내 씀
+ * (리프레시 토큰은 jti / age / gender 가 없으므로 null)
+ */
+public record JwtClaims(
+        String jti,
+        String userId,
+        String role,
+        Integer age,
+        String gender,
+        String type,
+        long expiresAt
+) {
+
+    static JwtClaims from(Claims claims) {
+        return new JwtClaims(
+                claims.getId(),
+                claims.getSubject(),
+                claims.get("role", String.class),
+                claims.get("age", Integer.class),
+                claims.get("gender", String.class),
+                claims.get("type", String.class),
+                claims.getExpiration().getTime()
+        );
+    }
+
+    public boolean isExpired() {
+        return expiresAt < System.currentTimeMillis();
+    }
+
+    public long remainingMillis() {
+        return expiresAt - System.currentTimeMillis();
+    }
+
+    public boolean isAccessToken() {
+        return "access".equals(type);
+    }
+}
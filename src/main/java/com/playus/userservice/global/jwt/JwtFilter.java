@@ -1,15 +1,12 @@
 package com.playus.userservice.global.jwt;
 
 import com.playus.userservice.domain.oauth.dto.CustomOAuth2User;
-import com.playus.userservice.domain.user.dto.UserDto;
-import com.playus.userservice.domain.user.enums.Gender;
-import com.playus.userservice.domain.user.enums.Role;
+import com.playus.userservice.domain.oauth.service.TokenBlacklistService;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.HttpStatus;
@@ -28,11 +25,13 @@ import java.io.IOException;
 public class JwtFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenBlacklistService tokenBlacklistService;
     private static final String[] EXCLUDE_PATHS = {
         "/user/api",
         "/community/api",
-        "/twp/api"
+        "/twp/api",
+        "/.well-known/jwks.json"
     };
 
     @Override
@@ -47,9 +46,11 @@ public class JwtFilter extends OncePerRequestFilter {
     }
 
     public JwtFilter(JwtUtil jwtUtil,
-        RedisTemplate<String, String> redisTemplate) {
+        VerifiedTokenCache verifiedTokenCache,
+        TokenBlacklistService tokenBlacklistService) {
         this.jwtUtil = jwtUtil;
-        this.redisTemplate = redisTemplate;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.tokenBlacklistService = tokenBlacklistService;
     }
 
     @Override
@@ -71,20 +72,19 @@ public class JwtFilter extends OncePerRequestFilter {
 
         if (token != null) {
             try {
-                String jti = jwtUtil.getJti(token);
-                if (redisTemplate.hasKey("blacklist:" + jti)) {
+                // 이미 검증한 토큰이면 서명 검증 생략, 처음 보는 토큰만 한 번 검증 후 캐시
+                VerifiedTokenCache.VerifiedToken verified = verifiedTokenCache.get(token);
+                if (verified == null) {
+                    verified = verifiedTokenCache.put(token, jwtUtil.parse(token));
+                }
+                // 로컬 블랙리스트 사본 확인 (네트워크 I/O 없음)
+                if (tokenBlacklistService.isBlacklisted(verified.jti())) {
+                    verifiedTokenCache.invalidate(token);
                     throw new InsufficientAuthenticationException("BLACKLISTED_TOKEN");
                 }
 
-                if (!jwtUtil.isExpired(token)) {
-                    String userId = jwtUtil.getUserId(token);
-                    String role = jwtUtil.getRole(token);
-                    int age = jwtUtil.getAge(token);
-                    String gender = jwtUtil.getGender(token);
-
-                    CustomOAuth2User principal = new CustomOAuth2User(
-                            UserDto.fromJwt(Long.parseLong(userId), Role.valueOf(role), age, Gender.valueOf(gender))
-                    );
+                if (!verified.isExpired()) {
+                    CustomOAuth2User principal = new CustomOAuth2User(verified.user());
                     Authentication auth = new UsernamePasswordAuthenticationToken(
                             principal, null, principal.getAuthorities()
                     );
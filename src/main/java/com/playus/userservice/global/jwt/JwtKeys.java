@@ -0,0 +1,223 @@
+package com.playus.userservice.global.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 토큰 서명 / 검증 키
+ * - HS256(기본): 기존처럼 spring.jwt.secret 공유 비밀키로 서명, kid 없음 (HS 계열은 키 길이로 jjwt 가 결정)
+ * - RS256 / ES256: 개인키로 서명하고 헤더에 kid 기록, 공개키는 JWKS 로 배포 → 다른 서비스가 로컬에서 검증
+ * - 키 교체: 새 키를 verification-keys 에 먼저 올려 JWKS 캐시가 갱신된 뒤 서명 키로 전환,
+ *   이전 키는 발급된 토큰이 모두 만료될 때까지(리프레시 7일) verification-keys 에 남겨 둠
+ * - 비대칭 모드에서도 secret 이 설정돼 있으면 기존 HMAC 토큰을 계속 받음 (전환 기간용, 끝나면 secret 제거)
+ */
+@Component
+public class JwtKeys {
+
+    private final SignatureAlgorithm algorithm;
+    private final Key signingKey;
+    private final String keyId;
+
+    /** 전환 기간 HMAC 토큰 검증용, 없으면 null */
+    private final SecretKey hmacKey;
+    /** kid → 검증용 공개키 (현재 서명 키 + 교체 예정 / 퇴역 키) */
+    private final Map<String, PublicKey> publicKeys = new LinkedHashMap<>();
+    /** 공개키가 바뀌지 않는 한 동일하므로 기동 시 한 번 만들어 둠 */
+    private final Map<String, Object> jwks;
+
+    public JwtKeys(
+            @Value("${spring.jwt.algorithm:HS256}") SignatureAlgorithm algorithm,
+            @Value("${spring.jwt.secret:}") String secret,
+            @Value("${spring.jwt.key-id:}") String keyId,
+            @Value("${spring.jwt.signing-key:}") String signingKey,
+            @Value("${spring.jwt.public-key:}") String publicKey,
+            @Value("${spring.jwt.verification-keys:}") String verificationKeys) {
+        this.algorithm = algorithm;
+        this.hmacKey = secret.isBlank() ? null : Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+
+        if (algorithm.isHmac()) {
+            if (hmacKey == null) {
+                throw new IllegalStateException("HMAC 서명에는 spring.jwt.secret 이 필요합니다");
+            }
+            this.signingKey = hmacKey;
+            this.keyId = null;
+        } else if (algorithm == SignatureAlgorithm.RS256 || algorithm == SignatureAlgorithm.ES256) {
+            if (keyId.isBlank() || signingKey.isBlank() || publicKey.isBlank()) {
+                throw new IllegalStateException(
+                        algorithm + " 서명에는 spring.jwt.key-id / signing-key / public-key 가 필요합니다");
+            }
+            this.signingKey = privateKey(algorithm, signingKey);
+            this.keyId = keyId;
+            publicKeys.put(keyId, publicKey(algorithm, publicKey));
+        } else {
+            throw new IllegalStateException("지원하지 않는 서명 알고리즘입니다 - " + algorithm);
+        }
+
+        // "kid=공개키,kid=공개키" - 알고리즘은 키 종류로 판단 (RS256 ↔ ES256 전환 중에도 양쪽 검증)
+        for (String entry : verificationKeys.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int idx = entry.indexOf('=');
+            if (idx <= 0) {
+                throw new IllegalStateException("spring.jwt.verification-keys 형식 오류 - kid=공개키");
+            }
+            publicKeys.putIfAbsent(entry.substring(0, idx).trim(), publicKey(entry.substring(idx + 1)));
+        }
+        this.jwks = Map.of("keys", publicKeys.entrySet().stream()
+                .map(e -> jwk(e.getKey(), e.getValue()))
+                .toList());
+    }
+
+    /** 벤치마크 / 테스트용 HMAC 전용 키 */
+    public static JwtKeys hmac(String secret) {
+        return new JwtKeys(SignatureAlgorithm.HS256, secret, "", "", "", "");
+    }
+
+    public SignatureAlgorithm algorithm() {
+        return algorithm;
+    }
+
+    public Key signingKey() {
+        return signingKey;
+    }
+
+    /** HMAC 모드면 null → 헤더에 kid 를 넣지 않음 */
+    public String keyId() {
+        return keyId;
+    }
+
+    /** /.well-known/jwks.json 응답 본문 (RFC 7517), HMAC 모드면 빈 목록 */
+    public Map<String, Object> jwks() {
+        return jwks;
+    }
+
+    /** HMAC 모드면 true → 기존처럼 서명 알고리즘을 키에 맡김 */
+    public boolean isHmac() {
+        return algorithm.isHmac();
+    }
+
+    /** 헤더의 alg / kid 로 검증 키 선택 - 서명 키를 고르는 단계에서 알 수 없는 키는 바로 거부 */
+    SigningKeyResolverAdapter resolver() {
+        return new SigningKeyResolverAdapter() {
+            @Override
+            public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                SignatureAlgorithm alg = SignatureAlgorithm.forName(header.getAlgorithm());
+                if (alg.isHmac()) {
+                    if (hmacKey == null) {
+                        throw new UnsupportedJwtException("HMAC 서명 토큰은 더 이상 받지 않습니다");
+                    }
+                    return hmacKey;
+                }
+                PublicKey key = header.getKeyId() == null ? null : publicKeys.get(header.getKeyId());
+                if (key == null) {
+                    throw new UnsupportedJwtException("알 수 없는 서명 키입니다 - kid: " + header.getKeyId());
+                }
+                return key;
+            }
+        };
+    }
+
+    private static PrivateKey privateKey(SignatureAlgorithm algorithm, String encoded) {
+        try {
+            return KeyFactory.getInstance(algorithm.getFamilyName())
+                    .generatePrivate(new PKCS8EncodedKeySpec(der(encoded)));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("spring.jwt.signing-key 를 읽을 수 없습니다 (PKCS#8)", e);
+        }
+    }
+
+    private static PublicKey publicKey(SignatureAlgorithm algorithm, String encoded) {
+        try {
+            return KeyFactory.getInstance(algorithm.getFamilyName())
+                    .generatePublic(new X509EncodedKeySpec(der(encoded)));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("공개키를 읽을 수 없습니다 (X.509)", e);
+        }
+    }
+
+    private static PublicKey publicKey(String encoded) {
+        for (SignatureAlgorithm algorithm : List.of(SignatureAlgorithm.RS256, SignatureAlgorithm.ES256)) {
+            try {
+                return KeyFactory.getInstance(algorithm.getFamilyName())
+                        .generatePublic(new X509EncodedKeySpec(der(encoded)));
+            } catch (GeneralSecurityException | IllegalArgumentException ignored) {
+                // 다음 키 종류로 시도
+            }
+        }
+        throw new IllegalStateException("spring.jwt.verification-keys 의 공개키를 읽을 수 없습니다 (RSA / EC, X.509)");
+    }
+
+    /** PEM 이든 헤더 없는 Base64 든 DER 바이트로 */
+    private static byte[] der(String encoded) {
+        String body = encoded.replaceAll("-----(BEGIN|END) [A-Z ]+-----", "").replaceAll("\\s", "");
+        return Base64.getDecoder().decode(body);
+    }
+
+    private static Map<String, Object> jwk(String kid, PublicKey key) {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        if (key instanceof RSAPublicKey rsa) {
+            jwk.put("kty", "RSA");
+            jwk.put("kid", kid);
+            jwk.put("use", "sig");
+            jwk.put("alg", SignatureAlgorithm.RS256.getValue());
+            jwk.put("n", base64Url(unsigned(rsa.getModulus(), 0)));
+            jwk.put("e", base64Url(unsigned(rsa.getPublicExponent(), 0)));
+        } else if (key instanceof ECPublicKey ec) {
+            int size = (ec.getParams().getCurve().getField().getFieldSize() + 7) / 8;
+            if (size != 32) {
+                throw new IllegalStateException("ES256 은 P-256 키만 사용할 수 있습니다 - kid: " + kid);
+            }
+            jwk.put("kty", "EC");
+            jwk.put("kid", kid);
+            jwk.put("use", "sig");
+            jwk.put("alg", SignatureAlgorithm.ES256.getValue());
+            jwk.put("crv", "P-256");
+            jwk.put("x", base64Url(unsigned(ec.getW().getAffineX(), size)));
+            jwk.put("y", base64Url(unsigned(ec.getW().getAffineY(), size)));
+        }
+        return jwk;
+    }
+
+    /** 부호 바이트를 떼고, length 가 있으면 앞을 0 으로 채워 고정 길이로 (EC 좌표) */
+    private static byte[] unsigned(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        if (length > bytes.length) {
+            byte[] padded = new byte[length];
+            System.arraycopy(bytes, 0, padded, length - bytes.length, bytes.length);
+            return padded;
+        }
+        return bytes;
+    }
+
+    private static String base64Url(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
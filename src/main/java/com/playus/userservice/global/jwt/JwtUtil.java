@@ -1,12 +1,10 @@
 package com.playus.userservice.global.jwt;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.UUID;
 
@@ -14,18 +12,22 @@ import java.util.UUID;
 @Component
 public class JwtUtil {
 
-    private final SecretKey key;
+    private final JwtKeys keys;
+    /** 불변 + thread-safe → 한 번 만들어 모든 요청에서 공유 */
+    private final JwtParser parser;
     public static final long ACCESS_EXPIRE_MS  = 6 * 60 * 60 * 1000;      // 6시간
     public static final long REFRESH_EXPIRE_MS = 7L * 24 * 60 * 60 * 1000; // 7일
 
-    public JwtUtil(@Value("${spring.jwt.secret}") String secret) {
-        byte[] byteSecretKey = Decoders.BASE64.decode(secret);
-        this.key = Keys.hmacShaKeyFor(byteSecretKey);
+    public JwtUtil(JwtKeys keys) {
+        this.keys = keys;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(keys.resolver())
+                .build();
     }
 
     //엑세스토큰
     public String createAccessToken(String userId, String role, int age, String gender) {
-        return Jwts.builder()
+        return builder()
                 .setId(UUID.randomUUID().toString())
                 .setSubject(userId)
                 .claim("role", role)
@@ -34,22 +36,28 @@ public class JwtUtil {
                 .claim("type", "access")
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + ACCESS_EXPIRE_MS))
-                .signWith(key)
                 .compact();
     }
 
     //리프레시토큰
     public String createRefreshToken(String userId, String role) {
-        return Jwts.builder()
+        return builder()
                 .setSubject(userId)
                 .claim("role", role)
                 .claim("type", "refresh")
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + REFRESH_EXPIRE_MS))
-                .signWith(key)
                 .compact();
     }
 
+    /**
+     * 서명 검증 + 클레임 추출을 한 번에 - 여러 클레임이 필요하면 get* 대신 사용
+     * @throws io.jsonwebtoken.JwtException 변조 / 만료(ExpiredJwtException) 토큰
+     */
+    public JwtClaims parse(String token) {
+        return JwtClaims.from(extractPayload(token));
+    }
+
     public Boolean isExpired(String token) {
         Date expiration = extractPayload(token).getExpiration();
         return expiration.before(new Date());
@@ -71,13 +79,18 @@ public class JwtUtil {
         return extractPayload(token).get("gender", String.class);
     }
 
+    /** 설정된 알고리즘으로 서명, 비대칭 키면 검증 측이 JWKS 에서 고를 수 있게 kid 기록 */
+    private JwtBuilder builder() {
+        if (keys.isHmac()) {
+            return Jwts.builder().signWith(keys.signingKey());
+        }
+        return Jwts.builder()
+                .setHeaderParam("kid", keys.keyId())
+                .signWith(keys.signingKey(), keys.algorithm());
+    }
+
     private Claims extractPayload(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 
     public String getJti(String token) {
@@ -0,0 +1,100 @@
+package com.playus.userservice.global.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.playus.userservice.domain.user.dto.UserDto;
+import com.playus.userservice.domain.user.enums.Gender;
+import com.playus.userservice.domain.user.enums.Role;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 검증을 마친 엑세스 토큰 → 인증 주체 캐시 (파드 로컬)
+ * - 같은 쿠키가 만료(6시간)까지 매 요청 들어오므로 두 번째 요청부터 HMAC 검증 / 디코딩 생략
+ * - 키는 토큰 문자열의 64bit 해시, 충돌 시 다른 토큰의 주체를 돌려주지 않도록 적중 시 원문 비교
+ * - 항목 수명은 토큰의 exp 까지, 최대 maxSize 개 (초과 시 Caffeine 이 덜 쓰인 항목부터 제거)
+ * - 블랙리스트 확인은 캐시와 무관하게 매 요청 수행, 블랙리스트 토큰은 즉시 제거
+ */
+@Component
+public class VerifiedTokenCache {
+
+    /** 캐시에 담는 검증 결과 - UserDto 는 변경 메서드가 없어 요청 간 공유 */
+    public record VerifiedToken(String token, String jti, UserDto user, long expiresAt) {
+
+        public boolean isExpired() {
+            return expiresAt < System.currentTimeMillis();
+        }
+    }
+
+    private final Cache<Long, VerifiedToken> cache;
+
+    public VerifiedTokenCache(
+            MeterRegistry meterRegistry,
+            @Value("${spring.jwt.cache.max-size:100000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilTokenExpires())
+                .recordStats()
+                .build();
+        // cache_gets{result=hit|miss}, cache_evictions 등 → Prometheus
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verified-token");
+    }
+
+    /** 검증된 적이 있고 아직 만료되지 않은 토큰이면 반환, 아니면 null */
+    public VerifiedToken get(String token) {
+        VerifiedToken verified = cache.getIfPresent(hash(token));
+        if (verified == null || !verified.token().equals(token) || verified.isExpired()) {
+            return null;
+        }
+        return verified;
+    }
+
+    /** 서명 검증을 통과한 클레임으로 주체를 만들어 저장 */
+    public VerifiedToken put(String token, JwtClaims claims) {
+        VerifiedToken verified = new VerifiedToken(
+                token,
+                claims.jti(),
+                UserDto.fromJwt(Long.parseLong(claims.userId()), Role.valueOf(claims.role()),
+                        claims.age(), Gender.valueOf(claims.gender())),
+                claims.expiresAt());
+        cache.put(hash(token), verified);
+        return verified;
+    }
+
+    public void invalidate(String token) {
+        cache.invalidate(hash(token));
+    }
+
+    /** FNV-1a 64bit - 토큰은 수백 자라 암호학적 해시보다 훨씬 싸고, 충돌은 원문 비교로 걸러냄 */
+    static long hash(String token) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < token.length(); i++) {
+            h ^= token.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+
+    private static final class UntilTokenExpires implements Expiry<Long, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(Long key, VerifiedToken value, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, value.expiresAt() - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(Long key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
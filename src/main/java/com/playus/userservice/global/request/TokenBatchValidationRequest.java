@@ -0,0 +1,12 @@
+package com.playus.userservice.global.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record TokenBatchValidationRequest(
+        @NotEmpty(message = "토큰 목록은 필수 입력값입니다")
+        @Size(max = 100, message = "한 번에 100개까지 조회할 수 있습니다")
+        List<String> tokens
+) {}
@@ -0,0 +1,17 @@
+package com.playus.userservice.global.response;
+
+import java.util.List;
+
+/** 요청한 토큰 순서대로 결과 - 유효하지 않은 토큰은 단건 API 와 같이 blacklisted = true */
+public record TokenBatchValidationResponse(
+        List<Result> results
+) {
+    public record Result(
+            boolean valid,
+            boolean blacklisted
+    ) {
+        public static Result invalid() {
+            return new Result(false, true);
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.playus.userservice;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.playus.userservice.domain.notification.controller.NotificationController;
+import com.playus.userservice.domain.oauth.controller.TokenValidationController;
+import com.playus.userservice.domain.oauth.service.TokenValidationService;
 import com.playus.userservice.domain.notification.service.NotificationService;
 import com.playus.userservice.domain.user.controller.*;
 import com.playus.userservice.domain.user.service.*;
@@ -19,7 +21,9 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import com.playus.userservice.domain.oauth.service.TokenBlacklistService;
 import com.playus.userservice.global.jwt.JwtUtil;
+import com.playus.userservice.global.jwt.VerifiedTokenCache;
 import org.springframework.data.redis.core.RedisTemplate;
 
 
@@ -32,7 +36,8 @@ import org.springframework.data.redis.core.RedisTemplate;
         PartyUserController.class,
         NotificationController.class,
         UserReviewController.class,
-        UserTagReadController.class
+        UserTagReadController.class,
+        TokenValidationController.class
 })
 @Import({ControllerTestSupport.TestSecurityConfig.class, ExceptionAdvice.class})
 public abstract class ControllerTestSupport {
@@ -65,9 +70,18 @@ public abstract class ControllerTestSupport {
     @MockitoBean
     protected UserTagReadService userTagReadService;
 
+    @MockitoBean
+    protected TokenValidationService tokenValidationService;
+
     @MockitoBean
     protected JwtUtil jwtUtil;
 
+    @MockitoBean
+    protected VerifiedTokenCache verifiedTokenCache;
+
+    @MockitoBean
+    protected TokenBlacklistService tokenBlacklistService;
+
     @MockitoBean
     protected RedisTemplate<String, String> redisTemplate;
 
@@ -1,18 +1,26 @@
 package com.playus.userservice.domain.notification.controller;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import com.playus.userservice.ControllerTestSupport;
+import com.playus.userservice.domain.notification.dto.response.NotificationBatchResponse;
 import com.playus.userservice.domain.user.feign.response.CommentNotificationEvent;
 import com.playus.userservice.domain.user.feign.response.PartyNotificationEvent;
+import com.playus.userservice.domain.user.feign.response.PartyNotificationFanoutEvent;
+import com.playus.userservice.global.exception.RetryLaterException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.http.MediaType;
 
+import java.util.List;
+
 
 @WebMvcTest(NotificationApiController.class)
 @AutoConfigureMockMvc(addFilters = false)
@@ -64,4 +72,79 @@ class NotificationApiControllerTest extends ControllerTestSupport {
                 .createPartyNotification(any(PartyNotificationEvent.class));
     }
 
+    @Test
+    @DisplayName("댓글 알림 삭제: 기본은 동기 삭제 후 204")
+    void deleteByCommentId_ShouldReturnNoContent() throws Exception {
+        mockMvc.perform(delete("/user/api/notifications/comment/{comment-id}", 42L))
+                .andExpect(status().isNoContent());
+
+        then(notificationService).should().deleteByCommentId(42L);
+    }
+
+    @Test
+    @DisplayName("댓글 알림 삭제: async=true 면 예약 후 202")
+    void deleteByCommentId_Async_ShouldReturnAccepted() throws Exception {
+        mockMvc.perform(delete("/user/api/notifications/comment/{comment-id}", 42L)
+                        .param("async", "true"))
+                .andExpect(status().isAccepted());
+
+        then(notificationService).should().deleteByCommentIdAsync(42L);
+        then(notificationService).should(never()).deleteByCommentId(anyLong());
+    }
+
+    @Test
+    @DisplayName("댓글 알림 삭제: async=true 인데 삭제 대기열이 가득 차면 503 + Retry-After")
+    void deleteByCommentId_AsyncQueueFull_ShouldReturn503WithRetryAfter() throws Exception {
+        willThrow(new RetryLaterException("알림 삭제 요청이 많습니다. 잠시 후 다시 시도해 주세요.", 30))
+                .given(notificationService).deleteByCommentIdAsync(42L);
+
+        mockMvc.perform(delete("/user/api/notifications/comment/{comment-id}", 42L)
+                        .param("async", "true"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "30"));
+    }
+
+    @Test
+    @DisplayName("커뮤니티 댓글 알림 배치 생성 요청 성공")
+    void createCommentNotifications_ShouldReturnPerItemResults() throws Exception {
+        // given
+        List<CommentNotificationEvent> events = List.of(
+                CommentNotificationEvent.of(100L, 200L, 1L, 2L, "첫 댓글", true),
+                CommentNotificationEvent.of(101L, 200L, 1L, 3L, "둘째 댓글", true)
+        );
+        given(notificationService.sendCommentNotifications(anyList()))
+                .willReturn(NotificationBatchResponse.of(List.of(
+                        new NotificationBatchResponse.Item(0, NotificationBatchResponse.Status.CREATED, 10L),
+                        new NotificationBatchResponse.Item(1, NotificationBatchResponse.Status.RECEIVER_NOT_FOUND, null)
+                )));
+
+        // when & then
+        mockMvc.perform(post("/user/api/notifications/comment/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(events)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requested").value(2))
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.results[1].status").value("RECEIVER_NOT_FOUND"));
+    }
+
+    @Test
+    @DisplayName("직관팟 알림 fan-out 요청 성공")
+    void fanoutPartyNotification_ShouldReturnPerReceiverResults() throws Exception {
+        // given
+        PartyNotificationFanoutEvent event = PartyNotificationFanoutEvent.joined(300L, "직관팟 제목", 3L, List.of(1L, 2L));
+        given(notificationService.fanoutPartyNotification(any(PartyNotificationFanoutEvent.class)))
+                .willReturn(NotificationBatchResponse.of(List.of(
+                        new NotificationBatchResponse.Item(0, NotificationBatchResponse.Status.CREATED, 10L),
+                        new NotificationBatchResponse.Item(1, NotificationBatchResponse.Status.CREATED, 11L)
+                )));
+
+        // when & then
+        mockMvc.perform(post("/user/api/notifications/party/fanout")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(event)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.results[1].notificationId").value(11));
+    }
 }
@@ -11,9 +11,14 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import java.util.List;
 
 import com.playus.userservice.ControllerTestSupport;
+import com.playus.userservice.domain.notification.dto.request.ReadNotificationsRequest;
+import com.playus.userservice.domain.notification.dto.response.NotificationPageResponse;
 import com.playus.userservice.domain.notification.dto.response.NotificationResponse;
+import com.playus.userservice.domain.notification.dto.response.ReadCountResponse;
+import com.playus.userservice.domain.notification.dto.response.UnreadCountResponse;
 import com.playus.userservice.domain.oauth.dto.CustomOAuth2User;
 import com.playus.userservice.domain.user.enums.Role;
+import com.playus.userservice.global.exception.RetryLaterException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -61,6 +66,21 @@ class NotificationControllerTest extends ControllerTestSupport {
                 .andExpect(header().string("Content-Type", MediaType.TEXT_EVENT_STREAM_VALUE));
     }
 
+    @Test
+    @DisplayName("SSE 구독: 연결 한도 초과 시 503 + Retry-After")
+    void subscribe_overLimit_ShouldReturn503WithRetryAfter() throws Exception {
+        // given
+        given(notificationService.subscribe(anyLong(), anyString()))
+                .willThrow(new RetryLaterException("SSE 연결 수가 한도에 도달했습니다.", 7));
+
+        // when & then
+        mockMvc.perform(get("/user/notifications/connect")
+                        .with(authentication(token))
+                        .accept(MediaType.TEXT_EVENT_STREAM, MediaType.APPLICATION_JSON))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "7"));
+    }
+
     @Test
     @DisplayName("알림 읽음 처리 성공")
     void readNotification_ShouldMarkAsRead() throws Exception {
@@ -77,17 +97,81 @@ class NotificationControllerTest extends ControllerTestSupport {
     }
 
     @Test
-    @DisplayName("전체 알림 목록 조회 성공")
-    void getNotifications_ShouldReturnList() throws Exception {
-        List<NotificationResponse> stubList = List.of();
-        given(notificationService.getNotifications(anyLong())).willReturn(stubList);
+    @DisplayName("여러 건 읽음 처리 성공")
+    void readNotifications_ShouldReturnUpdatedCount() throws Exception {
+        given(notificationService.readNotifications(1L, List.of(3L, 4L)))
+                .willReturn(new ReadCountResponse(2));
+
+        mockMvc.perform(patch("/user/notifications/read")
+                        .with(authentication(token))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ReadNotificationsRequest(List.of(3L, 4L)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(2));
+    }
+
+    @Test
+    @DisplayName("여러 건 읽음 처리: 빈 목록이면 400")
+    void readNotifications_EmptyIds_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(patch("/user/notifications/read")
+                        .with(authentication(token))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ReadNotificationsRequest(List.of()))))
+                .andExpect(status().isBadRequest());
+
+        then(notificationService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("여러 건 읽음 처리: 목록에 null 이 있으면 400")
+    void readNotifications_NullId_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(patch("/user/notifications/read")
+                        .with(authentication(token))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"notificationIds\": [3, null]}"))
+                .andExpect(status().isBadRequest());
+
+        then(notificationService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("전체 읽음 처리 성공")
+    void readAllNotifications_ShouldReturnUpdatedCount() throws Exception {
+        given(notificationService.readAllNotifications(1L)).willReturn(new ReadCountResponse(7));
+
+        mockMvc.perform(patch("/user/notifications/read-all")
+                        .with(authentication(token)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(7));
+    }
+
+    @Test
+    @DisplayName("알림 목록 페이지 조회 성공")
+    void getNotifications_ShouldReturnPage() throws Exception {
+        NotificationPageResponse stubPage = new NotificationPageResponse(List.of(), null, false);
+        given(notificationService.getNotifications(anyLong(), any(), anyInt(), anyBoolean())).willReturn(stubPage);
 
         mockMvc.perform(get("/user/notifications")
+                        .param("size", "10")
+                        .param("unreadOnly", "true")
                         .with(authentication(token)))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$.length()").value(0));
+                .andExpect(jsonPath("$.notifications").isArray())
+                .andExpect(jsonPath("$.hasNext").value(false));
+
+        then(notificationService).should().getNotifications(1L, null, 10, true);
+    }
+
+    @Test
+    @DisplayName("안 읽은 알림 개수 조회 성공")
+    void getUnreadCount_ShouldReturnCount() throws Exception {
+        given(notificationService.getUnreadCount(1L)).willReturn(new UnreadCountResponse(5L));
+
+        mockMvc.perform(get("/user/notifications/unread-count")
+                        .with(authentication(token)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(5));
     }
 
     @Test
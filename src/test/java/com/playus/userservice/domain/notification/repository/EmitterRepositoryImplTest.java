@@ -0,0 +1,88 @@
+package com.playus.userservice.domain.notification.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmitterRepositoryImplTest {
+
+    private final EmitterRepositoryImpl emitterRepository = new EmitterRepositoryImpl();
+
+    @Test
+    @DisplayName("유저 ID 조회: 접두사가 같은 다른 유저(12, 13)의 emitter는 포함하지 않음")
+    void findAllEmitterByUserId_exactMatch() {
+        // given
+        emitterRepository.save(1L, "1_100", connection(1L, "1_100"));
+        emitterRepository.save(12L, "12_100", connection(12L, "12_100"));
+        emitterRepository.save(13L, "13_100", connection(13L, "13_100"));
+
+        // when & then
+        assertThat(emitterRepository.findAllEmitterByUserId(1L)).containsOnlyKeys("1_100");
+    }
+
+    @Test
+    @DisplayName("한 유저의 여러 연결 중 하나만 삭제")
+    void deleteById_removesSingleConnection() {
+        // given
+        emitterRepository.save(1L, "1_100", connection(1L, "1_100"));
+        emitterRepository.save(1L, "1_200", connection(1L, "1_200"));
+
+        // when
+        emitterRepository.deleteById(1L, "1_100");
+
+        // then
+        assertThat(emitterRepository.findAllEmitterByUserId(1L)).containsOnlyKeys("1_200");
+    }
+
+    @Test
+    @DisplayName("마지막 연결이 삭제되면 빈 결과 반환")
+    void deleteById_lastConnection_returnsEmpty() {
+        // given
+        emitterRepository.save(1L, "1_100", connection(1L, "1_100"));
+
+        // when
+        emitterRepository.deleteById(1L, "1_100");
+
+        // then
+        assertThat(emitterRepository.findAllEmitterByUserId(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("삭제된 연결은 닫혀 더 이상 이벤트를 받지 않음")
+    void deleteById_discardsConnection() {
+        // given
+        SseConnection connection = connection(1L, "1_100");
+        emitterRepository.save(1L, "1_100", connection);
+
+        // when
+        emitterRepository.deleteById(1L, "1_100");
+
+        // then
+        assertThat(connection.isClosed()).isTrue();
+        assertThat(connection.enqueue(SseEmitter.event().data("late"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("전체 연결 수: 저장·삭제에 맞춰 집계")
+    void count_tracksSaveAndDelete() {
+        // given
+        emitterRepository.save(1L, "1_100", connection(1L, "1_100"));
+        emitterRepository.save(1L, "1_200", connection(1L, "1_200"));
+        emitterRepository.save(2L, "2_100", connection(2L, "2_100"));
+
+        // when
+        emitterRepository.deleteById(1L, "1_100");
+        emitterRepository.deleteAllEmitterByUserId(2L);
+
+        // then
+        assertThat(emitterRepository.count()).isEqualTo(1);
+        assertThat(emitterRepository.findAll()).extracting(SseConnection::getEmitterId).containsExactly("1_200");
+    }
+
+    private SseConnection connection(Long userId, String emitterId) {
+        return new SseConnection(userId, emitterId, new SseEmitter(), 8,
+                SseConnection.OverflowPolicy.DROP_OLDEST, Runnable::run, (c, reason) -> {});
+    }
+}
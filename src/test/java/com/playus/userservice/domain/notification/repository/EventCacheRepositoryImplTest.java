@@ -0,0 +1,207 @@
+package com.playus.userservice.domain.notification.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventCacheRepositoryImplTest {
+
+    @Test
+    @DisplayName("재전송: lastEventId 이후 이벤트만 순서대로 반환")
+    void findAllByUserIdAfter_returnsMissedEventsInOrder() {
+        // given
+        EventCacheRepositoryImpl cache = new EventCacheRepositoryImpl(10, Duration.ofMinutes(10), 100);
+        CachedEvent first = cache.save(1L, 1L, payload("a"));
+        CachedEvent second = cache.save(1L, 2L, payload("b"));
+        CachedEvent third = cache.save(1L, 3L, payload("c"));
+
+        // when
+        List<CachedEvent> missed = cache.findAllByUserIdAfter(1L, first.id());
+
+        // then
+        assertThat(second.id()).isGreaterThan(first.id());
+        assertThat(missed).extracting(CachedEvent::data).containsExactly(payload("b"), payload("c"));
+        assertThat(missed).extracting(CachedEvent::id).containsExactly(second.id(), third.id());
+    }
+
+    @Test
+    @DisplayName("용량 초과: 가장 오래된 이벤트부터 덮어씀")
+    void save_overCapacity_evictsOldest() {
+        // given
+        EventCacheRepositoryImpl cache = new EventCacheRepositoryImpl(3, Duration.ofMinutes(10), 100);
+        for (int i = 1; i <= 5; i++) {
+            cache.save(1L, i, payload("e" + i));
+        }
+
+        // when
+        List<CachedEvent> all = cache.findAllByUserIdAfter(1L, 0L);
+
+        // then
+        assertThat(all).extracting(CachedEvent::data).containsExactly(payload("e3"), payload("e4"), payload("e5"));
+    }
+
+    @Test
+    @DisplayName("재전송: 다른 파드가 발급한 id 가 순서가 바뀌어 도착해도 id 순으로 반환")
+    void findAllByUserIdAfter_outOfOrderIds_returnsInIdOrder() {
+        // given
+        EventCacheRepositoryImpl cache = new EventCacheRepositoryImpl(10, Duration.ofMinutes(10), 100);
+        cache.save(1L, 10L, payload("a"));
+        cache.save(1L, 30L, payload("c"));
+        cache.save(1L, 20L, payload("b"));
+
+        // when
+        List<CachedEvent> missed = cache.findAllByUserIdAfter(1L, 10L);
+
+        // then
+        assertThat(missed).extracting(CachedEvent::data).containsExactly(payload("b"), payload("c"));
+        assertThat(missed).extracting(CachedEvent::id).containsExactly(20L, 30L);
+    }
+
+    @Test
+    @DisplayName("용량 초과: 늦게 도착한 id 가 가득 찬 버퍼의 어떤 이벤트보다 오래되면 캐시하지 않음")
+    void save_overCapacity_outOfOrderOldest_notCached() {
+        // given
+        EventCacheRepositoryImpl cache = new EventCacheRepositoryImpl(2, Duration.ofMinutes(10), 100);
+        cache.save(1L, 20L, payload("b"));
+        cache.save(1L, 30L, payload("c"));
+
+        // when
+        CachedEvent late = cache.save(1L, 10L, payload("a"));
+
+        // then
+        assertThat(late.id()).isEqualTo(10L);
+        assertThat(cache.findAllByUserIdAfter(1L, 0L)).extracting(CachedEvent::id).containsExactly(20L, 30L);
+    }
+
+    @Test
+    @DisplayName("만료: maxAge 가 지난 이벤트는 반환하지 않음")
+    void findAllByUserIdAfter_expired_returnsEmpty() {
+        // given
+        EventCacheRepositoryImpl cache = new EventCacheRepositoryImpl(10, Duration.ofMillis(-1), 100);
+        cache.save(1L, 1L, payload("old"));
+
+        // when & then
+        assertThat(cache.findAllByUserIdAfter(1L, 0L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("파드 상한: 유저 수가 상한을 넘으면 가장 오래 쓰이지 않은 버퍼 제거")
+    void save_overMaxUsers_evictsLeastRecentlyWrittenUser() throws InterruptedException {
+        // given
+        EventCacheRepositoryImpl cache = new EventCacheRepositoryImpl(10, Duration.ofMinutes(10), 2);
+        cache.save(1L, 1L, payload("u1"));
+        Thread.sleep(2);
+        cache.save(2L, 2L, payload("u2"));
+        Thread.sleep(2);
+
+        // when
+        cache.save(3L, 3L, payload("u3"));
+
+        // then
+        assertThat(cache.findAllByUserIdAfter(1L, 0L)).isEmpty();
+        assertThat(cache.findAllByUserIdAfter(2L, 0L)).hasSize(1);
+        assertThat(cache.findAllByUserIdAfter(3L, 0L)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("파드 상한: 먼저 들어왔어도 최근에 쓰인 유저는 남기고 그다음 오래된 유저 제거")
+    void save_overMaxUsers_keepsRecentlyWrittenUser() throws InterruptedException {
+        // given
+        EventCacheRepositoryImpl cache = new EventCacheRepositoryImpl(10, Duration.ofMinutes(10), 2);
+        cache.save(1L, 1L, payload("u1"));
+        Thread.sleep(2);
+        cache.save(2L, 2L, payload("u2"));
+        Thread.sleep(2);
+        cache.save(1L, 3L, payload("u1-again"));
+        Thread.sleep(2);
+
+        // when
+        cache.save(3L, 4L, payload("u3"));
+
+        // then
+        assertThat(cache.findAllByUserIdAfter(1L, 0L)).hasSize(2);
+        assertThat(cache.findAllByUserIdAfter(2L, 0L)).isEmpty();
+        assertThat(cache.findAllByUserIdAfter(3L, 0L)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("정리 경합: 폐기 표시된 버퍼에 쓰면 새 버퍼에 저장되어 유실되지 않음")
+    void save_retiredRing_retriesOnFreshRing() {
+        // given
+        EventCacheRepositoryImpl cache = new EventCacheRepositoryImpl(10, Duration.ofMinutes(10), 100);
+        cache.save(1L, 1L, payload("a"));
+        cache.findAllByUserIdAfter(1L, Long.MAX_VALUE);
+        UserEventRing ring = rings(cache).get(1L);
+        ring.evictOlderThan(Long.MAX_VALUE);
+        ring.retireIfEmpty();   // 정리 작업이 폐기 표시만 하고 아직 맵에서 빼기 전
+
+        // when
+        CachedEvent saved = cache.save(1L, 2L, payload("b"));
+
+        // then
+        assertThat(saved).isNotNull();
+        assertThat(rings(cache).get(1L)).isNotSameAs(ring);
+        assertThat(cache.findAllByUserIdAfter(1L, 0L)).extracting(CachedEvent::data).containsExactly(payload("b"));
+    }
+
+    @Test
+    @DisplayName("정리: 비어 있는 버퍼만 빼고, 이벤트가 남은 버퍼는 유지")
+    void deleteAllExpired_removesOnlyEmptyRings() {
+        // given
+        EventCacheRepositoryImpl cache = new EventCacheRepositoryImpl(10, Duration.ofMinutes(10), 100);
+        cache.save(1L, 1L, payload("a"));
+        rings(cache).get(1L).evictOlderThan(Long.MAX_VALUE);
+        cache.save(2L, 2L, payload("b"));
+
+        // when
+        cache.deleteAllExpired();
+
+        // then
+        assertThat(rings(cache)).containsOnlyKeys(2L);
+        assertThat(cache.findAllByUserIdAfter(2L, 0L)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("파드 상한: 새 유저가 동시에 몰려도 버퍼 수가 상한을 넘지 않음")
+    void save_concurrentNewUsers_neverExceedsMaxUsers() throws InterruptedException {
+        // given
+        int maxUsers = 8;
+        EventCacheRepositoryImpl cache = new EventCacheRepositoryImpl(10, Duration.ofMinutes(10), maxUsers);
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        AtomicInteger maxSeen = new AtomicInteger();
+
+        // when
+        LongStream.rangeClosed(1, 2_000).forEach(userId -> pool.execute(() -> {
+            cache.save(userId, userId, payload("u" + userId));
+            maxSeen.accumulateAndGet(rings(cache).size(), Math::max);
+        }));
+        pool.shutdown();
+
+        // then
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(maxSeen.get()).isLessThanOrEqualTo(maxUsers);
+        assertThat(rings(cache).size()).isLessThanOrEqualTo(maxUsers);
+        assertThat(ReflectionTestUtils.getField(cache, "userCount")).hasToString(String.valueOf(rings(cache).size()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, UserEventRing> rings(EventCacheRepositoryImpl cache) {
+        return (Map<Long, UserEventRing>) ReflectionTestUtils.getField(cache, "rings");
+    }
+
+    private EncodedPayload payload(String value) {
+        return EncodedPayload.wrap(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,214 @@
+package com.playus.userservice.domain.notification.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MappedEventLogRepositoryTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("재전송: lastEventId 이후 이벤트만 순서대로 반환")
+    void findAllByUserIdAfter_returnsMissedEventsInOrder() throws IOException {
+        // given
+        MappedEventLogRepository log = open(DataSize.ofKilobytes(64), Duration.ofMinutes(10));
+        CachedEvent first = log.save(1L, 1L, payload("a"));
+        CachedEvent second = log.save(1L, 2L, payload("b"));
+        log.save(2L, 3L, payload("other"));
+        CachedEvent third = log.save(1L, 4L, payload("c"));
+
+        // when
+        List<CachedEvent> missed = log.findAllByUserIdAfter(1L, first.id());
+
+        // then
+        assertThat(missed).extracting(CachedEvent::data).containsExactly(payload("b"), payload("c"));
+        assertThat(missed).extracting(CachedEvent::id).containsExactly(second.id(), third.id());
+    }
+
+    @Test
+    @DisplayName("재시작: 같은 디렉터리로 다시 열면 인덱스 복구, 저장한 id 기준으로 이어서 재전송")
+    void open_afterRestart_recoversEventsAndIds() throws IOException {
+        // given
+        MappedEventLogRepository before = open(DataSize.ofKilobytes(64), Duration.ofMinutes(10));
+        before.save(1L, 1L, payload("a"));
+        CachedEvent last = before.save(1L, 2L, payload("b"));
+
+        // when
+        MappedEventLogRepository after = open(DataSize.ofKilobytes(64), Duration.ofMinutes(10));
+        CachedEvent next = after.save(1L, 3L, payload("c"));
+
+        // then
+        assertThat(after.findAllByUserIdAfter(1L, 0L))
+                .extracting(CachedEvent::data)
+                .containsExactly(payload("a"), payload("b"), payload("c"));
+        assertThat(after.findAllByUserIdAfter(1L, last.id())).extracting(CachedEvent::id).containsExactly(next.id());
+    }
+
+    @Test
+    @DisplayName("재전송: 다른 파드가 발급한 id 가 순서가 바뀌어 도착해도 id 순으로 반환")
+    void findAllByUserIdAfter_outOfOrderIds_returnsInIdOrder() throws IOException {
+        // given
+        MappedEventLogRepository log = open(DataSize.ofKilobytes(64), Duration.ofMinutes(10));
+        log.save(1L, 10L, payload("a"));
+        log.save(1L, 30L, payload("c"));
+        log.save(1L, 20L, payload("b"));
+
+        // when
+        List<CachedEvent> missed = log.findAllByUserIdAfter(1L, 10L);
+
+        // then
+        assertThat(missed).extracting(CachedEvent::id).containsExactly(20L, 30L);
+    }
+
+    @Test
+    @DisplayName("세그먼트 전환: 가득 차면 다음 세그먼트에 기록, 재전송은 세그먼트를 넘어 이어짐")
+    void save_segmentFull_rollsOverToNextSegment() throws IOException {
+        // given - 레코드 1개(헤더 32 + 본문 8)만 들어가는 세그먼트
+        MappedEventLogRepository log = open(DataSize.ofBytes(48), Duration.ofMinutes(10));
+
+        // when
+        log.save(1L, 1L, payload("event-01"));
+        log.save(1L, 2L, payload("event-02"));
+        log.save(1L, 3L, payload("event-03"));
+
+        // then
+        assertThat(segmentFiles()).hasSize(3);
+        assertThat(log.findAllByUserIdAfter(1L, 0L))
+                .extracting(CachedEvent::data)
+                .containsExactly(payload("event-01"), payload("event-02"), payload("event-03"));
+    }
+
+    @Test
+    @DisplayName("만료: maxAge 가 지난 세그먼트는 쓰는 중인 세그먼트를 빼고 파일째 삭제")
+    void deleteAllExpired_removesOldSegmentFiles() throws IOException {
+        // given
+        MappedEventLogRepository log = open(DataSize.ofBytes(48), Duration.ofMillis(-1));
+        log.save(1L, 1L, payload("event-01"));
+        log.save(1L, 2L, payload("event-02"));
+
+        // when
+        log.deleteAllExpired();
+
+        // then
+        assertThat(segmentFiles()).hasSize(1);
+        assertThat(log.findAllByUserIdAfter(1L, 0L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("복구: 쓰다 멈춘 레코드(길이 0) 이후는 로그 끝으로 보고 그 위치부터 이어서 기록")
+    void open_tornRecord_stopsAtLastCompleteRecord() throws IOException {
+        // given - 두 번째 레코드의 길이 필드가 기록되기 전에 프로세스가 죽은 상황
+        MappedEventLogRepository before = open(DataSize.ofKilobytes(64), Duration.ofMinutes(10));
+        before.save(1L, 1L, payload("a"));
+        before.save(1L, 2L, payload("b"));
+        Path segment = segmentFiles().get(0);
+        byte[] bytes = Files.readAllBytes(segment);
+        int second = LogSegment.HEADER_SIZE + 1;
+        bytes[second] = bytes[second + 1] = bytes[second + 2] = bytes[second + 3] = 0;
+        Files.write(segment, bytes);
+
+        // when
+        MappedEventLogRepository after = open(DataSize.ofKilobytes(64), Duration.ofMinutes(10));
+        after.save(1L, 3L, payload("c"));
+
+        // then
+        assertThat(after.findAllByUserIdAfter(1L, 0L))
+                .extracting(CachedEvent::data)
+                .containsExactly(payload("a"), payload("c"));
+    }
+
+    @Test
+    @DisplayName("파드 상한: 가득 차면 쓰기 락을 기다리지 않고 가장 오래 쓰이지 않은 유저 인덱스를 먼저 제거")
+    void save_overMaxUsers_evictsOutsideWriteLock() throws Exception {
+        // given
+        MappedEventLogRepository log = open(DataSize.ofKilobytes(64), Duration.ofMinutes(10), 2);
+        log.save(1L, 1L, payload("a"));
+        log.save(2L, 2L, payload("b"));
+        Object writeLock = ReflectionTestUtils.getField(log, "writeLock");
+        Thread writer;
+
+        // when - 다른 쓰기가 락을 잡고 있는 동안 새 유저 저장
+        synchronized (writeLock) {
+            writer = new Thread(() -> log.save(3L, 3L, payload("c")));
+            writer.start();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (index(log).containsKey(1L) && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+
+            // then - 락을 놓기 전에 이미 제거됨
+            assertThat(index(log)).doesNotContainKey(1L);
+        }
+        writer.join(5_000);
+        assertThat(index(log)).containsOnlyKeys(2L, 3L);
+        assertThat(log.findAllByUserIdAfter(3L, 0L)).extracting(CachedEvent::data).containsExactly(payload("c"));
+    }
+
+    @Test
+    @DisplayName("파드 상한: 새 유저가 동시에 몰려도 인덱스 수가 상한을 넘지 않음")
+    void save_concurrentNewUsers_neverExceedsMaxUsers() throws Exception {
+        // given
+        int maxUsers = 8;
+        MappedEventLogRepository log = open(DataSize.ofMegabytes(1), Duration.ofMinutes(10), maxUsers);
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        AtomicInteger maxSeen = new AtomicInteger();
+
+        // when
+        LongStream.rangeClosed(1, 2_000).forEach(userId -> pool.execute(() -> {
+            log.save(userId, userId, payload("u" + userId));
+            maxSeen.accumulateAndGet(index(log).size(), Math::max);
+        }));
+        pool.shutdown();
+
+        // then
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(maxSeen.get()).isLessThanOrEqualTo(maxUsers);
+        assertThat(index(log).size()).isLessThanOrEqualTo(maxUsers);
+        assertThat(ReflectionTestUtils.getField(log, "userCount")).hasToString(String.valueOf(index(log).size()));
+    }
+
+    private MappedEventLogRepository open(DataSize segmentSize, Duration maxAge) throws IOException {
+        return open(segmentSize, maxAge, 100);
+    }
+
+    private MappedEventLogRepository open(DataSize segmentSize, Duration maxAge, int maxUsers) throws IOException {
+        MappedEventLogRepository log = new MappedEventLogRepository(dir, segmentSize, 10, maxAge, maxUsers);
+        log.open();
+        return log;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, UserEventOffsets> index(MappedEventLogRepository log) {
+        return (Map<Long, UserEventOffsets>) ReflectionTestUtils.getField(log, "index");
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.sorted().toList();
+        }
+    }
+
+    private EncodedPayload payload(String value) {
+        return EncodedPayload.wrap(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
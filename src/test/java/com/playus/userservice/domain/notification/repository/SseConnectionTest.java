@@ -0,0 +1,176 @@
+package com.playus.userservice.domain.notification.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+
+class SseConnectionTest {
+
+    /** 실행을 미뤄 두는 writer → 생산자가 쓰기를 기다리지 않는지, 대기열이 어떻게 쌓이는지 확인 */
+    private final Queue<Runnable> writer = new ArrayDeque<>();
+    private final SseEmitter emitter = mock(SseEmitter.class);
+    private final RecordingListener listener = new RecordingListener();
+
+    @Test
+    @DisplayName("enqueue: 쓰기는 writer 에서만 수행, 연결당 drain 작업은 하나만 예약")
+    void enqueue_schedulesSingleDrain() throws IOException {
+        // given
+        SseConnection connection = connection(8, SseConnection.OverflowPolicy.DROP_OLDEST);
+
+        // when
+        connection.enqueue(SseEmitter.event().data("a"));
+        connection.enqueue(SseEmitter.event().data("b"));
+
+        // then
+        then(emitter).shouldHaveNoInteractions();
+        assertThat(writer).hasSize(1);
+        assertThat(listener.queued.get()).isEqualTo(2);
+
+        runWriter();
+        then(emitter).should(times(2)).send(any(SseEmitter.SseEventBuilder.class));
+        assertThat(listener.queued.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("DROP_OLDEST: 대기열이 차면 가장 오래된 이벤트를 버리고 연결 유지")
+    void enqueue_full_dropsOldest() throws IOException {
+        // given
+        SseConnection connection = connection(2, SseConnection.OverflowPolicy.DROP_OLDEST);
+        SseEmitter.SseEventBuilder oldest = SseEmitter.event().data("a");
+        connection.enqueue(oldest);
+        connection.enqueue(SseEmitter.event().data("b"));
+
+        // when
+        boolean accepted = connection.enqueue(SseEmitter.event().data("c"));
+
+        // then
+        assertThat(accepted).isTrue();
+        assertThat(connection.queueSize()).isEqualTo(2);
+        assertThat(listener.dropped.get()).isEqualTo(1);
+
+        runWriter();
+        then(emitter).should(never()).send(oldest);
+        then(emitter).should(times(2)).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    @DisplayName("DISCONNECT: 대기열이 차면 연결을 닫고 저장소 정리 통지")
+    void enqueue_full_disconnects() {
+        // given
+        SseConnection connection = connection(1, SseConnection.OverflowPolicy.DISCONNECT);
+        connection.enqueue(SseEmitter.event().data("a"));
+
+        // when
+        boolean accepted = connection.enqueue(SseEmitter.event().data("b"));
+
+        // then
+        assertThat(accepted).isFalse();
+        assertThat(connection.isClosed()).isTrue();
+        assertThat(listener.closed).containsExactly(SseConnection.CloseReason.OVERFLOW);
+        assertThat(listener.queued.get()).isZero();
+        then(emitter).should().complete();
+    }
+
+    @Test
+    @DisplayName("쓰기 실패: 남은 이벤트를 버리고 연결 종료")
+    void drain_sendFails_closes() throws IOException {
+        // given
+        SseConnection connection = connection(8, SseConnection.OverflowPolicy.DROP_OLDEST);
+        willThrow(new IOException("broken pipe")).given(emitter).send(any(SseEmitter.SseEventBuilder.class));
+        connection.enqueue(SseEmitter.event().data("a"));
+        connection.enqueue(SseEmitter.event().data("b"));
+
+        // when
+        runWriter();
+
+        // then
+        assertThat(connection.isClosed()).isTrue();
+        assertThat(listener.closed).containsExactly(SseConnection.CloseReason.SEND_FAILED);
+        assertThat(listener.queued.get()).isZero();
+        then(emitter).should(times(1)).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    @DisplayName("completeAfterFlush: 남은 이벤트를 모두 보낸 뒤 종료, 이후 이벤트는 거절")
+    void completeAfterFlush_sendsQueuedThenCompletes() throws IOException {
+        // given
+        SseConnection connection = connection(8, SseConnection.OverflowPolicy.DROP_OLDEST);
+        connection.enqueue(SseEmitter.event().data("a"));
+
+        // when
+        connection.completeAfterFlush();
+        boolean accepted = connection.enqueue(SseEmitter.event().data("late"));
+        runWriter();
+
+        // then
+        assertThat(accepted).isFalse();
+        var order = inOrder(emitter);
+        order.verify(emitter).send(any(SseEmitter.SseEventBuilder.class));
+        order.verify(emitter).complete();
+        assertThat(listener.closed).containsExactly(SseConnection.CloseReason.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("discard: completeAfterFlush 로 종료 중인 연결은 저장소에서 빠져도 남은 이벤트를 보낸 뒤 닫힘")
+    void discard_completing_flushesBeforeClosing() throws IOException {
+        // given
+        SseConnection connection = connection(8, SseConnection.OverflowPolicy.DROP_OLDEST);
+        connection.enqueue(SseEmitter.event().reconnectTime(300_000));
+        connection.completeAfterFlush();
+
+        // when
+        connection.discard();
+        runWriter();
+
+        // then
+        var order = inOrder(emitter);
+        order.verify(emitter).send(any(SseEmitter.SseEventBuilder.class));
+        order.verify(emitter).complete();
+        assertThat(listener.closed).containsExactly(SseConnection.CloseReason.COMPLETED);
+    }
+
+    private SseConnection connection(int capacity, SseConnection.OverflowPolicy policy) {
+        return new SseConnection(1L, "1_1", emitter, capacity, policy, writer::add, listener);
+    }
+
+    private void runWriter() {
+        Runnable task;
+        while ((task = writer.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private static class RecordingListener implements SseConnection.Listener {
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicInteger dropped = new AtomicInteger();
+        private final List<SseConnection.CloseReason> closed = new ArrayList<>();
+
+        @Override
+        public void onQueued(int delta) {
+            queued.addAndGet(delta);
+        }
+
+        @Override
+        public void onDropped() {
+            dropped.incrementAndGet();
+        }
+
+        @Override
+        public void onClosed(SseConnection connection, SseConnection.CloseReason reason) {
+            closed.add(reason);
+        }
+    }
+}
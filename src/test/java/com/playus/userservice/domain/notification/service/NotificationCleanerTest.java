@@ -0,0 +1,111 @@
+package com.playus.userservice.domain.notification.service;
+
+import com.playus.userservice.domain.user.repository.write.NotificationContentRepository;
+import com.playus.userservice.domain.user.repository.write.NotificationRepository;
+import com.playus.userservice.global.exception.RetryLaterException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationCleanerTest {
+
+    @Mock private NotificationRepository        notificationRepository;
+    @Mock private NotificationContentRepository notificationContentRepository;
+    @Mock private PlatformTransactionManager    transactionManager;
+
+    private NotificationCleaner notificationCleaner;
+
+    @BeforeEach
+    void setup() {
+        notificationCleaner = new NotificationCleaner(notificationRepository, notificationContentRepository,
+                transactionManager, Runnable::run, Duration.ofHours(1), Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("댓글 알림 삭제: id 청크마다 범위 DELETE 를 별도 트랜잭션으로 실행")
+    void deleteAllByCommentId_deletesChunkByIdRange() {
+        // given
+        given(notificationRepository.findIdsByCommentIdAfter(eq(55L), eq(0L), any()))
+                .willReturn(List.of(1L, 2L, 3L));
+        given(notificationRepository.findIdsByCommentIdAfter(eq(55L), eq(3L), any()))
+                .willReturn(List.of(10L, 12L));
+        given(notificationRepository.findIdsByCommentIdAfter(eq(55L), eq(12L), any()))
+                .willReturn(List.of());
+        given(notificationRepository.deleteByCommentIdAndIdBetween(55L, 1L, 3L)).willReturn(3);
+        given(notificationRepository.deleteByCommentIdAndIdBetween(55L, 10L, 12L)).willReturn(2);
+
+        // when
+        int deleted = notificationCleaner.deleteAllByCommentId(55L);
+
+        // then
+        assertThat(deleted).isEqualTo(5);
+        then(transactionManager).should(times(2)).commit(any());
+    }
+
+    @Test
+    @DisplayName("유저 알림 삭제: 대상이 없으면 DELETE 없이 종료")
+    void deleteAllByReceiverId_nothingToDelete() {
+        // given
+        given(notificationRepository.findIdsByReceiverIdAfter(eq(1L), eq(0L), any())).willReturn(List.of());
+
+        // when
+        int deleted = notificationCleaner.deleteAllByReceiverId(1L);
+
+        // then
+        assertThat(deleted).isZero();
+        then(notificationRepository).should(never()).deleteByReceiverIdAndIdBetween(anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("공유 본문 정리: 참조 없는 본문을 청크 단위로 삭제")
+    void purgeOrphanContents_deletesInChunks() {
+        // given
+        given(notificationContentRepository.findOrphanIdsBefore(any(), eq(0L), any()))
+                .willReturn(List.of(4L, 9L));
+        given(notificationContentRepository.findOrphanIdsBefore(any(), eq(9L), any()))
+                .willReturn(List.of());
+        given(notificationContentRepository.deleteOrphansByIds(List.of(4L, 9L))).willReturn(2);
+
+        // when
+        notificationCleaner.purgeOrphanContents();
+
+        // then
+        then(notificationContentRepository).should().deleteOrphansByIds(List.of(4L, 9L));
+        then(transactionManager).should().commit(any());
+    }
+
+    @Test
+    @DisplayName("비동기 삭제: 대기열이 가득 차면 요청 스레드에서 실행하지 않고 503 + Retry-After")
+    void submit_queueFull_rejectsWithRetryAfter() {
+        // given
+        NotificationCleaner saturated = new NotificationCleaner(notificationRepository, notificationContentRepository,
+                transactionManager, task -> { throw new TaskRejectedException("full"); },
+                Duration.ofHours(1), Duration.ofSeconds(30));
+        AtomicBoolean ran = new AtomicBoolean();
+
+        // when & then
+        assertThatThrownBy(() -> saturated.submit("commentId=42", () -> ran.set(true)))
+                .isInstanceOfSatisfying(RetryLaterException.class, e -> {
+                    assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+                    assertThat(e.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("30");
+                });
+        assertThat(ran).isFalse();
+    }
+}
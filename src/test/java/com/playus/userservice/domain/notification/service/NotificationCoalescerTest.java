@@ -0,0 +1,192 @@
+package com.playus.userservice.domain.notification.service;
+
+import com.playus.userservice.domain.notification.dto.response.NotificationResponse;
+import com.playus.userservice.domain.notification.event.RecentNotificationsChangedEvent;
+import com.playus.userservice.domain.user.entity.Notification;
+import com.playus.userservice.domain.user.entity.User;
+import com.playus.userservice.domain.user.enums.NotificationType;
+import com.playus.userservice.domain.user.repository.write.NotificationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationCoalescerTest {
+
+    private static final NotificationCoalescer.Key KEY =
+            new NotificationCoalescer.Key(1L, NotificationType.COMMENT, 99L);
+
+    @Mock private NotificationRepository    notificationRepository;
+    @Mock private NotificationDispatcher    notificationDispatcher;
+    @Mock private NotificationProjector     notificationProjector;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private User                      receiver;
+
+    @Test
+    @DisplayName("묶음: window 안의 알림은 기존 알림 개수를 원자적으로 올리고 제목/내용 갱신")
+    void mergeIfOpen_openWindow_updatesInPlace() {
+        // given
+        NotificationCoalescer coalescer = coalescer(true, Duration.ofMinutes(1));
+        given(notificationRepository.incrementCoalescedCount(eq(10L), anyString(), anyLong(), any(LocalDateTime.class)))
+                .willReturn(1);
+        given(notificationRepository.findCoalescedCountById(10L)).willReturn(2, 3);
+        coalescer.open(KEY, 10L);
+
+        // when
+        boolean merged = coalescer.mergeIfOpen(KEY, "셋째 댓글", 4L);
+        coalescer.mergeIfOpen(KEY, "넷째 댓글", 5L);
+
+        // then
+        assertThat(merged).isTrue();
+        then(notificationRepository).should().incrementCoalescedCount(eq(10L), eq("넷째 댓글"), eq(5L), any(LocalDateTime.class));
+        then(notificationRepository).should().updateTitle(10L, "새 댓글 2개가 등록되었습니다.");
+        then(notificationRepository).should().updateTitle(10L, "새 댓글 3개가 등록되었습니다.");
+    }
+
+    @Test
+    @DisplayName("묶음: 이미 읽은 알림이면 합치지 않고 새 알림 생성")
+    void mergeIfOpen_alreadyRead_returnsFalse() {
+        // given
+        NotificationCoalescer coalescer = coalescer(true, Duration.ofMinutes(1));
+        given(notificationRepository.incrementCoalescedCount(eq(10L), anyString(), anyLong(), any(LocalDateTime.class)))
+                .willReturn(0);
+        coalescer.open(KEY, 10L);
+
+        // when & then
+        assertThat(coalescer.mergeIfOpen(KEY, "c2", 3L)).isFalse();
+        assertThat(coalescer.openWindowCount()).isZero();
+        then(notificationRepository).should(never()).updateTitle(anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("묶음: window 가 닫히면 합쳐진 알림을 한 번 전송하고 최근 알림 캐시 무효화")
+    void flushClosedWindows_merged_dispatchesOnce() throws InterruptedException {
+        // given
+        NotificationCoalescer coalescer = coalescer(true, Duration.ofMillis(50));
+        Notification first = Notification.create(receiver, "t", "c", null, null, 2L, NotificationType.COMMENT);
+        given(notificationRepository.findById(10L)).willReturn(Optional.of(first));
+        given(notificationRepository.incrementCoalescedCount(eq(10L), anyString(), anyLong(), any(LocalDateTime.class)))
+                .willReturn(1);
+        given(notificationRepository.findCoalescedCountById(10L)).willReturn(2);
+        coalescer.open(KEY, 10L);
+        coalescer.mergeIfOpen(KEY, "c2", 3L);
+        Thread.sleep(60);
+
+        // when
+        coalescer.flushClosedWindows();
+        coalescer.flushClosedWindows();
+
+        // then
+        then(notificationDispatcher).should(times(1)).dispatch(eq(1L), any(NotificationResponse.class));
+        then(notificationProjector).should(times(1)).upsert(eq(1L), anyList());
+        then(eventPublisher).should(times(1)).publishEvent(RecentNotificationsChangedEvent.evict(1L));
+        assertThat(coalescer.openWindowCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("묶음: flush 뒤에 커밋된 합치기도 유실되지 않고 다음 정리 주기에 묶음을 한 번 전송")
+    void mergeIfOpen_committedAfterFlush_dispatchedOnNextSweep() throws InterruptedException {
+        // given
+        NotificationCoalescer coalescer = coalescer(true, Duration.ofMillis(50));
+        Notification first = Notification.create(receiver, "t", "c", null, null, 2L, NotificationType.COMMENT);
+        given(notificationRepository.findById(10L)).willReturn(Optional.of(first));
+        given(notificationRepository.incrementCoalescedCount(eq(10L), anyString(), anyLong(), any(LocalDateTime.class)))
+                .willReturn(1);
+        given(notificationRepository.findCoalescedCountById(10L)).willReturn(2);
+        coalescer.open(KEY, 10L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        List<TransactionSynchronization> pending;
+        try {
+            coalescer.mergeIfOpen(KEY, "c2", 3L);
+            pending = TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        Thread.sleep(60);
+
+        // when - 커밋 전에 window 가 닫혀 정리된 뒤 합치기 커밋
+        coalescer.flushClosedWindows();
+        pending.forEach(TransactionSynchronization::afterCommit);
+        coalescer.flushClosedWindows();
+        coalescer.flushClosedWindows();
+
+        // then
+        then(notificationDispatcher).should(times(1)).dispatch(eq(1L), any(NotificationResponse.class));
+        then(notificationProjector).should(times(1)).upsert(eq(1L), anyList());
+        assertThat(coalescer.openWindowCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("묶음: 롤백된 합치기는 window 에 반영되지 않아 묶음 전송 없음")
+    void mergeIfOpen_rolledBack_notCounted() throws InterruptedException {
+        // given
+        NotificationCoalescer coalescer = coalescer(true, Duration.ofMillis(50));
+        given(notificationRepository.incrementCoalescedCount(eq(10L), anyString(), anyLong(), any(LocalDateTime.class)))
+                .willReturn(1);
+        given(notificationRepository.findCoalescedCountById(10L)).willReturn(2);
+        coalescer.open(KEY, 10L);
+
+        // when - 커밋 없이 트랜잭션 동기화 종료
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            coalescer.mergeIfOpen(KEY, "c2", 3L);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        Thread.sleep(60);
+        coalescer.flushClosedWindows();
+
+        // then
+        then(notificationDispatcher).shouldHaveNoInteractions();
+        then(notificationProjector).shouldHaveNoInteractions();
+        then(eventPublisher).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("묶음: 첫 전송 이후 합쳐진 알림이 없으면 묶음 전송 없이 window 만 정리")
+    void flushClosedWindows_single_noDispatch() throws InterruptedException {
+        // given
+        NotificationCoalescer coalescer = coalescer(true, Duration.ofMillis(1));
+        coalescer.open(KEY, 10L);
+        Thread.sleep(5);
+
+        // when
+        coalescer.flushClosedWindows();
+
+        // then
+        then(notificationDispatcher).shouldHaveNoInteractions();
+        assertThat(coalescer.openWindowCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("묶음: 비활성이면 아무 것도 하지 않음")
+    void disabled_noop() {
+        NotificationCoalescer coalescer = coalescer(false, Duration.ofMinutes(1));
+
+        coalescer.open(KEY, 10L);
+
+        assertThat(coalescer.mergeIfOpen(KEY, "c", 2L)).isFalse();
+        then(notificationRepository).shouldHaveNoInteractions();
+    }
+
+    private NotificationCoalescer coalescer(boolean enabled, Duration window) {
+        return new NotificationCoalescer(notificationRepository, notificationDispatcher, notificationProjector,
+                eventPublisher, new SimpleMeterRegistry(), enabled, window);
+    }
+}
@@ -0,0 +1,60 @@
+package com.playus.userservice.domain.notification.service;
+
+import com.playus.userservice.domain.notification.dto.response.NotificationResponse;
+import com.playus.userservice.domain.notification.event.NotificationCreatedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationDispatchListenerTest {
+
+    @Mock private NotificationDispatcher    notificationDispatcher;
+    @Mock private NotificationOutboxService notificationOutboxService;
+    @Mock private NotificationResponse      response;
+
+    @Test
+    @DisplayName("커밋 후: 전용 executor 에서 dispatch 하고 outbox 처리 완료 표시 · 지연시간 기록")
+    void onNotificationCreated_dispatchesOnExecutor() {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Executor direct = Runnable::run;
+        NotificationDispatchListener listener =
+                new NotificationDispatchListener(notificationDispatcher, notificationOutboxService, direct, registry);
+
+        // when
+        listener.onNotificationCreated(new NotificationCreatedEvent(7L, 1L, List.of(response)));
+
+        // then
+        then(notificationDispatcher).should().dispatchAll(1L, List.of(response));
+        then(notificationOutboxService).should().markDelivered(7L);
+        assertThat(registry.get("notification.dispatch.latency").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("커밋 후: 전송 실패가 호출 스레드로 전파되지 않고 outbox 는 poller 몫으로 남김")
+    void onNotificationCreated_dispatchFails_swallowed() {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        NotificationDispatchListener listener =
+                new NotificationDispatchListener(notificationDispatcher, notificationOutboxService, Runnable::run, registry);
+        willThrow(new IllegalStateException("boom")).given(notificationDispatcher).dispatchAll(any(), any());
+
+        // when
+        listener.onNotificationCreated(new NotificationCreatedEvent(7L, 1L, List.of(response)));
+
+        // then
+        then(notificationOutboxService).shouldHaveNoInteractions();
+        assertThat(registry.get("notification.dispatch.latency").timer().count()).isEqualTo(1);
+    }
+}
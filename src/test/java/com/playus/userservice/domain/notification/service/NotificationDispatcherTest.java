@@ -0,0 +1,215 @@
+package com.playus.userservice.domain.notification.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.playus.userservice.domain.notification.repository.CachedEvent;
+import com.playus.userservice.domain.notification.repository.EmitterLocationRepository;
+import com.playus.userservice.domain.notification.repository.EmitterRepository;
+import com.playus.userservice.domain.notification.repository.EmitterRepositoryImpl;
+import com.playus.userservice.domain.notification.repository.EncodedPayload;
+import com.playus.userservice.domain.notification.repository.EventCacheRepository;
+import com.playus.userservice.domain.notification.repository.EventSequenceRepository;
+import com.playus.userservice.domain.notification.repository.SseConnection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationDispatcherTest {
+
+    /** "payload" 를 JSON 으로 직렬화한 결과 */
+    private static final EncodedPayload PAYLOAD = EncodedPayload.wrap("\"payload\"".getBytes(StandardCharsets.UTF_8));
+
+    @Mock private EmitterRepository         emitterRepository;
+    @Mock private EventCacheRepository      eventCacheRepository;
+    @Mock private EmitterLocationRepository emitterLocationRepository;
+    @Mock private RedisTemplate<String, String> redisTemplate;
+    @Mock private SseConnectionFactory      sseConnectionFactory;
+    @Mock private EventSequenceRepository   eventSequenceRepository;
+
+    private NotificationDispatcher notificationDispatcher;
+
+    @BeforeEach
+    void setup() {
+        notificationDispatcher = new NotificationDispatcher(
+                emitterRepository,
+                eventCacheRepository,
+                emitterLocationRepository,
+                new ClusterNode("pod-a"),
+                redisTemplate,
+                new ObjectMapper(),
+                sseConnectionFactory,
+                eventSequenceRepository
+        );
+    }
+
+    @Test
+    @DisplayName("dispatch: 수신자가 현재 파드에 연결돼 있으면 로컬 전송만 수행")
+    void dispatch_localReceiver_deliversLocally() {
+        // given
+        given(emitterLocationRepository.findAllNodeIdByUserId(1L)).willReturn(Set.of("pod-a"));
+        given(eventSequenceRepository.increment(eq(1L), eq(1), anyLong())).willReturn(7L);
+        given(eventCacheRepository.save(1L, 7L, PAYLOAD)).willReturn(new CachedEvent(7L, 0L, PAYLOAD));
+        given(emitterRepository.findAllEmitterByUserId(1L)).willReturn(Map.of());
+
+        // when
+        notificationDispatcher.dispatch(1L, "payload");
+
+        // then
+        then(eventCacheRepository).should().save(1L, 7L, PAYLOAD);
+        then(redisTemplate).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("dispatch: 다른 파드에 연결된 유저면 해당 파드 채널에만 publish")
+    void dispatch_remoteReceiver_publishesToOwnerNodeOnly() {
+        // given
+        given(emitterLocationRepository.findAllNodeIdByUserId(1L)).willReturn(Set.of("pod-b"));
+        given(eventSequenceRepository.increment(eq(1L), eq(1), anyLong())).willReturn(7L);
+
+        // when
+        notificationDispatcher.dispatch(1L, "payload");
+
+        // then
+        then(redisTemplate).should().convertAndSend("sse:node:pod-b", "{\"userId\":1,\"eventId\":7,\"payload\":\"payload\"}");
+        then(eventCacheRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("dispatch: Redis 장애 시 로컬 전송으로 대체")
+    void dispatch_redisDown_fallsBackToLocal() {
+        // given
+        given(emitterLocationRepository.findAllNodeIdByUserId(1L))
+                .willThrow(new RedisConnectionFailureException("down"));
+        given(eventSequenceRepository.increment(eq(1L), eq(1), anyLong()))
+                .willThrow(new RedisConnectionFailureException("down"));
+        given(eventCacheRepository.save(eq(1L), anyLong(), eq(PAYLOAD))).willReturn(new CachedEvent(1L, 0L, PAYLOAD));
+        given(emitterRepository.findAllEmitterByUserId(1L)).willReturn(Map.of());
+
+        // when
+        notificationDispatcher.dispatch(1L, "payload");
+
+        // then
+        then(eventCacheRepository).should().save(eq(1L), anyLong(), eq(PAYLOAD));
+        then(redisTemplate).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("dispatchAll: id 는 유저별로 한 번에 예약해 알림 순서대로 부여, Redis 장애 중에도 시각 기반으로 뒤로 가지 않음")
+    void dispatchAll_reservesConsecutiveIds_fallbackStaysMonotonic() {
+        // given
+        given(emitterLocationRepository.findAllNodeIdByUserId(1L)).willReturn(Set.of("pod-a"));
+        long before = System.currentTimeMillis() * 1000;
+        given(eventSequenceRepository.increment(eq(1L), eq(2), anyLong()))
+                .willReturn(before + 2)
+                .willThrow(new RedisConnectionFailureException("down"));
+        given(eventCacheRepository.save(eq(1L), anyLong(), any())).willAnswer(invocation ->
+                new CachedEvent(invocation.getArgument(1), 0L, invocation.getArgument(2)));
+        given(emitterRepository.findAllEmitterByUserId(1L)).willReturn(Map.of());
+
+        // when
+        notificationDispatcher.dispatchAll(1L, List.of("a", "b"));
+        notificationDispatcher.dispatchAll(1L, List.of("c", "d"));
+
+        // then
+        ArgumentCaptor<Long> ids = ArgumentCaptor.forClass(Long.class);
+        then(eventCacheRepository).should(times(4)).save(eq(1L), ids.capture(), any());
+        assertThat(ids.getAllValues().subList(0, 2)).containsExactly(before + 1, before + 2);
+        assertThat(ids.getAllValues().get(2)).isGreaterThan(before + 2);
+        assertThat(ids.getAllValues().get(3)).isEqualTo(ids.getAllValues().get(2) + 1);
+    }
+
+    @Test
+    @DisplayName("dispatch: 수신자의 여러 연결이 한 번 만든 프레임을 공유")
+    void dispatch_multipleConnections_shareEncodedFrame() {
+        // given
+        List<SseEmitter.SseEventBuilder> sent = new ArrayList<>();
+        SseConnection first = recordingConnection("1_1", sent);
+        SseConnection second = recordingConnection("1_2", sent);
+        given(emitterLocationRepository.findAllNodeIdByUserId(1L)).willReturn(Set.of("pod-a"));
+        given(eventSequenceRepository.increment(eq(1L), eq(1), anyLong())).willReturn(7L);
+        given(eventCacheRepository.save(1L, 7L, PAYLOAD)).willReturn(new CachedEvent(7L, 0L, PAYLOAD));
+        given(emitterRepository.findAllEmitterByUserId(1L)).willReturn(Map.of("1_1", first, "1_2", second));
+
+        // when
+        notificationDispatcher.dispatch(1L, "payload");
+
+        // then
+        assertThat(sent).hasSize(2);
+        assertThat(sent.get(0)).isSameAs(sent.get(1));
+        byte[] frame = (byte[]) sent.get(0).build().iterator().next().getData();
+        assertThat(new String(frame, StandardCharsets.UTF_8)).isEqualTo("id:7\ndata:\"payload\"\n\n");
+    }
+
+    @Test
+    @DisplayName("evictOldest: 가장 오래된 연결부터 retry 를 보내 종료하고 keep 개만 유지 (저장소에서 빠져도 retry 는 전송)")
+    void evictOldest_keepsNewestConnections() throws InterruptedException {
+        // given - 실제 저장소: 삭제 시 discard 로 대기열을 버리는 동작까지 포함
+        EmitterRepositoryImpl repository = new EmitterRepositoryImpl();
+        NotificationDispatcher dispatcher = new NotificationDispatcher(repository, eventCacheRepository,
+                emitterLocationRepository, new ClusterNode("pod-a"), redisTemplate, new ObjectMapper(),
+                sseConnectionFactory, eventSequenceRepository);
+        Queue<Runnable> writer = new ArrayDeque<>();
+        List<SseEmitter.SseEventBuilder> sent = new ArrayList<>();
+        SseConnection older = recordingConnection("1_1", sent, writer::add);
+        Thread.sleep(1);
+        SseConnection newer = connection("1_2");
+        repository.save(1L, "1_1", older);
+        repository.save(1L, "1_2", newer);
+
+        // when
+        dispatcher.evictOldest(1L, 1, Duration.ofMinutes(5));
+        Runnable task;
+        while ((task = writer.poll()) != null) {
+            task.run();
+        }
+
+        // then
+        assertThat(repository.findAllEmitterByUserId(1L)).containsOnlyKeys("1_2");
+        assertThat(older.isClosed()).isTrue();
+        assertThat(newer.isClosed()).isFalse();
+        assertThat(sent).hasSize(1);
+        Object frame = sent.get(0).build().iterator().next().getData();
+        assertThat(frame.toString()).isEqualTo("retry:300000\n\n");
+    }
+
+    private SseConnection recordingConnection(String emitterId, List<SseEmitter.SseEventBuilder> sent) {
+        return recordingConnection(emitterId, sent, Runnable::run);
+    }
+
+    private SseConnection recordingConnection(String emitterId, List<SseEmitter.SseEventBuilder> sent, Executor writer) {
+        SseEmitter emitter = new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) {
+                sent.add(builder);
+            }
+        };
+        return new SseConnection(1L, emitterId, emitter, 8,
+                SseConnection.OverflowPolicy.DROP_OLDEST, writer, (c, reason) -> {});
+    }
+
+    private SseConnection connection(String emitterId) {
+        return new SseConnection(1L, emitterId, new SseEmitter(), 8,
+                SseConnection.OverflowPolicy.DROP_OLDEST, Runnable::run, (c, reason) -> {});
+    }
+}
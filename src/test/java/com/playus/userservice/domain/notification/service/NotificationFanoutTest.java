@@ -0,0 +1,182 @@
+package com.playus.userservice.domain.notification.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.playus.userservice.domain.notification.repository.CachedEvent;
+import com.playus.userservice.domain.notification.repository.EmitterLocationRepositoryImpl;
+import com.playus.userservice.domain.notification.repository.EmitterRepositoryImpl;
+import com.playus.userservice.domain.notification.repository.EventCacheRepository;
+import com.playus.userservice.domain.notification.repository.EventCacheRepositoryImpl;
+import com.playus.userservice.domain.notification.repository.EventSequenceRepositoryImpl;
+import com.playus.userservice.domain.oauth.service.TokenBlacklistListener;
+import com.playus.userservice.domain.oauth.service.TokenBlacklistService;
+import com.playus.userservice.global.config.async.NotificationExecutorConfig;
+import com.playus.userservice.global.config.data.redis.RedisListenerConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.util.TestPropertyValues;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 파드 두 개(ApplicationContext 두 개)가 하나의 Redis 를 공유하는 상황에서
+ * 다른 파드에 연결된 유저에게 알림이 전달되는지 검증
+ */
+class NotificationFanoutTest {
+
+    private static final String REDIS_VERSION = "redis:7.0.12";
+    private static final int REDIS_PORT = 6379;
+
+    private static final GenericContainer<?> redis;
+
+    static {
+        redis = new GenericContainer<>(DockerImageName.parse(REDIS_VERSION))
+                .withExposedPorts(REDIS_PORT)
+                .withReuse(true);
+        redis.start();
+    }
+
+    private AnnotationConfigApplicationContext podA;
+    private AnnotationConfigApplicationContext podB;
+
+    @BeforeEach
+    void startPods() {
+        podA = startPod("pod-a");
+        podB = startPod("pod-b");
+    }
+
+    @AfterEach
+    void stopPods() {
+        podA.close();
+        podB.close();
+    }
+
+    @Test
+    @DisplayName("fan-out: pod-a 에서 생성된 알림이 pod-b 에 연결된 유저에게 전달")
+    void dispatch_userOnOtherPod_deliveredThroughOwnerChannel() {
+        // given
+        Long userId = ThreadLocalRandom.current().nextLong(1_000_000, 2_000_000);
+        podB.getBean(NotificationDispatcher.class).connect(userId, userId + "_1", new SseEmitter());
+
+        // when
+        podA.getBean(NotificationDispatcher.class).dispatch(userId, Map.of("title", "새 댓글이 등록되었습니다."));
+
+        // then
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            List<CachedEvent> received = podB.getBean(EventCacheRepository.class).findAllByUserIdAfter(userId, 0L);
+            assertThat(received).hasSize(1);
+            assertThat(received.get(0).data().toString()).contains("새 댓글이 등록되었습니다.");
+        });
+        assertThat(podA.getBean(EventCacheRepository.class).findAllByUserIdAfter(userId, 0L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("fan-out: 두 파드에 연결된 유저는 같은 이벤트를 같은 id 로 받음 → 어느 파드로 재연결해도 Last-Event-ID 비교 가능")
+    void dispatch_userOnBothPods_sameEventIdOnEveryPod() {
+        // given
+        Long userId = ThreadLocalRandom.current().nextLong(2_000_000, 3_000_000);
+        podA.getBean(NotificationDispatcher.class).connect(userId, userId + "_1", new SseEmitter());
+        podB.getBean(NotificationDispatcher.class).connect(userId, userId + "_2", new SseEmitter());
+
+        // when
+        podA.getBean(NotificationDispatcher.class).dispatch(userId, Map.of("title", "first"));
+        podB.getBean(NotificationDispatcher.class).dispatch(userId, Map.of("title", "second"));
+
+        // then
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            List<CachedEvent> onA = podA.getBean(EventCacheRepository.class).findAllByUserIdAfter(userId, 0L);
+            List<CachedEvent> onB = podB.getBean(EventCacheRepository.class).findAllByUserIdAfter(userId, 0L);
+            assertThat(onA).hasSize(2);
+            assertThat(onA).extracting(CachedEvent::id).isEqualTo(onB.stream().map(CachedEvent::id).toList());
+            assertThat(onA.get(0).id()).isLessThan(onA.get(1).id());
+        });
+    }
+
+    private AnnotationConfigApplicationContext startPod(String nodeId) {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.getBeanFactory().setConversionService(ApplicationConversionService.getSharedInstance());
+        TestPropertyValues.of(
+                "notification.sse.node-id=" + nodeId,
+                "test.redis.host=" + redis.getHost(),
+                "test.redis.port=" + redis.getMappedPort(REDIS_PORT)
+        ).applyTo(context);
+        context.register(PodConfig.class);
+        context.refresh();
+
+        RedisMessageListenerContainer container = context.getBean(RedisMessageListenerContainer.class);
+        await().atMost(Duration.ofSeconds(5)).until(container::isListening);
+        return context;
+    }
+
+    @Configuration
+    @Import({
+            ClusterNode.class,
+            EmitterRepositoryImpl.class,
+            EventCacheRepositoryImpl.class,
+            EventSequenceRepositoryImpl.class,
+            EmitterLocationRepositoryImpl.class,
+            NotificationDispatcher.class,
+            SseConnectionFactory.class,
+            NotificationFanoutListener.class,
+            TokenBlacklistService.class,
+            TokenBlacklistListener.class,
+            RedisListenerConfig.class
+    })
+    static class PodConfig {
+
+        @Bean
+        public LettuceConnectionFactory redisConnectionFactory(
+                @Value("${test.redis.host}") String host,
+                @Value("${test.redis.port}") int port) {
+            return new LettuceConnectionFactory(host, port);
+        }
+
+        @Bean
+        public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory connectionFactory) {
+            return new StringRedisTemplate(connectionFactory);
+        }
+
+        @Bean
+        public ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean(name = NotificationExecutorConfig.SSE_WRITER_EXECUTOR)
+        public Executor sseWriterExecutor() {
+            return Runnable::run;
+        }
+
+        @Bean(name = NotificationExecutorConfig.SSE_CLOSER_EXECUTOR)
+        public Executor sseCloserExecutor() {
+            return Runnable::run;
+        }
+    }
+}
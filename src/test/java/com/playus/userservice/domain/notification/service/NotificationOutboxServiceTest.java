@@ -0,0 +1,132 @@
+package com.playus.userservice.domain.notification.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.playus.userservice.domain.user.entity.NotificationOutbox;
+import com.playus.userservice.domain.user.repository.write.NotificationOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxServiceTest {
+
+    @Mock private NotificationOutboxRepository outboxRepository;
+    @Mock private NotificationDispatcher       notificationDispatcher;
+    @Mock private PlatformTransactionManager   transactionManager;
+
+    private SimpleMeterRegistry registry;
+    private NotificationOutboxService outboxService;
+
+    @BeforeEach
+    void setup() {
+        registry = new SimpleMeterRegistry();
+        outboxService = new NotificationOutboxService(
+                outboxRepository, notificationDispatcher, new ObjectMapper(), transactionManager, registry,
+                100, Duration.ofSeconds(5), Duration.ofSeconds(10), Duration.ofDays(1));
+    }
+
+    @Test
+    @DisplayName("outbox 기록: 수신자별 한 행씩 배치 INSERT 후 수신자 → outbox ID 반환")
+    @SuppressWarnings("unchecked")
+    void append_insertsOneRowPerReceiver() {
+        // given
+        given(outboxRepository.batchInsert(anyList(), any())).willReturn(List.of(7L, 8L));
+
+        // when
+        Map<Long, Long> outboxIds = outboxService.append(Map.of(1L, List.of(), 2L, List.of()));
+
+        // then
+        ArgumentCaptor<List<NotificationOutbox>> captor = ArgumentCaptor.forClass(List.class);
+        then(outboxRepository).should().batchInsert(captor.capture(), any());
+        List<NotificationOutbox> rows = captor.getValue();
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).getPayload()).isEqualTo("[]");
+        assertThat(rows.get(0).getAvailableAt()).isAfter(LocalDateTime.now());
+        assertThat(outboxIds).containsEntry(rows.get(0).getReceiverId(), 7L)
+                .containsEntry(rows.get(1).getReceiverId(), 8L);
+    }
+
+    @Test
+    @DisplayName("poller: 유예가 지난 미처리 행을 lease 후 재전송하고, 전송이 끝난 뒤 처리 완료 표시")
+    void poll_redeliversPendingRows() {
+        // given
+        NotificationOutbox row = outbox(5L, 1L, "[{\"id\":10,\"title\":\"새 댓글이 등록되었습니다.\"}]");
+        given(outboxRepository.findDeliverableForUpdate(any(), eq(100))).willReturn(List.of(row));
+
+        // when
+        outboxService.poll();
+
+        // then
+        ArgumentCaptor<List<?>> captor = ArgumentCaptor.forClass(List.class);
+        InOrder inOrder = inOrder(transactionManager, notificationDispatcher, outboxRepository);
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(notificationDispatcher).dispatchAll(eq(1L), captor.capture());
+        inOrder.verify(outboxRepository).markAllProcessed(eq(List.of(5L)), any());
+        assertThat(((JsonNode) captor.getValue().get(0)).get("id").asLong()).isEqualTo(10L);
+        assertThat(row.getAttempts()).isEqualTo(1);
+        assertThat(registry.get("notification.outbox.delivered").tag("path", "poller").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("poller: 재전송 실패 시 처리 완료 표시 없이 lease 가 끝난 뒤 다시 시도")
+    void poll_dispatchFails_retriesLater() {
+        // given
+        NotificationOutbox row = outbox(5L, 1L, "[]");
+        given(outboxRepository.findDeliverableForUpdate(any(), eq(100))).willReturn(List.of(row));
+        willThrow(new IllegalStateException("boom")).given(notificationDispatcher).dispatchAll(any(), any());
+
+        // when
+        outboxService.poll();
+
+        // then
+        then(outboxRepository).should(never()).markAllProcessed(anyCollection(), any());
+        assertThat(row.getProcessedAt()).isNull();
+        assertThat(row.getAttempts()).isEqualTo(1);
+        assertThat(row.getAvailableAt()).isAfter(LocalDateTime.now().plusSeconds(5));
+        assertThat(registry.get("notification.outbox.failed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("즉시 전송 성공: 미처리 행일 때만 처리 완료로 집계")
+    void markDelivered_countsOnlyFirstMark() {
+        // given
+        given(outboxRepository.markProcessed(eq(7L), any())).willReturn(1, 0);
+
+        // when
+        outboxService.markDelivered(7L);
+        outboxService.markDelivered(7L);
+
+        // then
+        assertThat(registry.get("notification.outbox.delivered").tag("path", "immediate").counter().count())
+                .isEqualTo(1);
+    }
+
+    private NotificationOutbox outbox(Long id, Long receiverId, String payload) {
+        NotificationOutbox outbox = NotificationOutbox.builder()
+                .receiverId(receiverId)
+                .payload(payload)
+                .availableAt(LocalDateTime.now().minusSeconds(1))
+                .build();
+        ReflectionTestUtils.setField(outbox, "id", id);
+        return outbox;
+    }
+}
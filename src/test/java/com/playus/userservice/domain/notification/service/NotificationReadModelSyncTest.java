@@ -0,0 +1,246 @@
+package com.playus.userservice.domain.notification.service;
+
+import com.playus.userservice.domain.user.document.NotificationDocument;
+import com.playus.userservice.domain.user.entity.Notification;
+import com.playus.userservice.domain.user.entity.User;
+import com.playus.userservice.domain.user.enums.NotificationType;
+import com.playus.userservice.domain.user.repository.write.NotificationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationReadModelSyncTest {
+
+    @Mock private NotificationRepository          notificationRepository;
+    @Mock private MongoTemplate                   mongoTemplate;
+    @Mock private BulkOperations                  bulk;
+    @Mock private MongoConverter                  converter;
+    @Mock private User                            receiver;
+    @Mock private RedisTemplate<String, String>   redisTemplate;
+    @Mock private ValueOperations<String, String> valueOperations;
+
+    private NotificationReadModelSync sync;
+
+    @BeforeEach
+    void setUp() {
+        sync = new NotificationReadModelSync(notificationRepository, mongoTemplate, redisTemplate,
+                new ClusterNode("pod-a"), new SimpleMeterRegistry(), true, 2, 10, Duration.ofMinutes(1), Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("backfill: 진행 위치 이후 청크를 없는 문서만 생성하고 진행 위치를 올림, 완료 전에는 읽기 모델 미사용")
+    void backfill_chunk_insertsMissingAndAdvances() {
+        // given
+        given(mongoTemplate.findById("notifications", Document.class, "read_model_state"))
+                .willReturn(new Document("_id", "notifications").append("last_id", 10L));
+        given(notificationRepository.findChunkAfterId(10L, Limit.of(2)))
+                .willReturn(List.of(notification(11L, false, null), notification(12L, true, null)));
+        given(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, NotificationDocument.class)).willReturn(bulk);
+        given(mongoTemplate.getConverter()).willReturn(converter);
+
+        // when
+        sync.backfill();
+
+        // then
+        then(bulk).should(times(2)).upsert(any(Query.class), any(Update.class));
+        then(bulk).should(never()).replaceOne(any(Query.class), any(), any(FindAndReplaceOptions.class));
+        then(bulk).should().execute();
+        ArgumentCaptor<Update> state = ArgumentCaptor.forClass(Update.class);
+        then(mongoTemplate).should().upsert(any(Query.class), state.capture(), eq("read_model_state"));
+        assertThat(state.getValue().getUpdateObject().toJson()).contains("$max").contains("12");
+        assertThat(sync.isBackfilled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("backfill: 남은 알림이 없으면 완료 기록 후 더 이상 MySQL 을 읽지 않음")
+    void backfill_noMoreRows_completes() {
+        // given
+        given(mongoTemplate.findById("notifications", Document.class, "read_model_state"))
+                .willReturn(new Document("_id", "notifications").append("last_id", 12L));
+        given(notificationRepository.findChunkAfterId(12L, Limit.of(2))).willReturn(List.of());
+
+        // when
+        sync.backfill();
+        sync.backfill();
+
+        // then
+        assertThat(sync.isBackfilled()).isTrue();
+        then(mongoTemplate).should().upsert(any(Query.class), any(Update.class), eq("read_model_state"));
+        then(notificationRepository).should(times(1)).findChunkAfterId(anyLong(), any(Limit.class));
+    }
+
+    @Test
+    @DisplayName("backfill: 다른 파드가 끝냈으면 완료 표시만 확인")
+    void backfill_completedElsewhere_marksReady() {
+        // given
+        given(mongoTemplate.findById("notifications", Document.class, "read_model_state"))
+                .willReturn(new Document("_id", "notifications").append("completed", true));
+
+        // when
+        sync.backfill();
+
+        // then
+        assertThat(sync.isBackfilled()).isTrue();
+        then(notificationRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("복구: 빠지거나 다른 문서는 다시 쓰고, MySQL 에 없는 문서는 삭제, grace 안에 바뀐 것은 건너뜀")
+    void repair_fixesMismatchesAndOrphans() {
+        // given
+        ReflectionTestUtils.setField(sync, "completed", true);
+        givenLease(true);
+        LocalDateTime old = LocalDateTime.now().minusHours(1);
+        given(receiver.getId()).willReturn(1L);
+        given(notificationRepository.findChunkAfterId(0L, Limit.of(10))).willReturn(List.of(
+                notification(1L, true, old),                              // 읽음이 반영되지 않음
+                notification(2L, false, old),                             // 문서 없음
+                notification(3L, false, old),                             // 일치
+                notification(4L, true, LocalDateTime.now())));            // 방금 바뀜
+        given(mongoTemplate.find(any(Query.class), eq(NotificationDocument.class))).willReturn(List.of(
+                document(1L, false, old),
+                document(3L, false, old),
+                document(4L, false, old),
+                document(5L, false, old)));                               // MySQL 에서 삭제됨
+        given(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, NotificationDocument.class)).willReturn(bulk);
+
+        // when
+        sync.repair();
+
+        // then
+        ArgumentCaptor<NotificationDocument> replaced = ArgumentCaptor.forClass(NotificationDocument.class);
+        then(bulk).should(times(2)).replaceOne(any(Query.class), replaced.capture(), any(FindAndReplaceOptions.class));
+        assertThat(replaced.getAllValues()).extracting(NotificationDocument::getId).containsExactly(1L, 2L);
+        assertThat(replaced.getAllValues().get(0).isRead()).isTrue();
+        ArgumentCaptor<Query> removed = ArgumentCaptor.forClass(Query.class);
+        then(bulk).should().remove(removed.capture());
+        assertThat(removed.getValue().getQueryObject().toJson()).contains("5");
+        then(bulk).should().execute();
+    }
+
+    @Test
+    @DisplayName("복구: MySQL 최대 id 보다 큰 문서도 마지막 청크에서 비교해 삭제, 다음 주기는 처음부터")
+    void repair_pastMaxId_removesOrphansAndWraps() {
+        // given
+        ReflectionTestUtils.setField(sync, "completed", true);
+        ReflectionTestUtils.setField(sync, "repairCursor", 20L);
+        givenLease(true);
+        LocalDateTime old = LocalDateTime.now().minusHours(1);
+        given(notificationRepository.findChunkAfterId(20L, Limit.of(10))).willReturn(List.of());
+        given(mongoTemplate.find(any(Query.class), eq(NotificationDocument.class))).willReturn(List.of(
+                document(21L, false, old),                                // MySQL 에서 삭제됨
+                document(22L, false, LocalDateTime.now())));              // 방금 반영 (커밋 직후일 수 있음)
+        given(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, NotificationDocument.class)).willReturn(bulk);
+
+        // when
+        sync.repair();
+
+        // then
+        ArgumentCaptor<Query> range = ArgumentCaptor.forClass(Query.class);
+        then(mongoTemplate).should().find(range.capture(), eq(NotificationDocument.class));
+        assertThat(range.getValue().getQueryObject().toJson()).contains("$gt").doesNotContain("$lte");
+        ArgumentCaptor<Query> removed = ArgumentCaptor.forClass(Query.class);
+        then(bulk).should().remove(removed.capture());
+        assertThat(removed.getValue().getQueryObject().toJson()).contains("21").doesNotContain("22");
+        assertThat(ReflectionTestUtils.getField(sync, "repairCursor")).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("복구: 다른 파드가 lease 를 가지고 있으면 MySQL 을 읽지 않음")
+    void repair_leaseHeldElsewhere_skips() {
+        // given
+        ReflectionTestUtils.setField(sync, "completed", true);
+        givenLease(false);
+        given(valueOperations.get("notification:read-model:repair-lease")).willReturn("pod-b");
+
+        // when
+        sync.repair();
+
+        // then
+        then(notificationRepository).shouldHaveNoInteractions();
+        then(mongoTemplate).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("복구: 이미 lease 를 가진 파드는 연장 후 계속 순회")
+    void repair_ownLease_renewsAndRuns() {
+        // given
+        ReflectionTestUtils.setField(sync, "completed", true);
+        givenLease(false);
+        given(valueOperations.get("notification:read-model:repair-lease")).willReturn("pod-a");
+        given(notificationRepository.findChunkAfterId(0L, Limit.of(10))).willReturn(List.of());
+        given(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, NotificationDocument.class)).willReturn(bulk);
+
+        // when
+        sync.repair();
+
+        // then
+        then(redisTemplate).should().expire("notification:read-model:repair-lease", Duration.ofMinutes(1));
+        then(notificationRepository).should().findChunkAfterId(0L, Limit.of(10));
+    }
+
+    @Test
+    @DisplayName("복구: backfill 완료 전에는 실행하지 않음")
+    void repair_beforeBackfill_noop() {
+        sync.repair();
+
+        then(notificationRepository).shouldHaveNoInteractions();
+        then(mongoTemplate).shouldHaveNoInteractions();
+    }
+
+    private void givenLease(boolean acquired) {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent("notification:read-model:repair-lease", "pod-a", Duration.ofMinutes(1)))
+                .willReturn(acquired);
+    }
+
+    private Notification notification(Long id, boolean read, LocalDateTime updatedAt) {
+        Notification n = Notification.create(receiver, "새 댓글이 등록되었습니다.", "content-" + id, 10L, null, 2L,
+                NotificationType.COMMENT);
+        if (read) {
+            n.markAsRead();
+        }
+        ReflectionTestUtils.setField(n, "id", id);
+        ReflectionTestUtils.setField(n, "updatedAt", updatedAt);
+        return n;
+    }
+
+    private NotificationDocument document(Long id, boolean read, LocalDateTime updatedAt) {
+        return NotificationDocument.builder()
+                .id(id)
+                .title("새 댓글이 등록되었습니다.")
+                .content("content-" + id)
+                .commentId(10L)
+                .actorId(2L)
+                .receiverId(1L)
+                .isRead(read)
+                .type(NotificationType.COMMENT)
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
@@ -0,0 +1,133 @@
+package com.playus.userservice.domain.notification.service;
+
+import com.playus.userservice.IntegrationTestSupport;
+import com.playus.userservice.domain.notification.dto.request.NotificationCursor;
+import com.playus.userservice.domain.notification.dto.response.NotificationResponse;
+import com.playus.userservice.domain.user.enums.NotificationType;
+import com.playus.userservice.domain.user.repository.read.NotificationReadOnlyRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+class NotificationReadServiceTest extends IntegrationTestSupport {
+
+    private static final Long USER_ID = 7001L;
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 6, 1, 12, 30, 0);
+
+    @Autowired
+    private NotificationReadService notificationReadService;
+
+    @Autowired
+    private NotificationProjector notificationProjector;
+
+    @Autowired
+    private NotificationReadOnlyRepository notificationReadOnlyRepository;
+
+    @Autowired
+    private NotificationReadModelSync notificationReadModelSync;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(notificationReadService, "readModelEnabled", true);
+        for (int i = 0; i < 100 && !notificationReadModelSync.isBackfilled(); i++) {
+            notificationReadModelSync.backfill();
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(notificationReadService, "readModelEnabled", false);
+        notificationReadOnlyRepository.deleteAll();
+    }
+
+    @DisplayName("읽기 모델 비활성: 읽기 모델에 문서가 있어도 MySQL 기준으로 조회")
+    @Test
+    void readModelDisabled_readsMySql() {
+        // given
+        ReflectionTestUtils.setField(notificationReadService, "readModelEnabled", false);
+        notificationProjector.upsert(USER_ID, List.of(response(1L, CREATED_AT, false)));
+
+        // when & then
+        assertThat(notificationReadService.countUnread(USER_ID)).isZero();
+    }
+
+    @DisplayName("목록 조회: 같은 시각의 알림은 id 역순, 커서 이후부터 이어서 조회")
+    @Test
+    void findPage_keyset() {
+        // given
+        notificationProjector.upsert(USER_ID, List.of(
+                response(1L, CREATED_AT.minusMinutes(1), false),
+                response(2L, CREATED_AT, false),
+                response(3L, CREATED_AT, false),
+                response(4L, CREATED_AT.plusMinutes(1), false)));
+
+        // when
+        List<NotificationResponse> first = notificationReadService.findPage(USER_ID, NotificationCursor.FIRST, Limit.of(2), false);
+        NotificationResponse last = first.get(first.size() - 1);
+        List<NotificationResponse> second = notificationReadService.findPage(USER_ID,
+                new NotificationCursor(last.createdAt(), last.id()), Limit.of(2), false);
+
+        // then
+        assertThat(first).extracting(NotificationResponse::id).containsExactly(4L, 3L);
+        assertThat(second).extracting(NotificationResponse::id).containsExactly(2L, 1L);
+    }
+
+    @DisplayName("읽음 반영: 안 읽은 목록 / 개수 / 최근 알림에 반영")
+    @Test
+    void markRead_reflectedInReads() {
+        // given
+        notificationProjector.upsert(USER_ID, List.of(
+                response(1L, CREATED_AT.minusMinutes(1), false),
+                response(2L, CREATED_AT, false)));
+
+        // when
+        notificationProjector.markRead(USER_ID, Set.of(2L));
+
+        // then
+        assertThat(notificationReadService.countUnread(USER_ID)).isEqualTo(1L);
+        assertThat(notificationReadService.findPage(USER_ID, NotificationCursor.FIRST, Limit.of(10), true))
+                .extracting(NotificationResponse::id).containsExactly(1L);
+        assertThat(notificationReadService.findRecent(USER_ID))
+                .extracting(NotificationResponse::id, NotificationResponse::isRead)
+                .containsExactly(tuple(2L, true), tuple(1L, false));
+    }
+
+    @DisplayName("삭제 반영: 유저 알림 전체 삭제 후 읽기 모델에서도 사라짐")
+    @Test
+    void deleteAllByReceiverId_removesDocuments() {
+        // given
+        notificationProjector.upsert(USER_ID, List.of(response(1L, CREATED_AT, false)));
+        notificationProjector.upsert(USER_ID + 1, List.of(response(2L, CREATED_AT, false)));
+
+        // when
+        notificationProjector.deleteAllByReceiverId(USER_ID);
+
+        // then
+        assertThat(notificationReadService.countUnread(USER_ID)).isZero();
+        assertThat(notificationReadService.countUnread(USER_ID + 1)).isEqualTo(1L);
+    }
+
+    @DisplayName("목록 조회: 알림이 없고 유저도 없으면 404")
+    @Test
+    void findPage_unknownUser_throws() {
+        assertThatThrownBy(() -> notificationReadService.findPage(-1L, NotificationCursor.FIRST, Limit.of(10), false))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("404");
+    }
+
+    private NotificationResponse response(Long id, LocalDateTime createdAt, boolean isRead) {
+        return new NotificationResponse(id, "새 댓글이 등록되었습니다.", "content-" + id, 10L, null, 2L,
+                NotificationType.COMMENT, createdAt, isRead);
+    }
+}
@@ -1,14 +1,28 @@
 package com.playus.userservice.domain.notification.service;
 
+import com.playus.userservice.domain.notification.dto.request.NotificationCursor;
+import com.playus.userservice.domain.notification.dto.response.NotificationBatchResponse;
+import com.playus.userservice.domain.notification.dto.response.NotificationPageResponse;
 import com.playus.userservice.domain.notification.dto.response.NotificationResponse;
-import com.playus.userservice.domain.notification.repository.EmitterRepository;
+import com.playus.userservice.domain.notification.dto.response.ReadCountResponse;
+import com.playus.userservice.domain.notification.event.NotificationCreatedEvent;
+import com.playus.userservice.domain.notification.event.RecentNotificationsChangedEvent;
+import com.playus.userservice.domain.notification.event.UnreadCountChangedEvent;
+import com.playus.userservice.domain.notification.repository.CachedEvent;
+import com.playus.userservice.domain.notification.repository.EncodedPayload;
+import com.playus.userservice.domain.notification.repository.EventCacheRepository;
+import com.playus.userservice.domain.notification.repository.SseConnection;
 import com.playus.userservice.domain.user.entity.Notification;
+import com.playus.userservice.domain.user.entity.NotificationContent;
 import com.playus.userservice.domain.user.entity.User;
 import com.playus.userservice.domain.user.enums.*;
 import com.playus.userservice.domain.user.feign.response.CommentNotificationEvent;
 import com.playus.userservice.domain.user.feign.response.PartyNotificationEvent;
+import com.playus.userservice.domain.user.feign.response.PartyNotificationFanoutEvent;
+import com.playus.userservice.domain.user.repository.write.NotificationContentRepository;
 import com.playus.userservice.domain.user.repository.write.NotificationRepository;
 import com.playus.userservice.domain.user.repository.write.UserRepository;
+import com.playus.userservice.global.exception.RetryLaterException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,14 +31,21 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -35,7 +56,19 @@ class NotificationServiceTest {
 
     @Mock private UserRepository          userRepository;
     @Mock private NotificationRepository  notificationRepository;
-    @Mock private EmitterRepository       emitterRepository;
+    @Mock private NotificationContentRepository notificationContentRepository;
+    @Mock private EventCacheRepository    eventCacheRepository;
+    @Mock private NotificationDispatcher  notificationDispatcher;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private SseHeartbeat            sseHeartbeat;
+    @Mock private UnreadCountService      unreadCountService;
+    @Mock private NotificationCleaner     notificationCleaner;
+    @Mock private NotificationCoalescer   notificationCoalescer;
+    @Mock private NotificationOutboxService notificationOutboxService;
+    @Mock private SseAdmissionController  sseAdmissionController;
+    @Mock private RecentNotificationService recentNotificationService;
+    @Mock private NotificationReadService notificationReadService;
+    @Mock private NotificationProjector   notificationProjector;
 
     @InjectMocks
     private NotificationService notificationService;
@@ -60,20 +93,67 @@ class NotificationServiceTest {
     @DisplayName("SSE 구독: 신규 emitter 생성 후 반환")
     void subscribe_createsAndReturnsEmitter() {
         // given
-        SseEmitter emitter = new SseEmitter();
-        given(emitterRepository.save(anyString(), any(SseEmitter.class))).willReturn(emitter);
+        stubConnection();
 
         // when
         SseEmitter result = notificationService.subscribe(1L, "");
 
         // then
-        assertThat(result).isSameAs(emitter);
-        then(emitterRepository).should()
-                .save(argThat(id -> id.startsWith("1_")), any(SseEmitter.class));
+        assertThat(result).isNotNull();
+        then(notificationDispatcher).should().evictOldest(1L, 0, Duration.ofMinutes(5));
+        then(notificationDispatcher).should()
+                .connect(eq(1L), argThat(id -> id.startsWith("1_")), same(result));
+        // 더미 이벤트는 연결 대기열로
+        then(sseHeartbeat).should()
+                .register(argThat(c -> c.getEmitter() == result && c.queueSize() == 1));
     }
 
     @Test
-    @DisplayName("댓글 알림: 활성화된 이벤트면 저장 · dispatch")
+    @DisplayName("SSE 구독: 수락 제어에서 거절되면 emitter 를 만들지 않고 503")
+    void subscribe_rejectedByAdmission_throws() {
+        // given
+        willThrow(new RetryLaterException("SSE 연결 수가 한도에 도달했습니다.", 7))
+                .given(sseAdmissionController).admit(1L);
+
+        // when & then
+        assertThatThrownBy(() -> notificationService.subscribe(1L, ""))
+                .isInstanceOf(RetryLaterException.class);
+        then(notificationDispatcher).shouldHaveNoInteractions();
+        then(sseHeartbeat).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("SSE 재연결: Last-Event-ID 이후 캐시 이벤트만 조회")
+    void subscribe_withLastEventId_replaysFromCache() {
+        // given
+        stubConnection();
+        CachedEvent missed = new CachedEvent(101L, 0L, EncodedPayload.wrap("\"missed\"".getBytes(StandardCharsets.UTF_8)));
+        given(eventCacheRepository.findAllByUserIdAfter(1L, 100L))
+                .willReturn(List.of(missed));
+        given(notificationDispatcher.toSseEvent(missed)).willReturn(SseEmitter.event().id("101"));
+
+        // when
+        notificationService.subscribe(1L, "100");
+
+        // then
+        then(notificationDispatcher).should().toSseEvent(missed);
+    }
+
+    @Test
+    @DisplayName("SSE 재연결: 숫자가 아닌 Last-Event-ID 는 재전송하지 않음")
+    void subscribe_withLegacyLastEventId_skipsReplay() {
+        // given
+        stubConnection();
+
+        // when
+        notificationService.subscribe(1L, "1_1715151515151");
+
+        // then
+        then(eventCacheRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("댓글 알림: 활성화된 이벤트면 저장 · 이벤트 발행")
     void sendCommentNotification_success() {
         // given
         CommentNotificationEvent event = CommentNotificationEvent.of(
@@ -84,16 +164,33 @@ class NotificationServiceTest {
                 .willReturn(Optional.of(dummyUser));
         given(notificationRepository.save(any(Notification.class)))
                 .willAnswer(inv -> inv.getArgument(0));
-        given(emitterRepository.findAllEmitterStartWithByUserId("1"))
-                .willReturn(Map.of("1_123", new SseEmitter()));
 
         // when
         notificationService.sendCommentNotification(event);
 
         // then
         then(notificationRepository).should().save(any(Notification.class));
-        then(emitterRepository).should()
-                .saveEventCache(eq("1_123"), any(Notification.class));
+        then(eventPublisher).should().publishEvent(any(NotificationCreatedEvent.class));
+        then(notificationDispatcher).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("댓글 알림: 열린 묶음 window 에 합쳐지면 새 알림을 만들지 않음")
+    void sendCommentNotification_coalesced_skipsInsert() {
+        // given
+        CommentNotificationEvent event = CommentNotificationEvent.of(42L, 99L, 2L, 1L, "또 댓글", true);
+        given(notificationCoalescer.mergeIfOpen(
+                new NotificationCoalescer.Key(1L, NotificationType.COMMENT, 99L), "또 댓글", 2L))
+                .willReturn(true);
+
+        // when
+        notificationService.sendCommentNotification(event);
+
+        // then - 합쳐진 알림의 제목이 바뀌므로 최근 알림 캐시만 삭제
+        then(userRepository).shouldHaveNoInteractions();
+        then(notificationRepository).shouldHaveNoInteractions();
+        then(eventPublisher).should().publishEvent(RecentNotificationsChangedEvent.evict(1L));
+        then(eventPublisher).shouldHaveNoMoreInteractions();
     }
 
     @Test
@@ -108,7 +205,7 @@ class NotificationServiceTest {
 
         // then
         then(notificationRepository).shouldHaveNoInteractions();
-        then(emitterRepository).shouldHaveNoInteractions();
+        then(notificationDispatcher).shouldHaveNoInteractions();
     }
 
     @Test
@@ -145,59 +242,182 @@ class NotificationServiceTest {
         notificationService.readNotification(1L, 7L);
 
         assertThat(n.isRead()).isTrue();
+        then(eventPublisher).should().publishEvent(UnreadCountChangedEvent.decreased(1L, 1));
+        then(eventPublisher).should().publishEvent(RecentNotificationsChangedEvent.read(1L, Set.of(7L)));
     }
 
     @Test
-    @DisplayName("전체 조회: 유저가 없으면 404")
+    @DisplayName("읽음 처리: 이미 읽은 알림이면 카운터 변경 없음")
+    void readNotification_alreadyRead_noCounterChange() {
+        Notification n = Notification.create(dummyUser, "title", "content",
+                null, null, null, NotificationType.COMMENT);
+        n.markAsRead();
+        given(notificationRepository.findById(7L)).willReturn(Optional.of(n));
+
+        notificationService.readNotification(1L, 7L);
+
+        then(eventPublisher).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("여러 건 읽음 처리: UPDATE 한 번, 변경된 수만큼 카운터 감소")
+    void readNotifications_bulkUpdate_publishesDecrease() {
+        // given
+        given(notificationRepository.markAsReadByIds(eq(1L), eq(Set.of(3L, 4L, 5L)), any(LocalDateTime.class)))
+                .willReturn(2);
+
+        // when
+        ReadCountResponse result = notificationService.readNotifications(1L, List.of(3L, 4L, 5L, 3L));
+
+        // then
+        assertThat(result.updated()).isEqualTo(2);
+        then(notificationRepository).should(never()).findById(any());
+        then(eventPublisher).should().publishEvent(UnreadCountChangedEvent.decreased(1L, 2));
+    }
+
+    @Test
+    @DisplayName("전체 읽음 처리: 변경된 알림이 없으면 이벤트 발행 안 함")
+    void readAllNotifications_nothingUnread_noEvent() {
+        // given
+        given(notificationRepository.markAllAsRead(eq(1L), any(LocalDateTime.class))).willReturn(0);
+
+        // when
+        ReadCountResponse result = notificationService.readAllNotifications(1L);
+
+        // then
+        assertThat(result.updated()).isZero();
+        then(eventPublisher).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("목록 조회: 유저가 없으면 404")
     void getNotifications_userNotFound_throws() {
-        given(userRepository.findById(2L)).willReturn(Optional.empty());
+        given(notificationReadService.findPage(eq(2L), eq(NotificationCursor.FIRST), any(), eq(false)))
+                .willThrow(new ResponseStatusException(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다."));
 
-        assertThatThrownBy(() -> notificationService.getNotifications(2L))
+        assertThatThrownBy(() -> notificationService.getNotifications(2L, null, 20, false))
                 .isInstanceOf(ResponseStatusException.class)
                 .hasMessageContaining("404");
     }
 
     @Test
-    @DisplayName("전체 조회: 정상 호출")
-    void getNotifications_success() {
-        Notification n = Notification.create(dummyUser, "t", "c",
-                null, null, null, NotificationType.COMMENT);
-        given(userRepository.findById(1L)).willReturn(Optional.of(dummyUser));
-        given(notificationRepository.findAllByReceiver(dummyUser))
-                .willReturn(List.of(n));
+    @DisplayName("목록 조회: size+1 건 조회 후 다음 커서 반환")
+    void getNotifications_hasNext_returnsCursorOfLastItem() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 6, 1, 12, 30, 0);
+        NotificationResponse n1 = new NotificationResponse(30L, "t1", "a", null, null, null, NotificationType.COMMENT, createdAt.plusMinutes(1), false);
+        NotificationResponse n2 = new NotificationResponse(20L, "t2", "b", null, null, null, NotificationType.COMMENT, createdAt, false);
+        NotificationResponse n3 = new NotificationResponse(10L, "t3", "c", null, null, null, NotificationType.COMMENT, createdAt.minusMinutes(1), false);
+
+        given(notificationReadService.findPage(
+                eq(1L), eq(NotificationCursor.FIRST), argThat(limit -> limit.max() == 3), eq(false)))
+                .willReturn(List.of(n1, n2, n3));
+
+        // when
+        NotificationPageResponse page = notificationService.getNotifications(1L, null, 2, false);
+
+        // then
+        assertThat(page.notifications()).extracting(NotificationResponse::title).containsExactly("t1", "t2");
+        assertThat(page.hasNext()).isTrue();
+        assertThat(NotificationCursor.parse(page.nextCursor())).isEqualTo(new NotificationCursor(createdAt, 20L));
+    }
+
+    @Test
+    @DisplayName("목록 조회: unreadOnly 면 안 읽은 알림 쿼리, 페이지 크기는 상한으로 제한")
+    void getNotifications_unreadOnly_capsPageSize() {
+        // given
+        NotificationCursor cursor = new NotificationCursor(LocalDateTime.of(2025, 6, 1, 12, 30, 0, 123_456_000), 7L);
+        given(notificationReadService.findPage(
+                eq(1L), eq(cursor), argThat(limit -> limit.max() == 51), eq(true)))
+                .willReturn(List.of());
 
-        List<NotificationResponse> list = notificationService.getNotifications(1L);
+        // when
+        NotificationPageResponse page = notificationService.getNotifications(1L, cursor.encode(), 1000, true);
+
+        // then
+        assertThat(page.notifications()).isEmpty();
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+    }
 
-        assertThat(list).containsExactly(NotificationResponse.from(n));
+    @Test
+    @DisplayName("목록 조회: 잘못된 커서면 400")
+    void getNotifications_invalidCursor_throws() {
+        assertThatThrownBy(() -> notificationService.getNotifications(1L, "not-a-cursor", 20, false))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("400");
     }
 
     @Test
-    @DisplayName("최근 3건 조회: 최대 3개 반환")
+    @DisplayName("목록 조회: 다음 커서는 밀리초까지만 - MySQL 의 마이크로초 시각도 읽기 모델과 같은 커서")
+    void getNotifications_cursorTruncatedToMillis() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 6, 1, 12, 30, 0, 123_456_000);
+        NotificationResponse n1 = new NotificationResponse(30L, "t1", "a", null, null, null, NotificationType.COMMENT, createdAt.plusMinutes(1), false);
+        NotificationResponse n2 = new NotificationResponse(20L, "t2", "b", null, null, null, NotificationType.COMMENT, createdAt, false);
+        given(notificationReadService.findPage(eq(1L), eq(NotificationCursor.FIRST), any(), eq(false)))
+                .willReturn(List.of(n1, n2));
+
+        // when
+        NotificationPageResponse page = notificationService.getNotifications(1L, null, 1, false);
+
+        // then
+        assertThat(page.nextCursor()).isEqualTo("2025-06-01T12:31:00.123_30");
+        assertThat(NotificationCursor.parse(page.nextCursor()).createdAtMillisEnd())
+                .isEqualTo(LocalDateTime.of(2025, 6, 1, 12, 31, 0, 124_000_000));
+    }
+
+    @Test
+    @DisplayName("안 읽은 개수: 카운터 결과 반환")
+    void getUnreadCount_success() {
+        given(unreadCountService.getCount(1L)).willReturn(3L);
+
+        assertThat(notificationService.getUnreadCount(1L).count()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("최근 3건 조회: 최근 알림 캐시 결과 반환")
     void getRecentNotifications_success() {
-        List<Notification> four = List.of(
-                Notification.create(dummyUser, "t1", "a", null, null, null, NotificationType.COMMENT),
-                Notification.create(dummyUser, "t2", "b", null, null, null, NotificationType.COMMENT),
-                Notification.create(dummyUser, "t3", "c", null, null, null, NotificationType.COMMENT),
-                Notification.create(dummyUser, "t4", "d", null, null, null, NotificationType.COMMENT)
-        );
-        given(userRepository.findById(1L)).willReturn(Optional.of(dummyUser));
-        given(notificationRepository.findTop3ByReceiverOrderByCreatedAtDesc(dummyUser))
-                .willReturn(four.subList(0, 3));
+        NotificationResponse recent = NotificationResponse.from(
+                Notification.create(dummyUser, "t1", "a", null, null, null, NotificationType.COMMENT));
+        given(recentNotificationService.getRecent(1L)).willReturn(List.of(recent));
 
         List<NotificationResponse> list = notificationService.getRecentNotifications(1L);
 
-        assertThat(list).hasSize(3);
+        assertThat(list).containsExactly(recent);
+        then(notificationRepository).shouldHaveNoInteractions();
     }
 
     @Test
-    @DisplayName("댓글 ID 삭제: repository 호출")
+    @DisplayName("댓글 ID 삭제: 청크 삭제 후 영향받은 유저 카운터 초기화")
     void deleteByCommentId_success() {
+        given(notificationRepository.findUnreadReceiverIdsByCommentId(55L)).willReturn(List.of(1L, 2L));
+        given(notificationRepository.findReceiverIdsByCommentId(55L)).willReturn(List.of(1L, 2L, 3L));
+
         notificationService.deleteByCommentId(55L);
-        then(notificationRepository).should().deleteAllByCommentId(55L);
+        then(notificationCleaner).should().deleteAllByCommentId(55L);
+        then(notificationProjector).should().deleteAllByCommentId(55L);
+        then(eventPublisher).should().publishEvent(UnreadCountChangedEvent.reset(1L));
+        then(eventPublisher).should().publishEvent(UnreadCountChangedEvent.reset(2L));
+        // 이미 읽은 알림만 지워진 유저도 최근 알림 캐시는 삭제
+        then(eventPublisher).should().publishEvent(RecentNotificationsChangedEvent.evict(3L));
+    }
+
+    @Test
+    @DisplayName("유저 알림 전체 삭제: 연결 종료 · 청크 삭제 · 카운터 초기화")
+    void delete_success() {
+        given(userRepository.existsById(1L)).willReturn(true);
+
+        notificationService.delete(1L);
+
+        then(notificationDispatcher).should().disconnectAll(1L);
+        then(notificationCleaner).should().deleteAllByReceiverId(1L);
+        then(notificationProjector).should().deleteAllByReceiverId(1L);
+        then(eventPublisher).should().publishEvent(UnreadCountChangedEvent.reset(1L));
     }
 
     @Test
-    @DisplayName("파티 알림: 신청 요청 저장 · dispatch")
+    @DisplayName("파티 알림: 신청 요청 저장 · 이벤트 발행")
     void createPartyNotification_request_success() {
         // given
         PartyNotificationEvent event = PartyNotificationEvent.request(
@@ -212,8 +432,6 @@ class NotificationServiceTest {
         given(userRepository.findById(dummyUser.getId())).willReturn(Optional.of(dummyUser));
         given(notificationRepository.save(any(Notification.class)))
                 .willAnswer(inv -> inv.getArgument(0));
-        given(emitterRepository.findAllEmitterStartWithByUserId("1"))
-                .willReturn(Map.of("1_456", new SseEmitter()));
 
         // when
         notificationService.createPartyNotification(event);
@@ -227,6 +445,128 @@ class NotificationServiceTest {
         assertThat(saved.getTitle()).contains("새 참가 요청이 도착했습니다");
         assertThat(saved.getContent()).contains("-");
 
-        then(emitterRepository).should().saveEventCache(eq("1_456"), any(Notification.class));
+        ArgumentCaptor<NotificationCreatedEvent> eventCaptor = ArgumentCaptor.forClass(NotificationCreatedEvent.class);
+        then(eventPublisher).should().publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().receiverId()).isEqualTo(1L);
+        then(notificationDispatcher).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("댓글 알림 배치: 수신자 일괄 조회 · 배치 저장 · 항목별 결과 반환")
+    void sendCommentNotifications_returnsPerItemResults() {
+        // given
+        List<CommentNotificationEvent> events = List.of(
+                CommentNotificationEvent.of(1L, 99L, 2L, 1L, "a", true),
+                CommentNotificationEvent.of(2L, 99L, 2L, 1L, "b", false),
+                CommentNotificationEvent.of(3L, 99L, 2L, 404L, "c", true),
+                CommentNotificationEvent.of(4L, 99L, 2L, 1L, "d", true)
+        );
+        given(userRepository.findAllById(anyIterable())).willReturn(List.of(dummyUser));
+        given(notificationRepository.batchInsert(anyList(), any())).willReturn(List.of(10L, 11L));
+        given(notificationOutboxService.append(anyMap())).willReturn(Map.of(1L, 7L));
+
+        // when
+        NotificationBatchResponse result = notificationService.sendCommentNotifications(events);
+
+        // then
+        assertThat(result.requested()).isEqualTo(4);
+        assertThat(result.created()).isEqualTo(2);
+        assertThat(result.results()).extracting(NotificationBatchResponse.Item::status).containsExactly(
+                NotificationBatchResponse.Status.CREATED,
+                NotificationBatchResponse.Status.SKIPPED,
+                NotificationBatchResponse.Status.RECEIVER_NOT_FOUND,
+                NotificationBatchResponse.Status.CREATED);
+        assertThat(result.results()).extracting(NotificationBatchResponse.Item::notificationId)
+                .containsExactly(10L, null, null, 11L);
+
+        // 같은 수신자의 알림은 이벤트 하나로 묶어 발행
+        ArgumentCaptor<NotificationCreatedEvent> eventCaptor = ArgumentCaptor.forClass(NotificationCreatedEvent.class);
+        then(eventPublisher).should().publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().notifications()).extracting(NotificationResponse::id)
+                .containsExactly(10L, 11L);
+        assertThat(eventCaptor.getValue().outboxId()).isEqualTo(7L);
+        then(notificationRepository).should(never()).save(any(Notification.class));
+    }
+
+    @Test
+    @DisplayName("알림 배치: 최대 건수 초과 시 400")
+    void createPartyNotifications_overMaxBatchSize_throws() {
+        // given
+        List<PartyNotificationEvent> events = Collections.nCopies(501,
+                PartyNotificationEvent.joined(300L, "직관팟", 1L, 99L));
+
+        // when & then
+        assertThatThrownBy(() -> notificationService.createPartyNotifications(events))
+                .isInstanceOf(ResponseStatusException.class);
+        then(notificationRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("직관팟 fan-out: 본문은 한 번 저장, 수신자 행은 본문만 참조해 배치 저장")
+    @SuppressWarnings("unchecked")
+    void fanoutPartyNotification_storesContentOnceAndBatchInsertsRecipients() {
+        // given
+        User other = User.create("other@example.com", "010-1111-1111", LocalDate.of(2000, 1, 1),
+                Gender.FEMALE, Role.USER, AuthProvider.KAKAO, "http://thumb");
+        ReflectionTestUtils.setField(other, "id", 2L);
+        PartyNotificationFanoutEvent event = PartyNotificationFanoutEvent.joined(
+                300L, "직관팟", 99L, List.of(1L, 2L, 1L, 404L));
+
+        given(userRepository.findAllById(anyIterable())).willReturn(List.of(dummyUser, other));
+        given(notificationContentRepository.save(any(NotificationContent.class))).willAnswer(invocation -> {
+            NotificationContent content = invocation.getArgument(0);
+            ReflectionTestUtils.setField(content, "id", 500L);
+            return content;
+        });
+        given(notificationRepository.batchInsert(anyList(), any())).willReturn(List.of(10L, 11L));
+        given(notificationOutboxService.append(anyMap())).willReturn(Map.of(1L, 7L, 2L, 8L));
+
+        // when
+        NotificationBatchResponse result = notificationService.fanoutPartyNotification(event);
+
+        // then
+        assertThat(result.results()).extracting(NotificationBatchResponse.Item::status).containsExactly(
+                NotificationBatchResponse.Status.CREATED,
+                NotificationBatchResponse.Status.CREATED,
+                NotificationBatchResponse.Status.SKIPPED,
+                NotificationBatchResponse.Status.RECEIVER_NOT_FOUND);
+        then(notificationContentRepository).should(times(1)).save(any(NotificationContent.class));
+
+        ArgumentCaptor<List<Notification>> rowsCaptor = ArgumentCaptor.forClass(List.class);
+        then(notificationRepository).should().batchInsert(rowsCaptor.capture(), any());
+        assertThat(rowsCaptor.getValue()).hasSize(2).allSatisfy(n -> {
+            assertThat(n.getSharedContent().getId()).isEqualTo(500L);
+            assertThat(n.getPartyId()).isEqualTo(300L);
+            assertThat(n.getTitle()).isEqualTo("새로운 참가자가 입장했습니다.");
+            assertThat(n.getContent()).contains("직관팟");
+            // 행 자체에는 NOT NULL 컬럼에 맞춰 빈 문자열만 저장
+            assertThat(ReflectionTestUtils.getField(n, "title")).isEqualTo("");
+            assertThat(ReflectionTestUtils.getField(n, "content")).isEqualTo("");
+        });
+
+        // 수신자마다 이벤트 하나씩 (SSE 전송은 커밋 후)
+        then(eventPublisher).should(times(2)).publishEvent(any(NotificationCreatedEvent.class));
+        then(notificationDispatcher).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("직관팟 fan-out: 수신자 목록이 비어 있으면 400")
+    void fanoutPartyNotification_emptyReceivers_throws() {
+        // given
+        PartyNotificationFanoutEvent event = PartyNotificationFanoutEvent.joined(300L, "직관팟", 99L, List.of());
+
+        // when & then
+        assertThatThrownBy(() -> notificationService.fanoutPartyNotification(event))
+                .isInstanceOf(ResponseStatusException.class);
+        then(notificationContentRepository).shouldHaveNoInteractions();
+    }
+
+    /** 실행하지 않는 writer → 구독 시 보낸 이벤트가 대기열에 남음 */
+    private void stubConnection() {
+        given(sseAdmissionController.maxPerUser()).willReturn(1);
+        given(sseAdmissionController.evictedRetry()).willReturn(Duration.ofMinutes(5));
+        given(notificationDispatcher.connect(eq(1L), anyString(), any(SseEmitter.class)))
+                .willAnswer(inv -> new SseConnection(1L, inv.getArgument(1), inv.getArgument(2), 64,
+                        SseConnection.OverflowPolicy.DROP_OLDEST, task -> {}, (c, reason) -> {}));
     }
 }
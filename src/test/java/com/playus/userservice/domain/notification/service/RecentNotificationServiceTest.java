@@ -0,0 +1,146 @@
+package com.playus.userservice.domain.notification.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.playus.userservice.domain.notification.dto.response.NotificationResponse;
+import com.playus.userservice.domain.notification.repository.RecentNotificationRepository;
+import com.playus.userservice.domain.user.enums.NotificationType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RecentNotificationServiceTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 5, 1, 12, 30);
+
+    @Mock private RecentNotificationRepository recentNotificationRepository;
+    @Mock private NotificationReadService      notificationReadService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private SimpleMeterRegistry registry;
+    private RecentNotificationService recentNotificationService;
+
+    @BeforeEach
+    void setup() {
+        registry = new SimpleMeterRegistry();
+        recentNotificationService = new RecentNotificationService(
+                recentNotificationRepository, notificationReadService, objectMapper, registry);
+    }
+
+    @Test
+    @DisplayName("최근 알림 조회: 캐시가 있으면 저장소 조회 없이 반환")
+    void getRecent_cached_returnsWithoutDb() throws Exception {
+        // given
+        given(recentNotificationRepository.findByUserId(1L))
+                .willReturn(List.of(objectMapper.writeValueAsString(response(10L, false))));
+
+        // when
+        List<NotificationResponse> result = recentNotificationService.getRecent(1L);
+
+        // then
+        assertThat(result).extracting(NotificationResponse::id).containsExactly(10L);
+        then(notificationReadService).shouldHaveNoInteractions();
+        assertThat(registry.counter("notification.recent.cache.requests", "result", "hit").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("최근 알림 조회: 캐시가 없으면 읽기 모델 조회 후 최신순으로 저장")
+    void getRecent_miss_loadsFromReadModelAndSaves() {
+        // given
+        NotificationResponse n = new NotificationResponse(10L, "t1", "a", null, null, null,
+                NotificationType.COMMENT, CREATED_AT, false);
+        given(recentNotificationRepository.findByUserId(1L)).willReturn(null);
+        given(notificationReadService.findRecent(1L)).willReturn(List.of(n));
+
+        // when
+        List<NotificationResponse> result = recentNotificationService.getRecent(1L);
+
+        // then
+        assertThat(result).extracting(NotificationResponse::title).containsExactly("t1");
+        then(recentNotificationRepository).should()
+                .saveIfUnchanged(eq(1L), argThat(values -> values.size() == 1 && values.get(0).contains("t1")));
+        assertThat(registry.counter("notification.recent.cache.requests", "result", "miss").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("최근 알림 조회: Redis 장애 시 읽기 모델로 대체하고 캐시는 건드리지 않음")
+    void getRecent_redisDown_fallsBackToReadModel() {
+        // given
+        given(recentNotificationRepository.findByUserId(1L)).willThrow(new RedisConnectionFailureException("down"));
+        given(notificationReadService.findRecent(1L)).willReturn(List.of());
+
+        // when
+        List<NotificationResponse> result = recentNotificationService.getRecent(1L);
+
+        // then
+        assertThat(result).isEmpty();
+        then(recentNotificationRepository).should(never()).saveIfUnchanged(anyLong(), anyList());
+        assertThat(registry.counter("notification.recent.cache.requests", "result", "error").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("읽음 반영: 캐시된 항목 중 대상만 읽음으로 교체")
+    void markRead_replacesOnlyTargetEntries() throws Exception {
+        // given
+        String first = objectMapper.writeValueAsString(response(11L, false));
+        String second = objectMapper.writeValueAsString(response(10L, false));
+        given(recentNotificationRepository.findByUserId(1L)).willReturn(List.of(first, second));
+        given(recentNotificationRepository.replaceIfUnchanged(eq(1L), anyList())).willReturn(1);
+
+        // when
+        recentNotificationService.markRead(1L, Set.of(10L));
+
+        // then
+        then(recentNotificationRepository).should().replaceIfUnchanged(eq(1L), argThat(replacements ->
+                replacements.size() == 1
+                        && replacements.get(0).index() == 1
+                        && replacements.get(0).expected().equals(second)
+                        && replacements.get(0).value().contains("\"isRead\":true")));
+        then(recentNotificationRepository).should(never()).evict(anyLong());
+    }
+
+    @Test
+    @DisplayName("읽음 반영: 그 사이 목록이 바뀌어 교체하지 못하면 캐시 삭제")
+    void markAllRead_conflict_evicts() throws Exception {
+        // given
+        given(recentNotificationRepository.findByUserId(1L))
+                .willReturn(List.of(objectMapper.writeValueAsString(response(10L, false))));
+        given(recentNotificationRepository.replaceIfUnchanged(eq(1L), anyList())).willReturn(0);
+
+        // when
+        recentNotificationService.markAllRead(1L);
+
+        // then
+        then(recentNotificationRepository).should().evict(1L);
+    }
+
+    @Test
+    @DisplayName("알림 생성: 오래된 순으로 넘겨 캐시 앞에 추가")
+    void push_appendsInCreationOrder() {
+        // when
+        recentNotificationService.push(1L, List.of(response(10L, false), response(11L, false)));
+
+        // then
+        then(recentNotificationRepository).should().pushIfPresent(eq(1L), argThat(values ->
+                values.size() == 2 && values.get(0).contains("\"id\":10") && values.get(1).contains("\"id\":11")),
+                eq(RecentNotificationService.CAPACITY));
+    }
+
+    private NotificationResponse response(Long id, boolean isRead) {
+        return new NotificationResponse(id, "새 댓글이 등록되었습니다.", "content", 1L, null, 2L,
+                NotificationType.COMMENT, CREATED_AT, isRead);
+    }
+}
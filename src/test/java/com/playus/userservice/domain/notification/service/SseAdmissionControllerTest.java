@@ -0,0 +1,93 @@
+package com.playus.userservice.domain.notification.service;
+
+import com.playus.userservice.domain.notification.repository.EmitterRepository;
+import com.playus.userservice.domain.notification.repository.SseConnection;
+import com.playus.userservice.global.exception.RetryLaterException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SseAdmissionControllerTest {
+
+    @Mock private EmitterRepository emitterRepository;
+    @Mock private SseConnection     existing;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("수락 제어: 파드 연결 한도 도달 시 503 + 지터가 더해진 Retry-After")
+    void admit_podLimitReached_rejectsWithRetryAfter() {
+        // given
+        SseAdmissionController admission = admission(2, 100);
+        given(emitterRepository.findAllEmitterByUserId(1L)).willReturn(Map.of());
+        given(emitterRepository.count()).willReturn(2);
+
+        // when & then
+        assertThatThrownBy(() -> admission.admit(1L))
+                .isInstanceOfSatisfying(RetryLaterException.class, e -> {
+                    assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+                    long retryAfter = Long.parseLong(e.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+                    assertThat(retryAfter).isBetween(5L, 15L);
+                });
+        assertThat(registry.get("notification.sse.admission.rejected").tag("reason", "pod-limit").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("수락 제어: 한도에 걸려 있어도 같은 유저의 재연결은 기존 연결 자리로 수락")
+    void admit_podLimitReached_reconnectReplacesOwnConnection() {
+        // given
+        SseAdmissionController admission = admission(2, 100);
+        given(emitterRepository.findAllEmitterByUserId(1L)).willReturn(Map.of("1_1", existing));
+        given(emitterRepository.count()).willReturn(2);
+
+        // when & then
+        assertThatCode(() -> admission.admit(1L)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("수락 제어: 초당 신규 연결 한도를 넘으면 503")
+    void admit_rateLimitExceeded_rejects() {
+        // given
+        SseAdmissionController admission = admission(100, 1);
+        given(emitterRepository.findAllEmitterByUserId(anyLong())).willReturn(Map.of());
+
+        // when
+        admission.admit(1L);
+
+        // then
+        assertThatThrownBy(() -> admission.admit(2L)).isInstanceOf(RetryLaterException.class);
+        assertThat(registry.get("notification.sse.admission.rejected").tag("reason", "rate-limit").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("수락 제어: 종료 drain 이 시작되면 모든 신규 연결 거절")
+    void admit_afterStopAccepting_rejects() {
+        // given
+        SseAdmissionController admission = admission(100, 100);
+        admission.stopAccepting();
+
+        // when & then
+        assertThatThrownBy(() -> admission.admit(1L)).isInstanceOf(RetryLaterException.class);
+        assertThat(registry.get("notification.sse.admission.rejected").tag("reason", "draining").counter().count())
+                .isEqualTo(1);
+    }
+
+    private SseAdmissionController admission(int maxConnections, int maxNewPerSecond) {
+        return new SseAdmissionController(emitterRepository, registry, maxConnections, 1, Duration.ofMinutes(5),
+                maxNewPerSecond, Duration.ofSeconds(5), Duration.ofSeconds(10));
+    }
+}
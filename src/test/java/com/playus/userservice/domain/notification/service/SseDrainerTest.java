@@ -0,0 +1,74 @@
+package com.playus.userservice.domain.notification.service;
+
+import com.playus.userservice.domain.notification.repository.EmitterRepository;
+import com.playus.userservice.domain.notification.repository.SseConnection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+class SseDrainerTest {
+
+    @Mock private EmitterRepository      emitterRepository;
+    @Mock private SseAdmissionController sseAdmissionController;
+
+    @Test
+    @DisplayName("종료 drain: 신규 연결을 막고 retry 전송 후 모든 연결 종료")
+    void drain_sendsRetryThenCompletes() throws IOException {
+        // given
+        List<SseEmitter> emitters = new ArrayList<>();
+        List<SseConnection> connections = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            SseEmitter emitter = mock(SseEmitter.class);
+            emitters.add(emitter);
+            connections.add(new SseConnection(1L, "1_" + i, emitter, 8,
+                    SseConnection.OverflowPolicy.DROP_OLDEST, Runnable::run, (c, reason) -> {}));
+        }
+        given(emitterRepository.findAll()).willReturn(connections);
+        SseDrainer drainer = new SseDrainer(emitterRepository, sseAdmissionController,
+                Duration.ofSeconds(30), 2, Duration.ZERO);
+
+        // when
+        int drained = drainer.drain();
+
+        // then
+        assertThat(drained).isEqualTo(3);
+        then(sseAdmissionController).should().stopAccepting();
+        for (SseEmitter emitter : emitters) {
+            var order = inOrder(emitter);
+            order.verify(emitter).send(any(SseEmitter.SseEventBuilder.class));
+            order.verify(emitter).complete();
+        }
+        assertThat(connections).allMatch(SseConnection::isClosed);
+    }
+
+    @Test
+    @DisplayName("종료 drain: 연결이 없어도 신규 연결은 막음")
+    void drain_noConnections_stopsAccepting() {
+        // given
+        given(emitterRepository.findAll()).willReturn(new ArrayList<>());
+        SseDrainer drainer = new SseDrainer(emitterRepository, sseAdmissionController,
+                Duration.ofSeconds(30), 5, Duration.ZERO);
+
+        // when
+        int drained = drainer.drain();
+
+        // then
+        assertThat(drained).isZero();
+        then(sseAdmissionController).should().stopAccepting();
+    }
+}
@@ -0,0 +1,192 @@
+package com.playus.userservice.domain.notification.service;
+
+import com.playus.userservice.domain.notification.repository.EmitterRepository;
+import com.playus.userservice.domain.notification.repository.SseConnection;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SseHeartbeatTest {
+
+    @Mock private EmitterRepository emitterRepository;
+    @Mock private SseEmitter        emitter;
+
+    private SimpleMeterRegistry registry;
+    private SseConnectionFactory connectionFactory;
+    private SseHeartbeat heartbeat;
+
+    @BeforeEach
+    void setup() {
+        registry = new SimpleMeterRegistry();
+        // 버킷 1개 → tick 한 번에 모든 연결 처리
+        connectionFactory = new SseConnectionFactory(Runnable::run, Runnable::run, registry, 8,
+                SseConnection.OverflowPolicy.DROP_OLDEST, Duration.ofMillis(10));
+        heartbeat = new SseHeartbeat(emitterRepository, connectionFactory, registry,
+                Duration.ofSeconds(30), 1);
+    }
+
+    @Test
+    @DisplayName("하트비트: 살아있는 연결의 대기열로 ping 전송 후 유지")
+    void tick_aliveConnection_pingsAndKeeps() throws IOException {
+        // given
+        SseConnection connection = connection();
+        heartbeat.register(connection);
+        given(emitterRepository.findAllEmitterByUserId(1L)).willReturn(Map.of("1_1", connection));
+
+        // when
+        heartbeat.tick();
+
+        // then
+        then(emitter).should().send(any(SseEmitter.SseEventBuilder.class));
+        assertThat(heartbeat.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("하트비트: ping 쓰기에 실패한 연결은 제거하고 카운트")
+    void tick_failedConnection_reaped() throws IOException {
+        // given
+        SseConnection connection = connection();
+        heartbeat.register(connection);
+        given(emitterRepository.findAllEmitterByUserId(1L)).willReturn(Map.of("1_1", connection));
+        willThrow(new IOException("broken pipe")).given(emitter).send(any(SseEmitter.SseEventBuilder.class));
+
+        // when
+        heartbeat.tick();
+
+        // then
+        assertThat(heartbeat.size()).isZero();
+        assertThat(registry.get("notification.sse.reaped").tag("reason", "failed").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("하트비트: 저장소에서 빠진 연결은 ping 없이 정리")
+    void tick_detachedEmitter_reapedWithoutPing() throws IOException {
+        // given
+        heartbeat.register(connection());
+        given(emitterRepository.findAllEmitterByUserId(1L)).willReturn(Map.of());
+
+        // when
+        heartbeat.tick();
+
+        // then
+        then(emitter).should(never()).send(any(SseEmitter.SseEventBuilder.class));
+        then(emitter).should().complete();
+        assertThat(heartbeat.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("쓰기 timeout: 한 번의 쓰기가 write-timeout 을 넘기면 버킷 차례를 기다리지 않고 연결을 끊음")
+    void tick_stalledWrite_abortsConnection() throws Exception {
+        // given
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<SseConnection> closed = new CopyOnWriteArrayList<>();
+        SseConnection connection = connectionFactory.create(1L, "1_1", emitter, closed::add);
+        heartbeat.register(connection);
+        willAnswer(invocation -> {
+            writing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).given(emitter).send(any(SseEmitter.SseEventBuilder.class));
+        Thread writer = new Thread(() -> connection.enqueue(SseEmitter.event().data("a")));
+        writer.start();
+        writing.await(5, TimeUnit.SECONDS);
+        Thread.sleep(50);
+
+        // when
+        heartbeat.tick();
+        release.countDown();
+        writer.join(5000);
+
+        // then
+        assertThat(connection.isClosed()).isTrue();
+        assertThat(closed).containsExactly(connection);
+        assertThat(heartbeat.size()).isZero();
+        assertThat(connection.enqueue(SseEmitter.event().data("b"))).isFalse();
+        assertThat(registry.get("notification.sse.reaped").tag("reason", "stalled").counter().count())
+                .isEqualTo(1);
+        assertThat(registry.get("notification.sse.write.timeout").counter().count()).isEqualTo(1);
+        then(emitter).should().complete();
+    }
+
+    @Test
+    @DisplayName("쓰기 timeout: emitter 락을 쥔 채 막힌 send 가 있어도 tick 은 complete 를 기다리지 않고 바로 반환")
+    void tick_stalledWrite_doesNotBlockOnComplete() throws Exception {
+        // given - send 가 emitter 락을 쥔 채 멈추고, complete 도 같은 락을 기다리는 실제 emitter 와 같은 상황
+        Object emitterLock = new Object();
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch completed = new CountDownLatch(1);
+        SseEmitter blocking = new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) {
+                synchronized (emitterLock) {
+                    writing.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+
+            @Override
+            public void complete() {
+                synchronized (emitterLock) {
+                    completed.countDown();
+                }
+            }
+        };
+        ExecutorService closer = Executors.newSingleThreadExecutor();
+        SseConnectionFactory factory = new SseConnectionFactory(Runnable::run, closer, registry, 8,
+                SseConnection.OverflowPolicy.DROP_OLDEST, Duration.ofMillis(10));
+        SseHeartbeat stalledHeartbeat = new SseHeartbeat(emitterRepository, factory, registry, Duration.ofSeconds(30), 1);
+        SseConnection connection = factory.create(1L, "1_1", blocking, c -> {});
+        stalledHeartbeat.register(connection);
+        Thread writer = new Thread(() -> connection.enqueue(SseEmitter.event().data("a")));
+        writer.start();
+        writing.await(5, TimeUnit.SECONDS);
+        Thread.sleep(50);
+
+        try {
+            // when & then
+            assertTimeoutPreemptively(Duration.ofSeconds(1), stalledHeartbeat::tick);
+            assertThat(connection.isClosed()).isTrue();
+            assertThat(completed.getCount()).isEqualTo(1);
+
+            release.countDown();
+            assertThat(completed.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            release.countDown();
+            writer.join(5000);
+            closer.shutdownNow();
+        }
+    }
+
+    private SseConnection connection() {
+        return new SseConnection(1L, "1_1", emitter, 8,
+                SseConnection.OverflowPolicy.DROP_OLDEST, Runnable::run, (c, reason) -> {});
+    }
+}
@@ -0,0 +1,75 @@
+package com.playus.userservice.domain.notification.service;
+
+import com.playus.userservice.domain.notification.repository.UnreadCountRepository;
+import com.playus.userservice.domain.user.repository.write.NotificationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UnreadCountServiceTest {
+
+    @Mock private UnreadCountRepository  unreadCountRepository;
+    @Mock private NotificationRepository notificationRepository;
+    @Mock private NotificationReadService notificationReadService;
+
+    @InjectMocks
+    private UnreadCountService unreadCountService;
+
+    @Test
+    @DisplayName("개수 조회: 카운터가 있으면 저장소 조회 없이 반환")
+    void getCount_cached_returnsWithoutDb() {
+        given(unreadCountRepository.findByUserId(1L)).willReturn(4L);
+
+        assertThat(unreadCountService.getCount(1L)).isEqualTo(4L);
+        then(notificationRepository).shouldHaveNoInteractions();
+        then(notificationReadService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("개수 조회: 카운터가 없으면 읽기 모델 COUNT 후 저장")
+    void getCount_miss_loadsFromReadModelAndSaves() {
+        given(unreadCountRepository.findByUserId(1L)).willReturn(null);
+        given(notificationReadService.countUnread(1L)).willReturn(2L);
+
+        assertThat(unreadCountService.getCount(1L)).isEqualTo(2L);
+        then(unreadCountRepository).should().save(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("개수 조회: Redis 장애 시 읽기 모델 COUNT 로 대체")
+    void getCount_redisDown_fallsBackToReadModel() {
+        given(unreadCountRepository.findByUserId(1L)).willThrow(new RedisConnectionFailureException("down"));
+        given(notificationReadService.countUnread(1L)).willReturn(5L);
+
+        assertThat(unreadCountService.getCount(1L)).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("보정: Redis 장애 중 변경된 유저도 복구 후 DB 기준으로 덮어씀")
+    void reconcile_afterRedisFailure_repairsPendingUser() {
+        // given
+        willThrow(new RedisConnectionFailureException("down"))
+                .given(unreadCountRepository).incrementIfPresent(1L, 1L);
+        unreadCountService.increase(1L, 1L);
+
+        given(unreadCountRepository.popDirty(anyInt())).willReturn(List.of(1L), List.of());
+        given(notificationRepository.countUnreadByReceiverId(1L)).willReturn(7L);
+
+        // when
+        unreadCountService.reconcile();
+
+        // then
+        then(unreadCountRepository).should().markDirty(1L);
+        then(unreadCountRepository).should().save(1L, 7L);
+    }
+}
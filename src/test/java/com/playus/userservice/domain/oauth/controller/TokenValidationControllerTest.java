@@ -0,0 +1,74 @@
+package com.playus.userservice.domain.oauth.controller;
+
+import com.playus.userservice.ControllerTestSupport;
+import com.playus.userservice.global.request.TokenBatchValidationRequest;
+import com.playus.userservice.global.response.TokenBatchValidationResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(TokenValidationController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class TokenValidationControllerTest extends ControllerTestSupport {
+
+    @Test
+    @DisplayName("일괄 조회: 결과를 요청 순서대로 반환")
+    void checkBlacklistBatch_ShouldReturnResultsInOrder() throws Exception {
+        // given
+        TokenBatchValidationRequest request = new TokenBatchValidationRequest(List.of("a", "b"));
+        given(tokenValidationService.checkAll(List.of("a", "b"))).willReturn(new TokenBatchValidationResponse(List.of(
+                new TokenBatchValidationResponse.Result(true, false),
+                TokenBatchValidationResponse.Result.invalid())));
+
+        // when & then
+        mockMvc.perform(post("/user/api/token/blacklist-check/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].valid").value(true))
+                .andExpect(jsonPath("$.results[0].blacklisted").value(false))
+                .andExpect(jsonPath("$.results[1].valid").value(false))
+                .andExpect(jsonPath("$.results[1].blacklisted").value(true));
+    }
+
+    @Test
+    @DisplayName("일괄 조회: 100개를 넘으면 400, 서비스 호출 없음")
+    void checkBlacklistBatch_OverMaxSize_ShouldReturnBadRequest() throws Exception {
+        // given
+        TokenBatchValidationRequest request = new TokenBatchValidationRequest(Collections.nCopies(101, "token"));
+
+        // when & then
+        mockMvc.perform(post("/user/api/token/blacklist-check/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+
+        then(tokenValidationService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("일괄 조회: 빈 목록은 400")
+    void checkBlacklistBatch_Empty_ShouldReturnBadRequest() throws Exception {
+        // given
+        TokenBatchValidationRequest request = new TokenBatchValidationRequest(List.of());
+
+        // when & then
+        mockMvc.perform(post("/user/api/token/blacklist-check/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+
+        then(tokenValidationService).shouldHaveNoInteractions();
+    }
+}
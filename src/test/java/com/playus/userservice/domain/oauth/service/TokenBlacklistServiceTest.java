@@ -0,0 +1,166 @@
+package com.playus.userservice.domain.oauth.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenBlacklistServiceTest {
+
+    @Mock private RedisTemplate<String, String> redisTemplate;
+    @Mock private ValueOperations<String, String> valueOperations;
+    @Mock private ZSetOperations<String, String> zSetOperations;
+
+    @Test
+    @DisplayName("조회: 동기화 후에는 Redis 를 거치지 않고 로컬 사본으로 판단")
+    void isBlacklisted_synced_usesLocalCopyOnly() {
+        // given
+        TokenBlacklistService service = service(TokenBlacklistService.FailurePolicy.CLOSED);
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(zSetOperations.rangeByScoreWithScores(eq("blacklist:index"), anyDouble(), anyDouble()))
+                .willReturn(Set.of(new DefaultTypedTuple<>("jti-1", (double) expiresAt)));
+        service.markSubscribed();
+        service.synchronize();
+
+        // when
+        boolean blacklisted = service.isBlacklisted("jti-1");
+        boolean other = service.isBlacklisted("jti-2");
+
+        // then
+        assertThat(blacklisted).isTrue();
+        assertThat(other).isFalse();
+        then(redisTemplate).should(never()).hasKey(anyString());
+    }
+
+    @Test
+    @DisplayName("동기화: 채널 구독이 확인되기 전에는 색인을 읽어도 Redis 직접 조회 유지")
+    void synchronize_beforeSubscribed_staysUnsynced() {
+        // given
+        TokenBlacklistService service = service(TokenBlacklistService.FailurePolicy.CLOSED);
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+
+        // when
+        service.synchronize();
+        service.isBlacklisted("jti-1");
+
+        // then
+        then(redisTemplate).should().hasKey("blacklist:jti-1");
+    }
+
+    @Test
+    @DisplayName("동기화: 직전 확인 메시지가 돌아오지 않으면 Redis 직접 조회, 돌아오면 다시 로컬 사본")
+    void synchronize_probeLost_unsyncsUntilEchoed() {
+        // given
+        TokenBlacklistService service = service(TokenBlacklistService.FailurePolicy.CLOSED);
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        service.markSubscribed();
+        service.synchronize();
+        // 재연결로 구독이 조용히 끊겨 확인 메시지가 돌아오지 않은 채 시간이 지남
+        ReflectionTestUtils.setField(service, "probeSentAt", System.currentTimeMillis() - 10_000);
+
+        // when
+        service.synchronize();
+        service.isBlacklisted("jti-1");
+        ArgumentCaptor<String> probe = ArgumentCaptor.forClass(String.class);
+        then(redisTemplate).should(times(2)).convertAndSend(eq(TokenBlacklistService.CHANNEL), probe.capture());
+        service.onBlacklisted(probe.getValue());
+        service.synchronize();
+        service.isBlacklisted("jti-2");
+
+        // then
+        then(redisTemplate).should().hasKey("blacklist:jti-1");
+        then(redisTemplate).should(never()).hasKey("blacklist:jti-2");
+        assertThat(service.isBlacklisted(probe.getValue())).isFalse();
+    }
+
+    @Test
+    @DisplayName("조회: 동기화 전 Redis 장애면 정책에 따라 차단 / 통과")
+    void isBlacklisted_unsyncedRedisDown_appliesPolicy() {
+        // given
+        given(redisTemplate.hasKey("blacklist:jti-1")).willThrow(new RedisConnectionFailureException("down"));
+
+        // when / then
+        assertThat(service(TokenBlacklistService.FailurePolicy.CLOSED).isBlacklisted("jti-1")).isTrue();
+        assertThat(service(TokenBlacklistService.FailurePolicy.OPEN).isBlacklisted("jti-1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("등록: Redis 키 + 색인 저장 후 채널로 전파, 다른 파드는 메시지로 반영")
+    void blacklist_storesAndBroadcasts() {
+        // given
+        TokenBlacklistService service = service(TokenBlacklistService.FailurePolicy.CLOSED);
+        TokenBlacklistService otherPod = service(TokenBlacklistService.FailurePolicy.OPEN);
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+
+        // when
+        service.blacklist("jti-1", expiresAt);
+        otherPod.onBlacklisted("jti-1|" + expiresAt);
+
+        // then
+        then(valueOperations).should().set(eq("blacklist:jti-1"), eq(""), any(Duration.class));
+        then(zSetOperations).should().add("blacklist:index", "jti-1", expiresAt);
+        then(redisTemplate).should().convertAndSend(TokenBlacklistService.CHANNEL, "jti-1|" + expiresAt);
+        assertThat(service.isBlacklisted("jti-1")).isTrue();
+        assertThat(otherPod.isBlacklisted("jti-1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("일괄 조회: 동기화 전에는 로컬 사본에 없는 jti 만 MGET 한 번, 결과는 요청 순서대로")
+    void areBlacklisted_unsynced_multiGetsUnresolvedOnce() {
+        // given
+        TokenBlacklistService service = service(TokenBlacklistService.FailurePolicy.CLOSED);
+        service.onBlacklisted("jti-1|" + (System.currentTimeMillis() + 60_000));
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.multiGet(List.of("blacklist:jti-2", "blacklist:jti-3")))
+                .willReturn(Arrays.asList(null, ""));
+
+        // when
+        List<Boolean> results = service.areBlacklisted(List.of("jti-1", "jti-2", "jti-3"));
+
+        // then
+        assertThat(results).containsExactly(true, false, true);
+        then(valueOperations).should(times(1)).multiGet(anyCollection());
+    }
+
+    @Test
+    @DisplayName("일괄 조회: Redis 장애면 판단하지 못한 jti 에만 정책 적용")
+    void areBlacklisted_redisDown_appliesPolicyToUnresolved() {
+        // given
+        TokenBlacklistService service = service(TokenBlacklistService.FailurePolicy.OPEN);
+        service.onBlacklisted("jti-1|" + (System.currentTimeMillis() + 60_000));
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.multiGet(anyCollection())).willThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        List<Boolean> results = service.areBlacklisted(List.of("jti-1", "jti-2"));
+
+        // then
+        assertThat(results).containsExactly(true, false);
+    }
+
+    private TokenBlacklistService service(TokenBlacklistService.FailurePolicy policy) {
+        return new TokenBlacklistService(redisTemplate, new SimpleMeterRegistry(), policy);
+    }
+}
@@ -0,0 +1,127 @@
+package com.playus.userservice.domain.oauth.service;
+
+import com.playus.userservice.global.jwt.JwtKeys;
+import com.playus.userservice.global.jwt.JwtUtil;
+import com.playus.userservice.global.jwt.VerifiedTokenCache;
+import com.playus.userservice.global.response.TokenBatchValidationResponse;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenValidationServiceTest {
+
+    private static final String SECRET =
+            Encoders.BASE64.encode(Keys.secretKeyFor(SignatureAlgorithm.HS256).getEncoded());
+
+    @Mock private TokenBlacklistService tokenBlacklistService;
+
+    private JwtKeys keys;
+    private JwtUtil jwtUtil;
+    private VerifiedTokenCache verifiedTokenCache;
+    private TokenValidationService service;
+
+    @BeforeEach
+    void setUp() {
+        keys = JwtKeys.hmac(SECRET);
+        jwtUtil = new JwtUtil(keys);
+        verifiedTokenCache = new VerifiedTokenCache(new SimpleMeterRegistry(), 100);
+        service = new TokenValidationService(jwtUtil, tokenBlacklistService, verifiedTokenCache);
+    }
+
+    @Test
+    @DisplayName("일괄 조회: 유효 / 만료 / 변조 / 블랙리스트가 섞여도 결과는 요청 순서대로")
+    void checkAll_mixedTokens_keepsRequestOrder() {
+        // given
+        String valid = jwtUtil.createAccessToken("1024", "USER", 20, "MALE");
+        String expired = expiredToken();
+        String tampered = tamper(jwtUtil.createAccessToken("1025", "USER", 20, "MALE"));
+        String blacklisted = jwtUtil.createAccessToken("1026", "USER", 20, "MALE");
+        String validJti = jwtUtil.parse(valid).jti();
+        String blacklistedJti = jwtUtil.parse(blacklisted).jti();
+        given(tokenBlacklistService.areBlacklisted(List.of(blacklistedJti, validJti)))
+                .willReturn(List.of(true, false));
+
+        // when
+        TokenBatchValidationResponse response =
+                service.checkAll(List.of(blacklisted, expired, valid, tampered));
+
+        // then - 무효 토큰은 단건 API 와 같이 blacklisted = true
+        assertThat(response.results()).containsExactly(
+                new TokenBatchValidationResponse.Result(true, true),
+                TokenBatchValidationResponse.Result.invalid(),
+                new TokenBatchValidationResponse.Result(true, false),
+                TokenBatchValidationResponse.Result.invalid());
+        then(tokenBlacklistService).should().areBlacklisted(List.of(blacklistedJti, validJti));
+    }
+
+    @Test
+    @DisplayName("일괄 조회: 이미 검증한 토큰은 캐시의 jti 사용, 빈 토큰은 무효")
+    void checkAll_cachedAndBlankTokens() {
+        // given
+        String cached = jwtUtil.createAccessToken("1024", "USER", 20, "MALE");
+        VerifiedTokenCache.VerifiedToken verified = verifiedTokenCache.put(cached, jwtUtil.parse(cached));
+        given(tokenBlacklistService.areBlacklisted(List.of(verified.jti()))).willReturn(List.of(false));
+
+        // when
+        TokenBatchValidationResponse response = service.checkAll(Arrays.asList(" ", cached, null));
+
+        // then
+        assertThat(response.results()).containsExactly(
+                TokenBatchValidationResponse.Result.invalid(),
+                new TokenBatchValidationResponse.Result(true, false),
+                TokenBatchValidationResponse.Result.invalid());
+    }
+
+    @Test
+    @DisplayName("일괄 조회: 모두 무효면 블랙리스트는 빈 목록으로만 조회")
+    void checkAll_allInvalid_noJtisLookedUp() {
+        // given
+        given(tokenBlacklistService.areBlacklisted(anyList())).willReturn(List.of());
+
+        // when
+        TokenBatchValidationResponse response = service.checkAll(List.of(expiredToken(), "not-a-jwt"));
+
+        // then
+        assertThat(response.results()).containsExactly(
+                TokenBatchValidationResponse.Result.invalid(),
+                TokenBatchValidationResponse.Result.invalid());
+        then(tokenBlacklistService).should().areBlacklisted(List.of());
+    }
+
+    private String expiredToken() {
+        return Jwts.builder()
+                .signWith(keys.signingKey())
+                .setId(UUID.randomUUID().toString())
+                .setSubject("1024")
+                .claim("role", "USER")
+                .claim("type", "access")
+                .setIssuedAt(new Date(System.currentTimeMillis() - 120_000))
+                .setExpiration(new Date(System.currentTimeMillis() - 60_000))
+                .compact();
+    }
+
+    /** 다른 토큰의 payload 로 바꿔치기 - 서명이 맞지 않음 */
+    private String tamper(String token) {
+        String[] parts = token.split("\\.");
+        String forged = jwtUtil.createAccessToken("1", "ADMIN", 20, "MALE").split("\\.")[1];
+        return parts[0] + "." + forged + "." + parts[2];
+    }
+}
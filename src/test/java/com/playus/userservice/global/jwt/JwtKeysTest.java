@@ -0,0 +1,132 @@
+package com.playus.userservice.global.jwt;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtKeysTest {
+
+    private static final String SECRET =
+            Encoders.BASE64.encode(Keys.secretKeyFor(SignatureAlgorithm.HS256).getEncoded());
+
+    @Test
+    @DisplayName("HMAC 모드: 기존처럼 공유 비밀키로 서명 / 검증, JWKS 는 빈 목록")
+    void hmac_signsAndVerifiesWithSecret() {
+        // given
+        JwtUtil jwtUtil = new JwtUtil(JwtKeys.hmac(SECRET));
+
+        // when
+        JwtClaims claims = jwtUtil.parse(jwtUtil.createAccessToken("1024", "USER", 20, "MALE"));
+
+        // then
+        assertThat(claims.userId()).isEqualTo("1024");
+        assertThat(claims.isAccessToken()).isTrue();
+        assertThat(keys(JwtKeys.hmac(SECRET))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("RS256: 헤더에 kid 를 기록하고, JWKS 에 같은 kid 의 RSA 공개키 배포")
+    void rs256_signsWithKidAndPublishesJwk() {
+        // given
+        KeyPair pair = Keys.keyPairFor(SignatureAlgorithm.RS256);
+        JwtKeys jwtKeys = asymmetric(SignatureAlgorithm.RS256, "2026-10", pair, "", "");
+        JwtUtil jwtUtil = new JwtUtil(jwtKeys);
+
+        // when
+        String token = jwtUtil.createAccessToken("1024", "USER", 20, "MALE");
+
+        // then
+        assertThat(jwtUtil.parse(token).userId()).isEqualTo("1024");
+        assertThat(header(token)).contains("\"kid\":\"2026-10\"").contains("\"alg\":\"RS256\"");
+        assertThat(keys(jwtKeys)).singleElement()
+                .satisfies(jwk -> {
+                    assertThat(jwk).containsEntry("kty", "RSA").containsEntry("kid", "2026-10")
+                            .containsEntry("alg", "RS256").containsEntry("e", "AQAB");
+                    assertThat(jwk).containsKey("n");
+                });
+    }
+
+    @Test
+    @DisplayName("ES256: P-256 좌표를 32바이트 고정 길이로 배포")
+    void es256_publishesFixedLengthCoordinates() {
+        // given
+        KeyPair pair = Keys.keyPairFor(SignatureAlgorithm.ES256);
+        JwtKeys jwtKeys = asymmetric(SignatureAlgorithm.ES256, "ec-1", pair, "", "");
+        JwtUtil jwtUtil = new JwtUtil(jwtKeys);
+
+        // when
+        JwtClaims claims = jwtUtil.parse(jwtUtil.createRefreshToken("1024", "USER"));
+
+        // then
+        assertThat(claims.type()).isEqualTo("refresh");
+        Map<String, Object> jwk = keys(jwtKeys).get(0);
+        assertThat(jwk).containsEntry("kty", "EC").containsEntry("crv", "P-256");
+        assertThat((String) jwk.get("x")).hasSize(43);
+        assertThat((String) jwk.get("y")).hasSize(43);
+    }
+
+    @Test
+    @DisplayName("키 교체: 퇴역 키로 서명한 토큰은 verification-keys 에 남아 있는 동안 검증")
+    void rotation_acceptsRetiredKeyUntilRemoved() {
+        // given
+        KeyPair retired = Keys.keyPairFor(SignatureAlgorithm.RS256);
+        KeyPair current = Keys.keyPairFor(SignatureAlgorithm.RS256);
+        String oldToken = new JwtUtil(asymmetric(SignatureAlgorithm.RS256, "old", retired, "", ""))
+                .createAccessToken("1024", "USER", 20, "MALE");
+        String retiredKey = "old=" + Encoders.BASE64.encode(retired.getPublic().getEncoded());
+
+        // when
+        JwtKeys rotated = asymmetric(SignatureAlgorithm.RS256, "new", current, "", retiredKey);
+        JwtKeys removed = asymmetric(SignatureAlgorithm.RS256, "new", current, "", "");
+
+        // then
+        assertThat(new JwtUtil(rotated).parse(oldToken).userId()).isEqualTo("1024");
+        assertThat(keys(rotated)).extracting(jwk -> jwk.get("kid")).containsExactly("new", "old");
+        assertThatThrownBy(() -> new JwtUtil(removed).parse(oldToken))
+                .isInstanceOf(UnsupportedJwtException.class);
+    }
+
+    @Test
+    @DisplayName("전환 기간: secret 이 있으면 기존 HMAC 토큰 허용, 제거하면 거부")
+    void migration_acceptsHmacOnlyWhileSecretConfigured() {
+        // given
+        String hmacToken = new JwtUtil(JwtKeys.hmac(SECRET)).createAccessToken("1024", "USER", 20, "MALE");
+        KeyPair pair = Keys.keyPairFor(SignatureAlgorithm.RS256);
+
+        // when
+        JwtUtil migrating = new JwtUtil(asymmetric(SignatureAlgorithm.RS256, "k1", pair, SECRET, ""));
+        JwtUtil migrated = new JwtUtil(asymmetric(SignatureAlgorithm.RS256, "k1", pair, "", ""));
+
+        // then
+        assertThat(migrating.parse(hmacToken).userId()).isEqualTo("1024");
+        assertThatThrownBy(() -> migrated.parse(hmacToken)).isInstanceOf(UnsupportedJwtException.class);
+    }
+
+    private static JwtKeys asymmetric(SignatureAlgorithm algorithm, String kid, KeyPair pair,
+                                      String secret, String verificationKeys) {
+        return new JwtKeys(algorithm, secret, kid,
+                Encoders.BASE64.encode(pair.getPrivate().getEncoded()),
+                Encoders.BASE64.encode(pair.getPublic().getEncoded()),
+                verificationKeys);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> keys(JwtKeys jwtKeys) {
+        return (List<Map<String, Object>>) jwtKeys.jwks().get("keys");
+    }
+
+    private static String header(String token) {
+        return new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))));
+    }
+}
@@ -0,0 +1,65 @@
+package com.playus.userservice.global.jwt;
+
+import com.playus.userservice.domain.user.enums.Gender;
+import com.playus.userservice.domain.user.enums.Role;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+    private static final String TOKEN = "header.payload.signature";
+
+    private SimpleMeterRegistry registry;
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void setup() {
+        registry = new SimpleMeterRegistry();
+        verifiedTokenCache = new VerifiedTokenCache(registry, 100);
+    }
+
+    @Test
+    @DisplayName("캐시 적중: 검증했던 토큰이면 같은 주체 반환, 적중 수 집계")
+    void get_afterPut_returnsPrincipal() {
+        // given
+        verifiedTokenCache.put(TOKEN, claims(System.currentTimeMillis() + 60_000));
+
+        // when
+        VerifiedTokenCache.VerifiedToken verified = verifiedTokenCache.get(TOKEN);
+
+        // then
+        assertThat(verified).isNotNull();
+        assertThat(verified.jti()).isEqualTo("jti-1");
+        assertThat(verified.user().getId()).isEqualTo(1024L);
+        assertThat(verified.user().getRole()).isEqualTo(Role.USER);
+        assertThat(verified.user().getGender()).isEqualTo(Gender.MALE);
+        assertThat(registry.get("cache.gets").tag("cache", "jwt.verified-token").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("캐시 미스: 다른 토큰 / 만료된 토큰 / 블랙리스트로 제거된 토큰은 반환하지 않음")
+    void get_otherExpiredOrInvalidated_returnsNull() {
+        // given
+        verifiedTokenCache.put(TOKEN, claims(System.currentTimeMillis() + 60_000));
+        verifiedTokenCache.put("expired.payload.signature", claims(System.currentTimeMillis() - 1));
+
+        // when
+        VerifiedTokenCache.VerifiedToken other = verifiedTokenCache.get("other.payload.signature");
+        VerifiedTokenCache.VerifiedToken expired = verifiedTokenCache.get("expired.payload.signature");
+        verifiedTokenCache.invalidate(TOKEN);
+
+        // then
+        assertThat(other).isNull();
+        assertThat(expired).isNull();
+        assertThat(verifiedTokenCache.get(TOKEN)).isNull();
+    }
+
+    private JwtClaims claims(long expiresAt) {
+        return new JwtClaims("jti-1", "1024", "USER", 20, "MALE", "access", expiresAt);
+    }
+}